@@ -0,0 +1,54 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util;
+
+
+
+import org.openjdk.jmh.profile.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+
+
+/**
+ * Main class of the benchmarks jar: runs JMH with the command line given,
+ * always adding the GC profiler so that the bytes allocated per operation
+ * ({@code gc.alloc.rate.norm}) are reported alongside the time. Any JMH
+ * option may still be given, such as a benchmark pattern or {@code -prof}
+ * for further profilers.
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class Benchmarks {
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private Benchmarks() {}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	public static void main(String[] theArguments)
+			throws Exception {
+		CommandLineOptions options = new CommandLineOptions(theArguments);
+		if (options.shouldHelp() ||
+			options.shouldList() ||
+			options.shouldListWithParams() ||
+			options.shouldListProfilers() ||
+			options.shouldListResultFormats()) {
+			org.openjdk.jmh.Main.main(theArguments);
+			return;
+		}
+		new Runner(new OptionsBuilder().parent(options)
+									   .addProfiler(GCProfiler.class)
+									   .build()).run();
+	}
+}
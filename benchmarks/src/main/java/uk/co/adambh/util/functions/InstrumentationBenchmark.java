@@ -0,0 +1,81 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import uk.co.adambh.util.functions.MethodReferences.FunctionWithException;
+
+
+
+/**
+ * <p>Measures the overhead, in nanoseconds per call, of a function decorated
+ * by {@link Instrumentation#instrumented(String, FunctionWithException)}
+ * against the same function undecorated, with instrumentation on and with it
+ * switched off by system property, in which case the two should not
+ * differ.</p>
+ *
+ * <p>Run with {@code -t} greater than one to see the cost under contention
+ * on a single call site.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationBenchmark {
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private FunctionWithException<String, Integer> myPlain;
+	private FunctionWithException<String, Integer> myInstrumented;
+	private String myValue = "12345";
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	@Setup
+	public void setUp() {
+		this.myPlain = String::length;
+		this.myInstrumented = Instrumentation.instrumented("benchmark",
+														   this.myPlain);
+	}
+
+
+	@Benchmark
+	public Integer plain()
+			throws Exception {
+		return this.myPlain.apply(this.myValue);
+	}
+
+
+	@Benchmark
+	public Integer instrumented()
+			throws Exception {
+		return this.myInstrumented.apply(this.myValue);
+	}
+
+
+	@Benchmark
+	@Fork(value = 1,
+		  jvmArgsAppend = "-Duk.co.adambh.util.functions.instrumentation=false")
+	public Integer instrumentedSwitchedOff()
+			throws Exception {
+		return this.myInstrumented.apply(this.myValue);
+	}
+}
@@ -0,0 +1,415 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import org.openjdk.jmh.annotations.*;
+
+
+
+/**
+ * <p>Compares each {@link MethodReferences#unchecked} overload, with and
+ * without an exception function, against a hand written lambda which catches
+ * the checked exception itself, as each would be used in a stream.</p>
+ *
+ * <p>Every benchmark calls a method throwing a checked exception once for each
+ * of {@value #SIZE} elements, of which the given fraction fail: none (the
+ * success path), one in a thousand (rare failures) or one in ten (frequent
+ * failures). Each failure is caught per element so the stream runs to the
+ * end. Scores are per element; run with the GC profiler, as the benchmarks
+ * jar does by default, to see the bytes allocated per element.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(MethodReferencesBenchmark.SIZE)
+public class MethodReferencesBenchmark {
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	static final int SIZE = 10000;
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	@Param({"0", "0.001", "0.1"})
+	private double myFailureRate;
+
+	@Param({"false", "true"})
+	private boolean myParallel;
+
+	private int[] myInputs;
+
+	private Function<Integer, Integer> myPlainFunction;
+	private Function<Integer, Integer> myUncheckedFunction;
+	private Function<Integer, Integer> myMappedFunction;
+	private BiFunction<Integer, Integer, Integer> myPlainBiFunction;
+	private BiFunction<Integer, Integer, Integer> myUncheckedBiFunction;
+	private BiFunction<Integer, Integer, Integer> myMappedBiFunction;
+	private Predicate<Integer> myPlainPredicate;
+	private Predicate<Integer> myUncheckedPredicate;
+	private Predicate<Integer> myMappedPredicate;
+	private BiPredicate<Integer, Integer> myPlainBiPredicate;
+	private BiPredicate<Integer, Integer> myUncheckedBiPredicate;
+	private BiPredicate<Integer, Integer> myMappedBiPredicate;
+	private Consumer<Integer> myPlainConsumer;
+	private Consumer<Integer> myUncheckedConsumer;
+	private Consumer<Integer> myMappedConsumer;
+	private BiConsumer<Integer, Integer> myPlainBiConsumer;
+	private BiConsumer<Integer, Integer> myUncheckedBiConsumer;
+	private BiConsumer<Integer, Integer> myMappedBiConsumer;
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		this.myInputs = new int[SIZE];
+		for (int i = 0; i<SIZE; i++) {
+			this.myInputs[i] = random.nextDouble()<this.myFailureRate ? -i : i;
+		}
+
+		this.myPlainFunction = (theValue) -> {
+			try {
+				return work(theValue);
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+		this.myUncheckedFunction = MethodReferences.unchecked(
+										MethodReferencesBenchmark::work);
+		this.myMappedFunction = MethodReferences.unchecked(
+										MethodReferencesBenchmark::work,
+										IllegalStateException::new);
+
+		this.myPlainBiFunction = (theFirstValue, theSecondValue) -> {
+			try {
+				return work(theFirstValue) + theSecondValue;
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+		this.myUncheckedBiFunction = MethodReferences.unchecked(
+				(Integer theFirstValue, Integer theSecondValue) ->
+									work(theFirstValue) + theSecondValue);
+		this.myMappedBiFunction = MethodReferences.unchecked(
+				(Integer theFirstValue, Integer theSecondValue) ->
+									work(theFirstValue) + theSecondValue,
+				IllegalStateException::new);
+
+		this.myPlainPredicate = (theValue) -> {
+			try {
+				return (work(theValue) & 1)==0;
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+		this.myUncheckedPredicate = MethodReferences.unchecked(
+				(Integer theValue) -> (work(theValue) & 1)==0);
+		this.myMappedPredicate = MethodReferences.unchecked(
+				(Integer theValue) -> (work(theValue) & 1)==0,
+				IllegalStateException::new);
+
+		this.myPlainBiPredicate = (theFirstValue, theSecondValue) -> {
+			try {
+				return work(theFirstValue)>theSecondValue;
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+		this.myUncheckedBiPredicate = MethodReferences.unchecked(
+				(Integer theFirstValue, Integer theSecondValue) ->
+									work(theFirstValue)>theSecondValue);
+		this.myMappedBiPredicate = MethodReferences.unchecked(
+				(Integer theFirstValue, Integer theSecondValue) ->
+									work(theFirstValue)>theSecondValue,
+				IllegalStateException::new);
+
+		this.myPlainConsumer = (theValue) -> {
+			try {
+				work(theValue);
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+		this.myUncheckedConsumer = MethodReferences.unchecked(
+				(Integer theValue) -> {
+					work(theValue);
+				});
+		this.myMappedConsumer = MethodReferences.unchecked(
+				(Integer theValue) -> {
+					work(theValue);
+				},
+				IllegalStateException::new);
+
+		this.myPlainBiConsumer = (theFirstValue, theSecondValue) -> {
+			try {
+				work(theFirstValue);
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+		this.myUncheckedBiConsumer = MethodReferences.unchecked(
+				(Integer theFirstValue, Integer theSecondValue) -> {
+					work(theFirstValue);
+				});
+		this.myMappedBiConsumer = MethodReferences.unchecked(
+				(Integer theFirstValue, Integer theSecondValue) -> {
+					work(theFirstValue);
+				},
+				IllegalStateException::new);
+	}
+
+
+	@Benchmark
+	public long plainFunction() {
+		return sum(theValue -> this.myPlainFunction.apply(theValue));
+	}
+
+
+	@Benchmark
+	public long uncheckedFunction() {
+		return sum(theValue -> this.myUncheckedFunction.apply(theValue));
+	}
+
+
+	@Benchmark
+	public long uncheckedFunctionMapped() {
+		return sum(theValue -> this.myMappedFunction.apply(theValue));
+	}
+
+
+	@Benchmark
+	public long plainBiFunction() {
+		return sum(theValue -> this.myPlainBiFunction.apply(theValue, 1));
+	}
+
+
+	@Benchmark
+	public long uncheckedBiFunction() {
+		return sum(theValue -> this.myUncheckedBiFunction.apply(theValue, 1));
+	}
+
+
+	@Benchmark
+	public long uncheckedBiFunctionMapped() {
+		return sum(theValue -> this.myMappedBiFunction.apply(theValue, 1));
+	}
+
+
+	@Benchmark
+	public long plainPredicate() {
+		return sum(theValue -> this.myPlainPredicate.test(theValue) ? 1 : 0);
+	}
+
+
+	@Benchmark
+	public long uncheckedPredicate() {
+		return sum(theValue -> this.myUncheckedPredicate.test(theValue) ? 1 : 0);
+	}
+
+
+	@Benchmark
+	public long uncheckedPredicateMapped() {
+		return sum(theValue -> this.myMappedPredicate.test(theValue) ? 1 : 0);
+	}
+
+
+	@Benchmark
+	public long plainBiPredicate() {
+		return sum(theValue -> this.myPlainBiPredicate.test(theValue, 7) ? 1 : 0);
+	}
+
+
+	@Benchmark
+	public long uncheckedBiPredicate() {
+		return sum(theValue ->
+					this.myUncheckedBiPredicate.test(theValue, 7) ? 1 : 0);
+	}
+
+
+	@Benchmark
+	public long uncheckedBiPredicateMapped() {
+		return sum(theValue -> this.myMappedBiPredicate.test(theValue, 7) ? 1 : 0);
+	}
+
+
+	@Benchmark
+	public long plainConsumer() {
+		return sum(theValue -> {
+			this.myPlainConsumer.accept(theValue);
+			return 1;
+		});
+	}
+
+
+	@Benchmark
+	public long uncheckedConsumer() {
+		return sum(theValue -> {
+			this.myUncheckedConsumer.accept(theValue);
+			return 1;
+		});
+	}
+
+
+	@Benchmark
+	public long uncheckedConsumerMapped() {
+		return sum(theValue -> {
+			this.myMappedConsumer.accept(theValue);
+			return 1;
+		});
+	}
+
+
+	@Benchmark
+	public long plainBiConsumer() {
+		return sum(theValue -> {
+			this.myPlainBiConsumer.accept(theValue, 0);
+			return 1;
+		});
+	}
+
+
+	@Benchmark
+	public long uncheckedBiConsumer() {
+		return sum(theValue -> {
+			this.myUncheckedBiConsumer.accept(theValue, 0);
+			return 1;
+		});
+	}
+
+
+	@Benchmark
+	public long uncheckedBiConsumerMapped() {
+		return sum(theValue -> {
+			this.myMappedBiConsumer.accept(theValue, 0);
+			return 1;
+		});
+	}
+
+
+	/**
+	 * The supplier overloads are measured through
+	 * {@link Stream#generate(Supplier)}, each element drawing an input at
+	 * random.
+	**/
+	@Benchmark
+	public long plainSupplier() {
+		return generate(() -> {
+			try {
+				return work(next());
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+
+	@Benchmark
+	public long uncheckedSupplier() {
+		return generate(MethodReferences.unchecked(
+									() -> work(next())));
+	}
+
+
+	@Benchmark
+	public long uncheckedSupplierMapped() {
+		return generate(MethodReferences.unchecked(
+									() -> work(next()),
+									IllegalStateException::new));
+	}
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+	/**
+	 * Streams the inputs through the operation, catching each failure so the
+	 * stream runs to the end.
+	**/
+	private long sum(ToIntFunction<Integer> theOperation) {
+		IntStream indices = IntStream.range(0, SIZE);
+		if (this.myParallel) {
+			indices = indices.parallel();
+		}
+		return indices.mapToObj(theIndex -> this.myInputs[theIndex])
+					  .mapToLong(theValue -> {
+						  try {
+							  return theOperation.applyAsInt(theValue);
+						  }
+						  catch (RuntimeException re) {
+							  return -1;
+						  }
+					  })
+					  .sum();
+	}
+
+
+	private int next() {
+		return this.myInputs[ThreadLocalRandom.current().nextInt(SIZE)];
+	}
+
+
+	private long generate(Supplier<Integer> theSupplier) {
+		Stream<Integer> stream = Stream.generate(() -> {
+			try {
+				return theSupplier.get();
+			}
+			catch (RuntimeException re) {
+				return -1;
+			}
+		}).limit(SIZE);
+		if (this.myParallel) {
+			stream = stream.parallel();
+		}
+		return stream.mapToLong(Integer::longValue).sum();
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * The method wrapped: a little arithmetic, throwing a new checked
+	 * exception for negative values.
+	**/
+	private static int work(int theValue)
+			throws IOException {
+		if (theValue<0) {
+			throw new IOException("Failed on " + theValue);
+		}
+		return theValue * 31 + 7;
+	}
+}
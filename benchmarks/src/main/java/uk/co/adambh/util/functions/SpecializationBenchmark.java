@@ -0,0 +1,153 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import uk.co.adambh.util.functions.MethodReferences.FunctionWithException;
+
+
+
+/**
+ * <p>Compares {@link MethodReferences#unchecked(FunctionWithException)} with
+ * {@link MethodReferences#specialized(FunctionWithException)} where eight
+ * functions of different classes are wrapped, each called from a call site
+ * of its own, as the functions held by the fields of a larger application
+ * would be.</p>
+ *
+ * <p>Every unchecked wrapper shares one class, so the call to the wrapped
+ * function within it sees all eight classes, becomes megamorphic and is not
+ * inlined. Each specialized wrapper has a class of its own, and its call
+ * stays monomorphic. The direct benchmark calls the eight functions without
+ * a wrapper, as a floor.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecializationBenchmark {
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private Integer myValue = 42;
+
+	private FunctionWithException<Integer, Integer> myDirect0;
+	private FunctionWithException<Integer, Integer> myDirect1;
+	private FunctionWithException<Integer, Integer> myDirect2;
+	private FunctionWithException<Integer, Integer> myDirect3;
+	private FunctionWithException<Integer, Integer> myDirect4;
+	private FunctionWithException<Integer, Integer> myDirect5;
+	private FunctionWithException<Integer, Integer> myDirect6;
+	private FunctionWithException<Integer, Integer> myDirect7;
+
+	private Function<Integer, Integer> myUnchecked0;
+	private Function<Integer, Integer> myUnchecked1;
+	private Function<Integer, Integer> myUnchecked2;
+	private Function<Integer, Integer> myUnchecked3;
+	private Function<Integer, Integer> myUnchecked4;
+	private Function<Integer, Integer> myUnchecked5;
+	private Function<Integer, Integer> myUnchecked6;
+	private Function<Integer, Integer> myUnchecked7;
+
+	private Function<Integer, Integer> mySpecialized0;
+	private Function<Integer, Integer> mySpecialized1;
+	private Function<Integer, Integer> mySpecialized2;
+	private Function<Integer, Integer> mySpecialized3;
+	private Function<Integer, Integer> mySpecialized4;
+	private Function<Integer, Integer> mySpecialized5;
+	private Function<Integer, Integer> mySpecialized6;
+	private Function<Integer, Integer> mySpecialized7;
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	@Setup
+	public void setUp() {
+		this.myDirect0 = theValue -> theValue + 1;
+		this.myDirect1 = theValue -> theValue * 3;
+		this.myDirect2 = theValue -> theValue ^ 0x55;
+		this.myDirect3 = theValue -> theValue - 7;
+		this.myDirect4 = theValue -> theValue << 2;
+		this.myDirect5 = theValue -> theValue >>> 1;
+		this.myDirect6 = theValue -> theValue | 0x100;
+		this.myDirect7 = theValue -> theValue & 0xFFF;
+
+		this.myUnchecked0 = MethodReferences.unchecked(this.myDirect0);
+		this.myUnchecked1 = MethodReferences.unchecked(this.myDirect1);
+		this.myUnchecked2 = MethodReferences.unchecked(this.myDirect2);
+		this.myUnchecked3 = MethodReferences.unchecked(this.myDirect3);
+		this.myUnchecked4 = MethodReferences.unchecked(this.myDirect4);
+		this.myUnchecked5 = MethodReferences.unchecked(this.myDirect5);
+		this.myUnchecked6 = MethodReferences.unchecked(this.myDirect6);
+		this.myUnchecked7 = MethodReferences.unchecked(this.myDirect7);
+
+		this.mySpecialized0 = MethodReferences.specialized(this.myDirect0);
+		this.mySpecialized1 = MethodReferences.specialized(this.myDirect1);
+		this.mySpecialized2 = MethodReferences.specialized(this.myDirect2);
+		this.mySpecialized3 = MethodReferences.specialized(this.myDirect3);
+		this.mySpecialized4 = MethodReferences.specialized(this.myDirect4);
+		this.mySpecialized5 = MethodReferences.specialized(this.myDirect5);
+		this.mySpecialized6 = MethodReferences.specialized(this.myDirect6);
+		this.mySpecialized7 = MethodReferences.specialized(this.myDirect7);
+	}
+
+
+	@Benchmark
+	public int direct()
+			throws Exception {
+		Integer value = this.myValue;
+		return this.myDirect0.apply(value) +
+			   this.myDirect1.apply(value) +
+			   this.myDirect2.apply(value) +
+			   this.myDirect3.apply(value) +
+			   this.myDirect4.apply(value) +
+			   this.myDirect5.apply(value) +
+			   this.myDirect6.apply(value) +
+			   this.myDirect7.apply(value);
+	}
+
+
+	@Benchmark
+	public int unchecked() {
+		Integer value = this.myValue;
+		return this.myUnchecked0.apply(value) +
+			   this.myUnchecked1.apply(value) +
+			   this.myUnchecked2.apply(value) +
+			   this.myUnchecked3.apply(value) +
+			   this.myUnchecked4.apply(value) +
+			   this.myUnchecked5.apply(value) +
+			   this.myUnchecked6.apply(value) +
+			   this.myUnchecked7.apply(value);
+	}
+
+
+	@Benchmark
+	public int specialized() {
+		Integer value = this.myValue;
+		return this.mySpecialized0.apply(value) +
+			   this.mySpecialized1.apply(value) +
+			   this.mySpecialized2.apply(value) +
+			   this.mySpecialized3.apply(value) +
+			   this.mySpecialized4.apply(value) +
+			   this.mySpecialized5.apply(value) +
+			   this.mySpecialized6.apply(value) +
+			   this.mySpecialized7.apply(value);
+	}
+}
@@ -0,0 +1,116 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.io.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.openjdk.jmh.annotations.*;
+
+
+
+/**
+ * <p>Measures the cost of a single failure passing through each of the
+ * {@link MethodReferences} adapters: {@code unchecked}, which wraps in a new
+ * {@link RuntimeException}, {@code uncheckedStackless}, which wraps in a
+ * {@link StacklessRuntimeException}, and {@code sneaky}, which rethrows the
+ * checked exception unchanged.</p>
+ *
+ * <p>The wrapped function throws a preallocated exception so that only the
+ * adapter's cost is measured, and is called beneath a recursion of the given
+ * depth to stand in for a framework's call stack, which is what makes a stack
+ * trace expensive to capture.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UncheckedFailureBenchmark {
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	private static final IOException FAILURE =
+								new FileNotFoundException("missing");
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	@Param({"10", "100"})
+	private int myDepth;
+
+	private Function<String, String> myUnchecked;
+	private Function<String, String> myStackless;
+	private Function<String, String> mySneaky;
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	@Setup
+	public void setUp() {
+		this.myUnchecked = MethodReferences.unchecked(
+										UncheckedFailureBenchmark::fail);
+		this.myStackless = MethodReferences.uncheckedStackless(
+										UncheckedFailureBenchmark::fail);
+		this.mySneaky = MethodReferences.sneaky(
+										UncheckedFailureBenchmark::fail);
+	}
+
+
+	@Benchmark
+	public Object unchecked() {
+		return call(this.myUnchecked, this.myDepth);
+	}
+
+
+	@Benchmark
+	public Object uncheckedStackless() {
+		return call(this.myStackless, this.myDepth);
+	}
+
+
+	@Benchmark
+	public Object sneaky() {
+		return call(this.mySneaky, this.myDepth);
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	private static String fail(String theValue)
+			throws IOException {
+		throw FAILURE;
+	}
+
+
+	private static Object call(Function<String, String> theFunction,
+							   int theDepth) {
+		if (theDepth>0) {
+			return call(theFunction, theDepth - 1);
+		}
+		try {
+			return theFunction.apply("file");
+		}
+		catch (Exception e) {
+			return e;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.unixpermissions;
+
+
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+
+
+/**
+ * <p>Measures the throughput of bulk and asynchronous {@link UnixFiles}
+ * metadata operations with 10,000 operations in flight at once. Scores are
+ * per metadata operation.</p>
+ *
+ * <p>Run under Java 21 or later to measure the virtual thread executor and
+ * under Java 8 to 20 to measure the bounded pool. The benchmarks are forked
+ * with the {@code uk.co.adambh.util.unixpermissions.threads} system property
+ * set to 10,000, which sizes the pool on Java 8 to 20 and the window of
+ * operations the bulk methods keep in flight on Java 21, so that every
+ * operation of an invocation is in flight at once on either. The sequential
+ * benchmark gives a single threaded baseline.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = UnixFilesBulkBenchmark.THREADS)
+public class UnixFilesBulkBenchmark {
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	private static final int IN_FLIGHT = 10000;
+
+	static final String THREADS =
+					"-Duk.co.adambh.util.unixpermissions.threads=" + IN_FLIGHT;
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private Path myDir;
+	private List<Path> myPaths;
+	private Map<Path, Integer> myModes;
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	@Setup
+	public void setUp()
+			throws IOException {
+		this.myDir = Files.createTempDirectory("unix-files-bench");
+		this.myPaths = new ArrayList<>(IN_FLIGHT);
+		this.myModes = new LinkedHashMap<>(IN_FLIGHT * 2);
+		for (int i = 0; i<IN_FLIGHT; i++) {
+			Path path = Files.createFile(this.myDir.resolve("f" + i));
+			this.myPaths.add(path);
+			this.myModes.put(path, (i & 1)==0 ? 0644 : 0640);
+		}
+	}
+
+
+	@TearDown
+	public void tearDown()
+			throws IOException {
+		for (Path aPath: this.myPaths) {
+			Files.delete(aPath);
+		}
+		Files.delete(this.myDir);
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation(IN_FLIGHT)
+	public Map<Path, Integer> bulkGet()
+			throws IOException {
+		return UnixFiles.getUnixModes(this.myPaths);
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation(IN_FLIGHT)
+	public void bulkSet()
+			throws IOException {
+		UnixFiles.setUnixModes(this.myModes);
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation(IN_FLIGHT)
+	public int asyncGet() {
+		List<CompletableFuture<Integer>> futures = new ArrayList<>(IN_FLIGHT);
+		for (Path aPath: this.myPaths) {
+			futures.add(UnixFiles.getUnixModeAsync(aPath));
+		}
+		int result = 0;
+		for (CompletableFuture<Integer> aFuture: futures) {
+			result ^= aFuture.join();
+		}
+		return result;
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation(IN_FLIGHT)
+	public int sequentialGet()
+			throws IOException {
+		int result = 0;
+		for (Path aPath: this.myPaths) {
+			result ^= UnixFiles.getUnixMode(aPath);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,305 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import uk.co.adambh.util.functions.MethodReferences.*;
+
+
+
+/**
+ * <p>Provides a set of utility methods for running functions which throw
+ * checked exceptions as {@link CompletableFuture}s on a chosen executor.</p>
+ *
+ * <p>An exception thrown by the function completes the future exceptionally
+ * with that exception itself, rather than with a wrapper, so that
+ * {@link CompletableFuture#get()} throws an {@link ExecutionException} whose
+ * cause is the original exception. As usual, stages which depend on such a
+ * future see it wrapped in a {@link CompletionException}.</p>
+ *
+ * <p>The two argument adapters are named apart from the one argument ones so
+ * that method references to methods overloaded on arity, such as
+ * {@code Integer::parseInt}, are not ambiguous.</p>
+ *
+ * <p>The fan out methods apply a function to each element of a collection
+ * with no more than a given number of calls running at once.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class AsyncFunctions {
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private AsyncFunctions() {}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns a future completed with the result of calling the supplier on
+	 * the executor, or with the exception it throws.
+	 *
+	 * @param <T> the type returned by the supplier.
+	 * @param theSupplier the supplier.
+	 * @param theExecutor the executor.
+	 *
+	 * @return the future.
+	 *
+	 * @throws NullPointerException if the supplier or executor supplied is
+	 *                              null.
+	**/
+	public static <T> CompletableFuture<T> supplyAsync(
+									SupplierWithException<? extends T> theSupplier,
+									Executor theExecutor) {
+		Objects.requireNonNull(theSupplier);
+		Objects.requireNonNull(theExecutor);
+		CompletableFuture<T> future = new CompletableFuture<>();
+		try {
+			theExecutor.execute(() -> {
+				if (!future.isDone()) {
+					try {
+						future.complete(theSupplier.get());
+					}
+					catch (Throwable t) {
+						future.completeExceptionally(t);
+					}
+				}
+			});
+		}
+		catch (RejectedExecutionException ree) {
+			future.completeExceptionally(ree);
+		}
+		return future;
+	}
+
+
+	/**
+	 * Returns a function which applies the function supplied on the executor,
+	 * for use with {@link CompletableFuture#thenCompose(Function)}.
+	 *
+	 * @param <T> the type supplied to the function.
+	 * @param <R> the type returned by the function.
+	 * @param theFunction the function.
+	 * @param theExecutor the executor.
+	 *
+	 * @return the asynchronous function.
+	 *
+	 * @throws NullPointerException if the function or executor supplied is
+	 *                              null.
+	**/
+	public static <T, R> Function<T, CompletableFuture<R>> applyAsync(
+							FunctionWithException<? super T, ? extends R> theFunction,
+							Executor theExecutor) {
+		Objects.requireNonNull(theFunction);
+		Objects.requireNonNull(theExecutor);
+		return (theValue) -> supplyAsync(() -> theFunction.apply(theValue),
+										 theExecutor);
+	}
+
+
+	/**
+	 * Returns a function which applies the two argument function supplied on
+	 * the executor.
+	 *
+	 * @param <T> the first type supplied to the function.
+	 * @param <U> the second type supplied to the function.
+	 * @param <R> the type returned by the function.
+	 * @param theFunction the function.
+	 * @param theExecutor the executor.
+	 *
+	 * @return the asynchronous function.
+	 *
+	 * @throws NullPointerException if the function or executor supplied is
+	 *                              null.
+	**/
+	public static <T, U, R> BiFunction<T, U, CompletableFuture<R>> biApplyAsync(
+				BiFunctionWithException<? super T, ? super U, ? extends R> theFunction,
+				Executor theExecutor) {
+		Objects.requireNonNull(theFunction);
+		Objects.requireNonNull(theExecutor);
+		return (theFirstValue, theSecondValue) ->
+					supplyAsync(() -> theFunction.apply(theFirstValue,
+														theSecondValue),
+								theExecutor);
+	}
+
+
+	/**
+	 * Returns a function which passes its argument to the consumer supplied
+	 * on the executor, for use with
+	 * {@link CompletableFuture#thenCompose(Function)}.
+	 *
+	 * @param <T> the type to be consumed.
+	 * @param theConsumer the consumer.
+	 * @param theExecutor the executor.
+	 *
+	 * @return the asynchronous consumer.
+	 *
+	 * @throws NullPointerException if the consumer or executor supplied is
+	 *                              null.
+	**/
+	public static <T> Function<T, CompletableFuture<Void>> acceptAsync(
+								ConsumerWithException<? super T> theConsumer,
+								Executor theExecutor) {
+		Objects.requireNonNull(theConsumer);
+		Objects.requireNonNull(theExecutor);
+		return (theValue) -> supplyAsync(() -> {
+											 theConsumer.accept(theValue);
+											 return null;
+										 },
+										 theExecutor);
+	}
+
+
+	/**
+	 * Returns a function which passes its arguments to the two argument
+	 * consumer supplied on the executor.
+	 *
+	 * @param <T> the first type to be consumed.
+	 * @param <U> the second type to be consumed.
+	 * @param theConsumer the consumer.
+	 * @param theExecutor the executor.
+	 *
+	 * @return the asynchronous consumer.
+	 *
+	 * @throws NullPointerException if the consumer or executor supplied is
+	 *                              null.
+	**/
+	public static <T, U> BiFunction<T, U, CompletableFuture<Void>> biAcceptAsync(
+					BiConsumerWithException<? super T, ? super U> theConsumer,
+					Executor theExecutor) {
+		Objects.requireNonNull(theConsumer);
+		Objects.requireNonNull(theExecutor);
+		return (theFirstValue, theSecondValue) ->
+					supplyAsync(() -> {
+									theConsumer.accept(theFirstValue,
+													   theSecondValue);
+									return null;
+								},
+								theExecutor);
+	}
+
+
+	/**
+	 * Applies the function to each element of the collection on the
+	 * executor, with no more than the concurrency given running at once, and
+	 * returns a future of the results in the collection's iteration order.
+	 * On the first failure the future is completed with the exception thrown
+	 * and no further elements are started.
+	 *
+	 * @param <T> the type of the elements.
+	 * @param <R> the type of the results.
+	 * @param theElements the elements.
+	 * @param theFunction the function.
+	 * @param theExecutor the executor.
+	 * @param theConcurrency the greatest number of calls to run at once.
+	 *
+	 * @return the future of the results.
+	 *
+	 * @throws NullPointerException if the collection, function or executor
+	 *                              supplied is null.
+	 * @throws IllegalArgumentException if the concurrency is not positive.
+	**/
+	public static <T, R> CompletableFuture<List<R>> mapAsync(
+						Collection<? extends T> theElements,
+						FunctionWithException<? super T, ? extends R> theFunction,
+						Executor theExecutor,
+						int theConcurrency) {
+		Objects.requireNonNull(theElements);
+		Objects.requireNonNull(theFunction);
+		Objects.requireNonNull(theExecutor);
+		if (theConcurrency<1) {
+			throw new IllegalArgumentException("Concurrency must be positive");
+		}
+		Object[] elements = theElements.toArray();
+		Object[] results = new Object[elements.length];
+		CompletableFuture<List<R>> future = new CompletableFuture<>();
+		if (elements.length==0) {
+			future.complete(new ArrayList<>());
+			return future;
+		}
+
+		int lanes = Math.min(theConcurrency, elements.length);
+		AtomicInteger next = new AtomicInteger();
+		AtomicInteger running = new AtomicInteger(lanes);
+		Runnable lane = () -> {
+			try {
+				for (int i = next.getAndIncrement();
+					 i<elements.length && !future.isDone();
+					 i = next.getAndIncrement()) {
+					@SuppressWarnings("unchecked")
+					T element = (T)elements[i];
+					results[i] = theFunction.apply(element);
+				}
+			}
+			catch (Throwable t) {
+				future.completeExceptionally(t);
+			}
+			if (running.decrementAndGet()==0 && !future.isDone()) {
+				@SuppressWarnings("unchecked")
+				List<R> list = (List<R>)Arrays.asList(results);
+				future.complete(list);
+			}
+		};
+		for (int i = 0; i<lanes; i++) {
+			try {
+				theExecutor.execute(lane);
+			}
+			catch (RejectedExecutionException ree) {
+				future.completeExceptionally(ree);
+				break;
+			}
+		}
+		return future;
+	}
+
+
+	/**
+	 * Passes each element of the collection to the consumer on the executor,
+	 * with no more than the concurrency given running at once, and returns a
+	 * future completed once every element has been consumed. On the first
+	 * failure the future is completed with the exception thrown and no
+	 * further elements are started.
+	 *
+	 * @param <T> the type of the elements.
+	 * @param theElements the elements.
+	 * @param theConsumer the consumer.
+	 * @param theExecutor the executor.
+	 * @param theConcurrency the greatest number of calls to run at once.
+	 *
+	 * @return the future.
+	 *
+	 * @throws NullPointerException if the collection, consumer or executor
+	 *                              supplied is null.
+	 * @throws IllegalArgumentException if the concurrency is not positive.
+	**/
+	public static <T> CompletableFuture<Void> forEachAsync(
+								Collection<? extends T> theElements,
+								ConsumerWithException<? super T> theConsumer,
+								Executor theExecutor,
+								int theConcurrency) {
+		Objects.requireNonNull(theConsumer);
+		return mapAsync(theElements,
+						(T theValue) -> {
+							theConsumer.accept(theValue);
+							return null;
+						},
+						theExecutor,
+						theConcurrency)
+				.thenApply(theResults -> null);
+	}
+}
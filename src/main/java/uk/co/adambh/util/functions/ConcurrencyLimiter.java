@@ -0,0 +1,508 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+
+import uk.co.adambh.util.functions.MethodReferences.BiFunctionWithException;
+import uk.co.adambh.util.functions.MethodReferences.FunctionWithException;
+import uk.co.adambh.util.functions.MethodReferences.SupplierWithException;
+
+
+
+/**
+ * <p>Limits the number of calls in flight to a shared resource, adjusting the
+ * limit from the latencies observed so that the resource is kept busy without
+ * being overloaded. Calls over the limit wait in a bounded queue for a
+ * while, or are rejected at once with a {@link RejectedExecutionException}.</p>
+ *
+ * <p>The limit follows the gradient between the average latency of the
+ * latest window of calls and the lowest average latency seen, taken to be
+ * the latency of the resource when not overloaded. A window lasts at least
+ * {@value #WINDOW_MILLIS}ms and {@value #MIN_WINDOW} calls. While the latest
+ * latency is within half as much again of the lowest one the limit grows by
+ * about its square root each window; as it rises further the limit shrinks
+ * in proportion, by no more than half. Each change is smoothed, and the
+ * limit does not grow while fewer than half of the calls it allows are in
+ * flight, so an idle limiter does not drift upwards. The latencies of failed
+ * calls are counted too, as slow failures are a sign of overload.</p>
+ *
+ * <p>Latencies measured under load can not show that the resource itself
+ * has become slower, and would only ever raise the lowest latency were they
+ * allowed to. Instead, every {@value #PROBE_INTERVAL} windows the limit is
+ * halved for a window, and the lowest latency is taken afresh from that
+ * window.</p>
+ *
+ * <p>Calls run on the calling thread.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class ConcurrencyLimiter {
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	/**
+	 * The fewest calls in a window.
+	**/
+	public static final int MIN_WINDOW = 10;
+
+	/**
+	 * The shortest time a window lasts.
+	**/
+	public static final int WINDOW_MILLIS = 100;
+
+	/**
+	 * The number of windows between probes of the latency at half the limit.
+	**/
+	public static final int PROBE_INTERVAL = 100;
+
+	/**
+	 * The ratio of the latest latency to the lowest latency tolerated
+	 * before the limit shrinks.
+	**/
+	private static final double TOLERANCE = 1.5;
+
+	/**
+	 * The weight given to each new limit.
+	**/
+	private static final double SMOOTHING = 0.2;
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final int myMaxLimit;
+	private final int myMaxQueue;
+	private final long myMaxWaitNanos;
+
+	private volatile int myLimit;
+	private double myEstimatedLimit;
+	private double myLowestNanos;
+	private long myWindows;
+	private boolean myProbing;
+
+	private final AtomicInteger myInFlight = new AtomicInteger();
+	private volatile int myQueued;
+	private final Lock myQueueLock = new ReentrantLock();
+	private final Condition mySlotFreed = this.myQueueLock.newCondition();
+
+	private final Object myWindowLock = new Object();
+	private long myWindowStart = System.nanoTime();
+	private long myWindowNanos;
+	private int myWindowCount;
+	private int myWindowMaxInFlight;
+
+	private final LongAdder myCalls = new LongAdder();
+	private final LongAdder myRejections = new LongAdder();
+	private final LongAdder myTimeouts = new LongAdder();
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private ConcurrencyLimiter(int theInitialLimit,
+							   int theMaxLimit,
+							   int theMaxQueue,
+							   long theMaxWaitNanos) {
+		if (theInitialLimit<1 || theInitialLimit>theMaxLimit) {
+			throw new IllegalArgumentException(
+					"Initial limit must be at least 1 and at most the maximum");
+		}
+		if (theMaxQueue<0) {
+			throw new IllegalArgumentException("Queue size must not be negative");
+		}
+		if (theMaxWaitNanos<0) {
+			throw new IllegalArgumentException("Wait must not be negative");
+		}
+		this.myMaxLimit = theMaxLimit;
+		this.myMaxQueue = theMaxQueue;
+		this.myMaxWaitNanos = theMaxWaitNanos;
+		this.myLimit = theInitialLimit;
+		this.myEstimatedLimit = theInitialLimit;
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Calls the supplier once a call is allowed by the current limit, waiting
+	 * in the queue if it is full and the queue is not.
+	 *
+	 * @param <T> the type returned by the supplier.
+	 * @param theSupplier the supplier.
+	 *
+	 * @return the result of the supplier.
+	 *
+	 * @throws Exception the exception thrown by the supplier, or
+	 *                   InterruptedException if the calling thread is
+	 *                   interrupted while queued.
+	 * @throws RejectedExecutionException if the limit and queue are full, or
+	 *                                    the call waited in the queue for the
+	 *                                    longest time allowed.
+	 * @throws NullPointerException if the supplier supplied is null.
+	**/
+	public <T> T call(SupplierWithException<? extends T> theSupplier)
+			throws Exception {
+		Objects.requireNonNull(theSupplier);
+		this.myCalls.increment();
+		int inFlight = acquire();
+		long start = System.nanoTime();
+		try {
+			return theSupplier.get();
+		}
+		finally {
+			release(System.nanoTime() - start, inFlight);
+		}
+	}
+
+
+	/**
+	 * Returns a supplier whose calls are limited by this limiter.
+	 *
+	 * @param <T> the type returned by the supplier.
+	 * @param theSupplier the supplier.
+	 *
+	 * @return the limited supplier.
+	 *
+	 * @throws NullPointerException if the supplier supplied is null.
+	**/
+	public <T> SupplierWithException<T> limited(
+								SupplierWithException<? extends T> theSupplier) {
+		Objects.requireNonNull(theSupplier);
+		return () -> call(theSupplier);
+	}
+
+
+	/**
+	 * Returns a function whose calls are limited by this limiter.
+	 *
+	 * @param <T> the type supplied to the function.
+	 * @param <R> the type returned by the function.
+	 * @param theFunction the function.
+	 *
+	 * @return the limited function.
+	 *
+	 * @throws NullPointerException if the function supplied is null.
+	**/
+	public <T, R> FunctionWithException<T, R> limited(
+				FunctionWithException<? super T, ? extends R> theFunction) {
+		Objects.requireNonNull(theFunction);
+		return (theValue) -> call(() -> theFunction.apply(theValue));
+	}
+
+
+	/**
+	 * Returns a function whose calls are limited by this limiter.
+	 *
+	 * @param <T> the first type supplied to the function.
+	 * @param <U> the second type supplied to the function.
+	 * @param <R> the type returned by the function.
+	 * @param theFunction the function.
+	 *
+	 * @return the limited function.
+	 *
+	 * @throws NullPointerException if the function supplied is null.
+	**/
+	public <T, U, R> BiFunctionWithException<T, U, R> limited(
+			BiFunctionWithException<? super T, ? super U,
+									? extends R> theFunction) {
+		Objects.requireNonNull(theFunction);
+		return (theFirstValue, theSecondValue) ->
+					call(() -> theFunction.apply(theFirstValue, theSecondValue));
+	}
+
+
+	/**
+	 * Returns the number of calls currently allowed in flight.
+	**/
+	public int getLimit() {
+		return this.myLimit;
+	}
+
+
+	/**
+	 * Returns the number of calls in flight.
+	**/
+	public int getInFlight() {
+		return this.myInFlight.get();
+	}
+
+
+	/**
+	 * Returns the number of calls waiting in the queue.
+	**/
+	public int getQueued() {
+		return this.myQueued;
+	}
+
+
+	/**
+	 * Returns the number of calls made, including those rejected.
+	**/
+	public long getCalls() {
+		return this.myCalls.sum();
+	}
+
+
+	/**
+	 * Returns the number of calls rejected, including those which waited in
+	 * the queue for the longest time allowed.
+	**/
+	public long getRejections() {
+		return this.myRejections.sum();
+	}
+
+
+	/**
+	 * Returns the number of calls rejected after waiting in the queue for the
+	 * longest time allowed.
+	**/
+	public long getTimeouts() {
+		return this.myTimeouts.sum();
+	}
+
+
+	/**
+	 * Returns the lowest latency, which the latest latencies are compared
+	 * with, or zero before the first window has completed.
+	**/
+	public long getLowestLatency(TimeUnit theUnit) {
+		synchronized (this.myWindowLock) {
+			return theUnit.convert((long)this.myLowestNanos,
+								   TimeUnit.NANOSECONDS);
+		}
+	}
+
+
+	@Override
+	public String toString() {
+		return "ConcurrencyLimiter[limit=" + getLimit() +
+			   ", inFlight=" + getInFlight() +
+			   ", queued=" + getQueued() +
+			   ", calls=" + getCalls() +
+			   ", rejections=" + getRejections() + "]";
+	}
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+	/**
+	 * Takes a place in flight, queueing for one if need be, and returns the
+	 * number of calls in flight including this one.
+	**/
+	private int acquire()
+			throws InterruptedException {
+		if (this.myQueued==0) {
+			int inFlight = tryAcquire();
+			if (inFlight>0) {
+				return inFlight;
+			}
+		}
+
+		this.myQueueLock.lockInterruptibly();
+		try {
+			int inFlight = tryAcquire();
+			if (inFlight>0) {
+				return inFlight;
+			}
+			if (this.myQueued>=this.myMaxQueue) {
+				this.myRejections.increment();
+				throw new RejectedExecutionException(
+						"Concurrency limit of " + this.myLimit + " reached");
+			}
+			this.myQueued++;
+			try {
+				long nanos = this.myMaxWaitNanos;
+				while ((inFlight = tryAcquire())==0) {
+					if (nanos<=0) {
+						this.myRejections.increment();
+						this.myTimeouts.increment();
+						throw new RejectedExecutionException(
+								"Timed out waiting within a concurrency limit of " +
+								this.myLimit);
+					}
+					nanos = this.mySlotFreed.awaitNanos(nanos);
+				}
+				return inFlight;
+			}
+			finally {
+				this.myQueued--;
+			}
+		}
+		finally {
+			this.myQueueLock.unlock();
+		}
+	}
+
+
+	/**
+	 * Takes a place in flight if the limit allows, returning the number of
+	 * calls in flight including this one, or zero if it does not.
+	**/
+	private int tryAcquire() {
+		for (;;) {
+			int inFlight = this.myInFlight.get();
+			if (inFlight>=this.myLimit) {
+				return 0;
+			}
+			if (this.myInFlight.compareAndSet(inFlight, inFlight + 1)) {
+				return inFlight + 1;
+			}
+		}
+	}
+
+
+	/**
+	 * Gives up a place in flight, records the latency of the call and wakes a
+	 * queued call, if any.
+	**/
+	private void release(long theNanos, int theInFlight) {
+		this.myInFlight.decrementAndGet();
+		int previousLimit = this.myLimit;
+		record(theNanos, theInFlight);
+		if (this.myQueued>0) {
+			this.myQueueLock.lock();
+			try {
+				if (this.myLimit>previousLimit) {
+					this.mySlotFreed.signalAll();
+				}
+				else {
+					this.mySlotFreed.signal();
+				}
+			}
+			finally {
+				this.myQueueLock.unlock();
+			}
+		}
+	}
+
+
+	/**
+	 * Adds a latency to the current window, adjusting the limit when the
+	 * window is complete. In a probe window, calls let in over the halved
+	 * limit are not counted.
+	**/
+	private void record(long theNanos, int theInFlight) {
+		synchronized (this.myWindowLock) {
+			if (this.myProbing && theInFlight>this.myLimit) {
+				return;
+			}
+			this.myWindowNanos += theNanos;
+			this.myWindowCount++;
+			this.myWindowMaxInFlight = Math.max(this.myWindowMaxInFlight,
+												theInFlight);
+			long now = System.nanoTime();
+			if (this.myWindowCount<MIN_WINDOW ||
+				now - this.myWindowStart<TimeUnit.MILLISECONDS.toNanos(
+															WINDOW_MILLIS)) {
+				return;
+			}
+
+			double shortTermNanos = Math.max(1.0, (double)this.myWindowNanos /
+												  this.myWindowCount);
+			int maxInFlight = this.myWindowMaxInFlight;
+			this.myWindowNanos = 0;
+			this.myWindowCount = 0;
+			this.myWindowMaxInFlight = 0;
+			this.myWindowStart = now;
+
+			if (this.myProbing) {
+				this.myProbing = false;
+				this.myLowestNanos = shortTermNanos;
+				this.myLimit = (int)this.myEstimatedLimit;
+				return;
+			}
+			if (this.myLowestNanos==0 || shortTermNanos<this.myLowestNanos) {
+				this.myLowestNanos = shortTermNanos;
+			}
+
+			double gradient = Math.max(0.5,
+									   Math.min(1.0, TOLERANCE *
+													 this.myLowestNanos /
+													 shortTermNanos));
+			if (gradient<1.0 || maxInFlight>=this.myEstimatedLimit / 2) {
+				double limit = this.myEstimatedLimit * gradient +
+							   Math.sqrt(this.myEstimatedLimit);
+				limit = this.myEstimatedLimit * (1 - SMOOTHING) +
+						limit * SMOOTHING;
+				this.myEstimatedLimit = Math.max(1, Math.min(this.myMaxLimit,
+															 limit));
+			}
+
+			if (++this.myWindows % PROBE_INTERVAL==0) {
+				this.myProbing = true;
+				this.myLimit = Math.max(1, (int)this.myEstimatedLimit / 2);
+			}
+			else {
+				this.myLimit = (int)this.myEstimatedLimit;
+			}
+		}
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns a limiter which rejects calls over the limit at once.
+	 *
+	 * @param theInitialLimit the limit to start from.
+	 * @param theMaxLimit the most the limit may grow to.
+	 *
+	 * @return the limiter.
+	 *
+	 * @throws IllegalArgumentException if the initial limit is less than 1 or
+	 *                                  more than the maximum.
+	**/
+	public static ConcurrencyLimiter rejecting(int theInitialLimit,
+											   int theMaxLimit) {
+		return new ConcurrencyLimiter(theInitialLimit, theMaxLimit, 0, 0);
+	}
+
+
+	/**
+	 * Returns a limiter which queues calls over the limit, rejecting them
+	 * once the queue is full or they have waited the time given.
+	 *
+	 * @param theInitialLimit the limit to start from.
+	 * @param theMaxLimit the most the limit may grow to.
+	 * @param theMaxQueue the most calls which may wait in the queue.
+	 * @param theMaxWait the longest a call may wait in the queue.
+	 * @param theUnit the unit of the wait.
+	 *
+	 * @return the limiter.
+	 *
+	 * @throws NullPointerException if the unit supplied is null.
+	 * @throws IllegalArgumentException if the initial limit is less than 1 or
+	 *                                  more than the maximum, or the queue
+	 *                                  size or wait is negative.
+	**/
+	public static ConcurrencyLimiter queueing(int theInitialLimit,
+											  int theMaxLimit,
+											  int theMaxQueue,
+											  long theMaxWait,
+											  TimeUnit theUnit) {
+		return new ConcurrencyLimiter(theInitialLimit,
+									  theMaxLimit,
+									  theMaxQueue,
+									  theUnit.toNanos(theMaxWait));
+	}
+}
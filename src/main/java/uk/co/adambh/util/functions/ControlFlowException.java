@@ -0,0 +1,72 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+/**
+ * <p>Base class for exceptions used to signal an expected outcome rather than
+ * an error, such as a {@link Try} whose filter does not hold.</p>
+ *
+ * <p>Filling in a stack trace is most of the cost of creating an exception.
+ * When the {@code uk.co.adambh.util.functions.stackless} system property is
+ * true, control flow exceptions are created without a stack trace or
+ * suppression, and those which carry no state of their own may be shared
+ * rather than created for every failure. This is off by default, as the stack
+ * trace is useful when a failure is unexpected.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public class ControlFlowException extends RuntimeException {
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * True if control flow exceptions are created without stack traces.
+	**/
+	static final boolean STACKLESS =
+						Boolean.getBoolean("uk.co.adambh.util.functions.stackless");
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	/**
+	 * Creates a control flow exception with the message supplied, with a stack
+	 * trace unless control flow exceptions are stackless.
+	**/
+	public ControlFlowException(String theMessage) {
+		this(theMessage, !STACKLESS);
+	}
+
+
+	/**
+	 * Creates a control flow exception with the message supplied, with a stack
+	 * trace and suppression only if requested.
+	**/
+	protected ControlFlowException(String theMessage, boolean theStackTrace) {
+		super(theMessage, null, theStackTrace, theStackTrace);
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns true if control flow exceptions are created without stack
+	 * traces.
+	**/
+	public static boolean isStackless() {
+		return STACKLESS;
+	}
+}
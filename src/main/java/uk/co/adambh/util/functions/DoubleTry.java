@@ -0,0 +1,450 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.*;
+import java.util.function.*;
+
+import uk.co.adambh.util.functions.MethodReferences.*;
+
+
+
+/**
+ * <p>The result of a computation of a double which may have failed with an
+ * exception, as {@link Try} but holding the value unboxed.</p>
+ *
+ * <p>A try is a single final class holding either the value or the
+ * throwable, so calls on it are monomorphic, and a success which does not
+ * escape the method creating it may be scalar replaced by the JIT, leaving
+ * no allocation at all. Operations on a failure return the failure itself
+ * where the type allows.</p>
+ *
+ * <p>Fatal errors are rethrown and interrupts restored as for
+ * {@link Try}, and a failed {@link #filter(DoublePredicateWithException)}
+ * holds a {@link PredicateFailedException}.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class DoubleTry {
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final double myValue;
+	private final Throwable myFailure;
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private DoubleTry(double theValue, Throwable theFailure) {
+		this.myValue = theValue;
+		this.myFailure = theFailure;
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * If the try is currently successful, applies the predicate to the value,
+	 * returning this try on true, or a failure holding a
+	 * PredicateFailedException on false. If the try is currently failure,
+	 * returns the existing failure. If the predicate throws an exception, the
+	 * failure holds that exception.
+	 *
+	 * @param thePredicate the predicate to apply.
+	 *
+	 * @return this try if currently successful and the predicate holds,
+	 *         otherwise a failure.
+	 *
+	 * @throws NullPointerException if the predicate supplied is null.
+	**/
+	public DoubleTry filter(DoublePredicateWithException thePredicate) {
+		Objects.requireNonNull(thePredicate);
+		if (this.myFailure!=null) {
+			return this;
+		}
+		try {
+			return thePredicate.test(this.myValue) ?
+						this :
+						failure(TryFailure.predicateFailure(this.myValue));
+		}
+		catch (Throwable t) {
+			return failure(TryFailure.capture(t));
+		}
+	}
+
+
+	/**
+	 * If the try is currently successful, returns a try holding the result of
+	 * applying the function to the value, or a failure holding the throwable
+	 * the function throws. If the try is currently failure, returns the
+	 * existing failure.
+	 *
+	 * @param theFunction the function to apply.
+	 *
+	 * @return the mapped try.
+	 *
+	 * @throws NullPointerException if the function supplied is null.
+	**/
+	public DoubleTry map(DoubleUnaryOperatorWithException theFunction) {
+		Objects.requireNonNull(theFunction);
+		if (this.myFailure!=null) {
+			return this;
+		}
+		try {
+			return success(theFunction.applyAsDouble(this.myValue));
+		}
+		catch (Throwable t) {
+			return failure(TryFailure.capture(t));
+		}
+	}
+
+
+	/**
+	 * If the try is currently successful, returns an int try holding the
+	 * result of applying the function to the value, or a failure holding the
+	 * throwable the function throws. If the try is currently failure, returns
+	 * a failure holding its throwable.
+	 *
+	 * @param theFunction the function to apply.
+	 *
+	 * @return the mapped try.
+	 *
+	 * @throws NullPointerException if the function supplied is null.
+	**/
+	public IntTry mapToInt(DoubleToIntFunctionWithException theFunction) {
+		Objects.requireNonNull(theFunction);
+		if (this.myFailure!=null) {
+			return IntTry.failure(this.myFailure);
+		}
+		try {
+			return IntTry.success(theFunction.applyAsInt(this.myValue));
+		}
+		catch (Throwable t) {
+			return IntTry.failure(TryFailure.capture(t));
+		}
+	}
+
+
+	/**
+	 * If the try is currently successful, returns a long try holding the
+	 * result of applying the function to the value, or a failure holding the
+	 * throwable the function throws. If the try is currently failure, returns
+	 * a failure holding its throwable.
+	 *
+	 * @param theFunction the function to apply.
+	 *
+	 * @return the mapped try.
+	 *
+	 * @throws NullPointerException if the function supplied is null.
+	**/
+	public LongTry mapToLong(DoubleToLongFunctionWithException theFunction) {
+		Objects.requireNonNull(theFunction);
+		if (this.myFailure!=null) {
+			return LongTry.failure(this.myFailure);
+		}
+		try {
+			return LongTry.success(theFunction.applyAsLong(this.myValue));
+		}
+		catch (Throwable t) {
+			return LongTry.failure(TryFailure.capture(t));
+		}
+	}
+
+
+	/**
+	 * If the try is currently successful, returns a {@link Try} holding the
+	 * result of applying the function to the value, or a failure holding the
+	 * throwable the function throws. If the try is currently failure, returns
+	 * a failure holding its throwable.
+	 *
+	 * @param <U> the type returned by the function.
+	 * @param theFunction the function to apply.
+	 *
+	 * @return the mapped try.
+	 *
+	 * @throws NullPointerException if the function supplied is null.
+	**/
+	public <U> Try<U> mapToObj(
+						DoubleFunctionWithException<? extends U> theFunction) {
+		Objects.requireNonNull(theFunction);
+		if (this.myFailure!=null) {
+			return new TryFailure<>(this.myFailure);
+		}
+		try {
+			return Try.success(theFunction.apply(this.myValue));
+		}
+		catch (Throwable t) {
+			return TryFailure.of(t);
+		}
+	}
+
+
+	/**
+	 * If the try is currently successful, returns the try returned by
+	 * applying the function to the value, or a failure holding the throwable
+	 * the function throws. If the try is currently failure, returns the
+	 * existing failure.
+	 *
+	 * @param theFunction the function to apply.
+	 *
+	 * @return the mapped try.
+	 *
+	 * @throws NullPointerException if the function supplied is null, or
+	 *                              returns null.
+	**/
+	public DoubleTry flatMap(DoubleFunctionWithException<DoubleTry> theFunction) {
+		Objects.requireNonNull(theFunction);
+		if (this.myFailure!=null) {
+			return this;
+		}
+		DoubleTry result;
+		try {
+			result = theFunction.apply(this.myValue);
+		}
+		catch (Throwable t) {
+			return failure(TryFailure.capture(t));
+		}
+		return Objects.requireNonNull(result);
+	}
+
+
+	/**
+	 * Returns the value if the try is currently successful, otherwise the
+	 * result of applying the function to the failure's throwable.
+	 *
+	 * @param theFunction the function to apply to the throwable.
+	 *
+	 * @return the value or the recovered value.
+	 *
+	 * @throws NullPointerException if the function supplied is null.
+	**/
+	public double recover(ToDoubleFunction<? super Throwable> theFunction) {
+		Objects.requireNonNull(theFunction);
+		return this.myFailure==null ?
+					this.myValue :
+					theFunction.applyAsDouble(this.myFailure);
+	}
+
+
+	/**
+	 * Returns an optional holding the value if the try is currently
+	 * successful, otherwise an empty optional.
+	**/
+	public OptionalDouble toOptional() {
+		return this.myFailure==null ?
+					OptionalDouble.of(this.myValue) :
+					OptionalDouble.empty();
+	}
+
+
+	/**
+	 * Returns a {@link Try} holding the value boxed if the try is currently
+	 * successful, otherwise a failure holding its throwable.
+	**/
+	public Try<Double> toTry() {
+		return this.myFailure==null ?
+					new TrySuccess<>(this.myValue) :
+					new TryFailure<>(this.myFailure);
+	}
+
+
+	/**
+	 * Returns the value if the try is currently successful, otherwise throws
+	 * the failure's throwable.
+	 *
+	 * @return the value.
+	 *
+	 * @throws Throwable the failure's throwable.
+	**/
+	public double getAsDouble()
+			throws Throwable {
+		if (this.myFailure!=null) {
+			throw this.myFailure;
+		}
+		return this.myValue;
+	}
+
+
+	/**
+	 * Returns the throwable if the try is currently failure.
+	 *
+	 * @return the throwable.
+	 *
+	 * @throws NoSuchElementException if the try is currently successful.
+	**/
+	public Throwable getFailure() {
+		if (this.myFailure==null) {
+			throw new NoSuchElementException("Try is successful");
+		}
+		return this.myFailure;
+	}
+
+
+	/**
+	 * Returns the value if the try is currently successful, otherwise the
+	 * value supplied.
+	**/
+	public double orElse(double theValue) {
+		return this.myFailure==null ? this.myValue : theValue;
+	}
+
+
+	/**
+	 * Returns this try if it is currently successful, otherwise the result of
+	 * calling the supplier as for {@link #of(DoubleSupplierWithException)}.
+	 *
+	 * @param theSupplier the supplier.
+	 *
+	 * @return this try or the supplied try.
+	 *
+	 * @throws NullPointerException if the supplier supplied is null.
+	**/
+	public DoubleTry orElseTry(DoubleSupplierWithException theSupplier) {
+		Objects.requireNonNull(theSupplier);
+		return this.myFailure==null ? this : of(theSupplier);
+	}
+
+
+	/**
+	 * Returns true if the try is currently successful.
+	**/
+	public boolean isSuccess() {
+		return this.myFailure==null;
+	}
+
+
+	/**
+	 * Returns true if the try is currently failure.
+	**/
+	public boolean isFailure() {
+		return this.myFailure!=null;
+	}
+
+
+	@Override
+	public boolean equals(Object theObject) {
+		if (!(theObject instanceof DoubleTry)) {
+			return false;
+		}
+		DoubleTry other = (DoubleTry)theObject;
+		return this.myFailure==null ?
+					other.myFailure==null &&
+					Double.compare(this.myValue, other.myValue)==0 :
+					this.myFailure==other.myFailure;
+	}
+
+
+	@Override
+	public int hashCode() {
+		return this.myFailure==null ?
+					Double.hashCode(this.myValue) :
+					System.identityHashCode(this.myFailure);
+	}
+
+
+	@Override
+	public String toString() {
+		return this.myFailure==null ?
+					"Success[" + this.myValue + "]" :
+					"Failure[" + this.myFailure + "]";
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns the result of calling the supplier: a success holding the value
+	 * supplied, or a failure holding the throwable thrown.
+	 *
+	 * @param theSupplier the supplier.
+	 *
+	 * @return the try.
+	 *
+	 * @throws NullPointerException if the supplier supplied is null.
+	**/
+	public static DoubleTry of(DoubleSupplierWithException theSupplier) {
+		Objects.requireNonNull(theSupplier);
+		try {
+			return success(theSupplier.getAsDouble());
+		}
+		catch (Throwable t) {
+			return failure(TryFailure.capture(t));
+		}
+	}
+
+
+	/**
+	 * Returns a successful try holding the value supplied.
+	**/
+	public static DoubleTry success(double theValue) {
+		return new DoubleTry(theValue, null);
+	}
+
+
+	/**
+	 * Returns a failed try holding the throwable supplied.
+	 *
+	 * @param theThrowable the throwable.
+	 *
+	 * @return the try.
+	 *
+	 * @throws NullPointerException if the throwable supplied is null.
+	**/
+	public static DoubleTry failure(Throwable theThrowable) {
+		Objects.requireNonNull(theThrowable);
+		return new DoubleTry(0.0, theThrowable);
+	}
+
+
+	/**
+	 * Returns a try holding the value of the {@link Try} supplied unboxed,
+	 * or its throwable. A successful try holding null gives a failure holding
+	 * a NullPointerException.
+	 *
+	 * @param theTry the try.
+	 *
+	 * @return the double try.
+	 *
+	 * @throws NullPointerException if the try supplied is null.
+	**/
+	public static DoubleTry from(Try<? extends Double> theTry) {
+		if (theTry.isFailure()) {
+			return failure(theTry.getFailure());
+		}
+		Double value = theTry.orElse(null);
+		return value==null ?
+					failure(new NullPointerException("Try holds null")) :
+					success(value);
+	}
+
+
+	/**
+	 * Returns a try holding the value of the optional supplied, or a failure
+	 * holding a NoSuchElementException if it is empty.
+	 *
+	 * @param theOptional the optional.
+	 *
+	 * @return the try.
+	 *
+	 * @throws NullPointerException if the optional supplied is null.
+	**/
+	public static DoubleTry from(OptionalDouble theOptional) {
+		return theOptional.isPresent() ?
+					success(theOptional.getAsDouble()) :
+					failure(new NoSuchElementException("No value present"));
+	}
+}
@@ -0,0 +1,180 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.*;
+import java.util.function.*;
+
+
+
+/**
+ * <p>Translates exceptions into runtime exceptions by their class, for use as
+ * the exception function of any of the {@code unchecked} methods of
+ * {@link MethodReferences} in place of a chain of {@code instanceof} tests.</p>
+ *
+ * <p>Translators are registered against exception classes, and an exception
+ * is translated by the translator registered against its own class or,
+ * failing that, its nearest superclass with one; an exception with none is
+ * wrapped in a RuntimeException, or translated by the default translator
+ * supplied. The translator for each class of exception is found once and
+ * cached, so translating an exception costs a single lookup however many
+ * translators are registered.</p>
+ *
+ * <p>Translators are immutable and so may be shared freely, registering a
+ * translator returning a new translator with it added.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class ExceptionTranslator
+						implements Function<Exception, RuntimeException> {
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final Map<Class<?>, Function<Exception, ? extends RuntimeException>> myTranslators;
+	private final Function<Exception, ? extends RuntimeException> myDefault;
+
+	private final ClassValue<Function<Exception, ? extends RuntimeException>> myResolved =
+			new ClassValue<Function<Exception, ? extends RuntimeException>>() {
+		@Override
+		protected Function<Exception, ? extends RuntimeException> computeValue(
+															Class<?> theClass) {
+			return resolve(theClass);
+		}
+	};
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private ExceptionTranslator(
+			Map<Class<?>, Function<Exception, ? extends RuntimeException>> theTranslators,
+			Function<Exception, ? extends RuntimeException> theDefault) {
+		this.myTranslators = theTranslators;
+		this.myDefault = theDefault;
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Translates the exception with the translator registered against its
+	 * class or nearest superclass, or the default translator.
+	 *
+	 * @param theException the exception.
+	 *
+	 * @return the runtime exception.
+	 *
+	 * @throws NullPointerException if the exception supplied is null.
+	**/
+	@Override
+	public RuntimeException apply(Exception theException) {
+		return this.myResolved.get(theException.getClass()).apply(theException);
+	}
+
+
+	/**
+	 * Returns a translator which translates exceptions of the class, and its
+	 * subclasses without a more specific translator, with the function
+	 * supplied, and all others as this one does.
+	 *
+	 * @param <X> the type of exception.
+	 * @param theClass the class of exception.
+	 * @param theTranslator the function to translate it with.
+	 *
+	 * @return the new translator.
+	 *
+	 * @throws NullPointerException if the class or function supplied is null.
+	**/
+	@SuppressWarnings("unchecked")
+	public <X extends Exception> ExceptionTranslator with(
+						Class<X> theClass,
+						Function<? super X, ? extends RuntimeException> theTranslator) {
+		if (theClass==null) {
+			throw new NullPointerException("Can not accept a null class");
+		}
+		if (theTranslator==null) {
+			throw new NullPointerException("Can not accept a null translator");
+		}
+		Map<Class<?>, Function<Exception, ? extends RuntimeException>> translators =
+												new HashMap<>(this.myTranslators);
+		translators.put(theClass,
+						(Function<Exception, ? extends RuntimeException>)theTranslator);
+		return new ExceptionTranslator(translators, this.myDefault);
+	}
+
+
+	@Override
+	public String toString() {
+		return "ExceptionTranslator[translators=" + this.myTranslators.size() + "]";
+	}
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+	/**
+	 * Returns the translator for the nearest class to the class supplied, up
+	 * its superclasses, with one registered.
+	**/
+	private Function<Exception, ? extends RuntimeException> resolve(
+															Class<?> theClass) {
+		for (Class<?> aClass = theClass;
+			 aClass!=null;
+			 aClass = aClass.getSuperclass()) {
+			Function<Exception, ? extends RuntimeException> translator =
+												this.myTranslators.get(aClass);
+			if (translator!=null) {
+				return translator;
+			}
+		}
+		return this.myDefault;
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns a translator with no translators registered, which wraps every
+	 * exception in a RuntimeException.
+	 *
+	 * @return the translator.
+	**/
+	public static ExceptionTranslator create() {
+		return new ExceptionTranslator(Collections.emptyMap(),
+									   RuntimeException::new);
+	}
+
+
+	/**
+	 * Returns a translator with no translators registered, which translates
+	 * every exception with the default translator supplied.
+	 *
+	 * @param theDefault the default translator.
+	 *
+	 * @return the translator.
+	 *
+	 * @throws NullPointerException if the default translator supplied is
+	 *                              null.
+	**/
+	public static ExceptionTranslator create(
+				Function<Exception, ? extends RuntimeException> theDefault) {
+		if (theDefault==null) {
+			throw new NullPointerException("Can not accept a null translator");
+		}
+		return new ExceptionTranslator(Collections.emptyMap(), theDefault);
+	}
+}
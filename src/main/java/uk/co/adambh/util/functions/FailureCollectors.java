@@ -0,0 +1,258 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import uk.co.adambh.util.functions.MethodReferences.FunctionWithException;
+
+
+
+/**
+ * <p>Provides collectors which apply a function that may throw to every
+ * element of a stream and carry on past failures, rather than abandoning the
+ * stream at the first exception as {@link MethodReferences#unchecked} does.</p>
+ *
+ * <p>The collectors are not concurrent: a parallel stream gives each of its
+ * splits a container of its own, which is only touched by the thread working
+ * on that split, and the containers are merged as the splits complete. No
+ * container is shared between threads, and encounter order is kept for
+ * ordered streams.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class FailureCollectors {
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private FailureCollectors() {}
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+	/**
+	 * The outcome of applying a function to each element of a stream: the
+	 * results of the elements for which it succeeded, and the failures of
+	 * those for which it threw.
+	 *
+	 * @param <T> the type of the elements.
+	 * @param <R> the type of the results.
+	**/
+	public static final class Outcome<T, R> {
+
+		private final List<R> mySuccesses;
+		private final List<Failure<T>> myFailures;
+
+		private Outcome(List<R> theSuccesses, List<Failure<T>> theFailures) {
+			this.mySuccesses = Collections.unmodifiableList(theSuccesses);
+			this.myFailures = Collections.unmodifiableList(theFailures);
+		}
+
+
+		/**
+		 * Returns the results of the elements for which the function
+		 * succeeded.
+		**/
+		public List<R> getSuccesses() {
+			return this.mySuccesses;
+		}
+
+
+		/**
+		 * Returns the failures of the elements for which the function threw.
+		**/
+		public List<Failure<T>> getFailures() {
+			return this.myFailures;
+		}
+
+
+		public int getSuccessCount() {
+			return this.mySuccesses.size();
+		}
+
+
+		public int getFailureCount() {
+			return this.myFailures.size();
+		}
+
+
+		/**
+		 * Returns the number of elements the function was applied to.
+		**/
+		public int getCount() {
+			return this.mySuccesses.size() + this.myFailures.size();
+		}
+
+
+		public boolean hasFailures() {
+			return !this.myFailures.isEmpty();
+		}
+
+
+		@Override
+		public String toString() {
+			return "Outcome[successes=" + getSuccessCount() +
+				   ", failures=" + getFailureCount() + "]";
+		}
+	}
+
+
+	/**
+	 * An element for which the function threw, and the exception thrown.
+	 *
+	 * @param <T> the type of the element.
+	**/
+	public static final class Failure<T> {
+
+		private final T myInput;
+		private final Exception myException;
+
+		private Failure(T theInput, Exception theException) {
+			this.myInput = theInput;
+			this.myException = theException;
+		}
+
+
+		public T getInput() {
+			return this.myInput;
+		}
+
+
+		public Exception getException() {
+			return this.myException;
+		}
+
+
+		@Override
+		public String toString() {
+			return "Failure[" + this.myInput + ": " + this.myException + "]";
+		}
+	}
+
+
+	/**
+	 * The partial results of one split of a stream.
+	**/
+	private static final class Container<T, R> {
+
+		private final ArrayList<R> mySuccesses = new ArrayList<>();
+		private final ArrayList<Failure<T>> myFailures = new ArrayList<>();
+
+		private Container<T, R> merge(Container<T, R> theOther) {
+			this.mySuccesses.addAll(theOther.mySuccesses);
+			this.myFailures.addAll(theOther.myFailures);
+			return this;
+		}
+
+
+		private Outcome<T, R> finish() {
+			this.mySuccesses.trimToSize();
+			this.myFailures.trimToSize();
+			return new Outcome<>(this.mySuccesses, this.myFailures);
+		}
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns a collector which applies the function to each element and
+	 * gathers the results and failures into an {@link Outcome}. Any exception
+	 * thrown by the function, checked or not, is recorded against the element
+	 * and collection carries on; errors are not caught. An
+	 * {@link InterruptedException} is recorded, but the thread's interrupt
+	 * status is restored.
+	 *
+	 * @param <T> the type of the elements.
+	 * @param <R> the type of the results.
+	 * @param theFunction the function.
+	 *
+	 * @return the collector.
+	 *
+	 * @throws NullPointerException if the function supplied is null.
+	**/
+	public static <T, R> Collector<T, ?, Outcome<T, R>> collecting(
+						FunctionWithException<? super T, ? extends R> theFunction) {
+		Objects.requireNonNull(theFunction);
+		BiConsumer<Container<T, R>, T> accumulator = (theContainer, theValue) -> {
+			try {
+				theContainer.mySuccesses.add(theFunction.apply(theValue));
+			}
+			catch (Exception e) {
+				TryFailure.capture(e);
+				theContainer.myFailures.add(new Failure<>(theValue, e));
+			}
+		};
+		return Collector.of(Container::new,
+							accumulator,
+							Container::merge,
+							Container::finish);
+	}
+
+
+	/**
+	 * Applies the function to each element of the stream, which may be
+	 * parallel, and returns the outcome; equivalent to collecting the stream
+	 * with {@link #collecting(FunctionWithException)}.
+	 *
+	 * @param <T> the type of the elements.
+	 * @param <R> the type of the results.
+	 * @param theStream the stream.
+	 * @param theFunction the function.
+	 *
+	 * @return the outcome.
+	 *
+	 * @throws NullPointerException if the stream or function supplied is
+	 *                              null.
+	**/
+	public static <T, R> Outcome<T, R> apply(
+						Stream<T> theStream,
+						FunctionWithException<? super T, ? extends R> theFunction) {
+		Objects.requireNonNull(theStream);
+		return theStream.collect(collecting(theFunction));
+	}
+
+
+	/**
+	 * Returns a function which applies the function supplied and returns a
+	 * {@link Try} holding the result or the exception, for use with
+	 * {@link Stream#map(Function)} where the stream is to continue past
+	 * failures rather than be collected. As with {@link Try#of}, an
+	 * {@link InterruptedException} is captured but the thread's interrupt
+	 * status is restored.
+	 *
+	 * @param <T> the type supplied to the function.
+	 * @param <R> the type returned by the function.
+	 * @param theFunction the function.
+	 *
+	 * @return the wrapped function.
+	 *
+	 * @throws NullPointerException if the function supplied is null.
+	**/
+	public static <T, R> Function<T, Try<R>> attempting(
+						FunctionWithException<? super T, ? extends R> theFunction) {
+		Objects.requireNonNull(theFunction);
+		return (theValue) -> {
+			try {
+				return Try.success(theFunction.apply(theValue));
+			}
+			catch (Exception e) {
+				return Try.failure(TryFailure.capture(e));
+			}
+		};
+	}
+}
@@ -0,0 +1,533 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import uk.co.adambh.util.functions.MethodReferences.FunctionWithException;
+
+
+
+/**
+ * <p>Provides publishers and processors following the Reactive Streams rules,
+ * mapping items through functions which throw checked exceptions with
+ * backpressure from the subscriber and bounded buffering.</p>
+ *
+ * <p>The interfaces here mirror those nested in
+ * {@code java.util.concurrent.Flow} method for method, so that this library
+ * may still be built for Java 8; on Java 9 and later each adapts to its Flow
+ * counterpart with a method reference per method. Signals to a subscriber
+ * are made on the executor supplied, one at a time.</p>
+ *
+ * <p>A mapping processor requests no more from its publisher than its buffer
+ * can hold, and maps and passes on items only as its subscriber requests
+ * them, so a slow subscriber slows the publisher rather than growing a queue.
+ * Should the function throw, the publisher's subscription is cancelled and
+ * the exception is passed to the subscriber's {@code onError}, rather than
+ * escaping on whichever thread happened to be running.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class FlowFunctions {
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	/**
+	 * A subscription which ignores requests, standing in for a publisher's
+	 * subscription once cancelled and given to subscribers turned away.
+	**/
+	private static final Subscription CANCELLED = new Subscription() {
+		@Override
+		public void request(long theCount) {}
+
+
+		@Override
+		public void cancel() {}
+	};
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private FlowFunctions() {}
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+	/**
+	 * A source of items for subscribers, mirroring
+	 * {@code java.util.concurrent.Flow.Publisher}.
+	**/
+	@FunctionalInterface
+	public interface Publisher<T> {
+		public void subscribe(Subscriber<? super T> theSubscriber);
+	}
+
+
+	/**
+	 * A receiver of items, mirroring
+	 * {@code java.util.concurrent.Flow.Subscriber}.
+	**/
+	public interface Subscriber<T> {
+		public void onSubscribe(Subscription theSubscription);
+		public void onNext(T theItem);
+		public void onError(Throwable theThrowable);
+		public void onComplete();
+	}
+
+
+	/**
+	 * The link between a publisher and a subscriber, mirroring
+	 * {@code java.util.concurrent.Flow.Subscription}.
+	**/
+	public interface Subscription {
+		public void request(long theCount);
+		public void cancel();
+	}
+
+
+	/**
+	 * Both a subscriber and a publisher, mirroring
+	 * {@code java.util.concurrent.Flow.Processor}.
+	**/
+	public interface Processor<T, R> extends Subscriber<T>, Publisher<R> {}
+
+
+	/**
+	 * The outstanding demand of a subscriber and the serial drain of items to
+	 * it on the executor, shared by the publishers here.
+	**/
+	private abstract static class Drain<T> implements Subscription {
+
+		private final Executor myExecutor;
+		private final AtomicInteger myWip = new AtomicInteger();
+		private final AtomicLong myDemand = new AtomicLong();
+		private volatile Subscriber<? super T> mySubscriber;
+		private volatile Throwable myRejection;
+		volatile boolean myCancelled;
+
+		private Drain(Executor theExecutor) {
+			this.myExecutor = theExecutor;
+		}
+
+
+		/**
+		 * Subscribes the subscriber, passing it this subscription before any
+		 * other signal can be made to it.
+		**/
+		void start(Subscriber<? super T> theSubscriber) {
+			theSubscriber.onSubscribe(this);
+			this.mySubscriber = theSubscriber;
+			schedule();
+		}
+
+
+		@Override
+		public void request(long theCount) {
+			if (theCount<=0) {
+				this.myRejection = new IllegalArgumentException(
+									"Requested " + theCount + " items, not positive");
+			}
+			else {
+				long demand;
+				long total;
+				do {
+					demand = this.myDemand.get();
+					total = demand + theCount;
+					if (total<0) {
+						total = Long.MAX_VALUE;
+					}
+				}
+				while (demand!=Long.MAX_VALUE &&
+					   !this.myDemand.compareAndSet(demand, total));
+			}
+			schedule();
+		}
+
+
+		@Override
+		public void cancel() {
+			this.myCancelled = true;
+			schedule();
+		}
+
+
+		/**
+		 * Arranges for a drain on the executor, unless one is already due.
+		**/
+		void schedule() {
+			if (this.myWip.getAndIncrement()==0) {
+				try {
+					this.myExecutor.execute(this::drain);
+				}
+				catch (RejectedExecutionException ree) {
+					this.myRejection = ree;
+					drain();
+				}
+			}
+		}
+
+
+		/**
+		 * Passes as many items to the subscriber as it has requested, and any
+		 * terminal signal, until no further drain has been asked for. Once a
+		 * terminal signal is made no later drain does anything.
+		**/
+		private void drain() {
+			int missed = 1;
+			do {
+				Subscriber<? super T> subscriber = this.mySubscriber;
+				if (subscriber!=null) {
+					if (this.myCancelled) {
+						release();
+						return;
+					}
+					Throwable rejection = this.myRejection;
+					if (rejection!=null) {
+						this.myCancelled = true;
+						release();
+						subscriber.onError(rejection);
+						return;
+					}
+					long demand = this.myDemand.get();
+					long emitted = 0;
+					try {
+						while (emitted!=demand && !this.myCancelled) {
+							if (!emit(subscriber)) {
+								break;
+							}
+							emitted++;
+						}
+						if (!this.myCancelled && finish(subscriber)) {
+							this.myCancelled = true;
+							return;
+						}
+					}
+					catch (RuntimeException re) {
+						this.myCancelled = true;
+						release();
+						subscriber.onError(re);
+						return;
+					}
+					if (emitted!=0 && demand!=Long.MAX_VALUE) {
+						this.myDemand.addAndGet(-emitted);
+					}
+					refill();
+				}
+				missed = this.myWip.addAndGet(-missed);
+			}
+			while (missed!=0);
+		}
+
+
+		/**
+		 * Passes the next item to the subscriber, returning false if there is
+		 * none ready.
+		**/
+		abstract boolean emit(Subscriber<? super T> theSubscriber);
+
+
+		/**
+		 * Passes a terminal signal to the subscriber if the items are
+		 * exhausted, returning true if it did.
+		**/
+		abstract boolean finish(Subscriber<? super T> theSubscriber);
+
+
+		/**
+		 * Asks the source for more items as room allows.
+		**/
+		void refill() {}
+
+
+		/**
+		 * Releases the source after the subscription ends early.
+		**/
+		abstract void release();
+	}
+
+
+	/**
+	 * A subscription to the items of an iterable, one per subscriber.
+	**/
+	private static final class IterableDrain<T> extends Drain<T> {
+
+		private final Iterator<? extends T> myItems;
+
+		private IterableDrain(Iterator<? extends T> theItems,
+							  Executor theExecutor) {
+			super(theExecutor);
+			this.myItems = theItems;
+		}
+
+
+		@Override
+		boolean emit(Subscriber<? super T> theSubscriber) {
+			if (!this.myItems.hasNext()) {
+				return false;
+			}
+			theSubscriber.onNext(Objects.requireNonNull(this.myItems.next()));
+			return true;
+		}
+
+
+		@Override
+		boolean finish(Subscriber<? super T> theSubscriber) {
+			if (this.myItems.hasNext()) {
+				return false;
+			}
+			theSubscriber.onComplete();
+			return true;
+		}
+
+
+		@Override
+		void release() {}
+	}
+
+
+	/**
+	 * A processor mapping the items of its publisher through a function for a
+	 * single subscriber, buffering at most a fixed number of items.
+	**/
+	private static final class MappingProcessor<T, R>
+							extends Drain<R> implements Processor<T, R> {
+
+		private final FunctionWithException<? super T, ? extends R> myFunction;
+		private final int myCapacity;
+		private final int myRefill;
+		private final Queue<T> myBuffer;
+		private final AtomicReference<Subscription> myUpstream =
+															new AtomicReference<>();
+		private final AtomicBoolean mySubscribed = new AtomicBoolean();
+		private volatile boolean myDone;
+		private volatile Throwable myError;
+		private long myRequested;
+		private long myConsumed;
+
+		private MappingProcessor(
+						FunctionWithException<? super T, ? extends R> theFunction,
+						int theCapacity,
+						Executor theExecutor) {
+			super(theExecutor);
+			this.myFunction = theFunction;
+			this.myCapacity = theCapacity;
+			this.myRefill = Math.max(1, theCapacity / 4);
+			this.myBuffer = new ArrayBlockingQueue<>(theCapacity);
+		}
+
+
+		@Override
+		public void subscribe(Subscriber<? super R> theSubscriber) {
+			Objects.requireNonNull(theSubscriber);
+			if (this.mySubscribed.compareAndSet(false, true)) {
+				start(theSubscriber);
+			}
+			else {
+				theSubscriber.onSubscribe(CANCELLED);
+				theSubscriber.onError(new IllegalStateException(
+								"Only a single subscriber is supported"));
+			}
+		}
+
+
+		@Override
+		public void onSubscribe(Subscription theSubscription) {
+			Objects.requireNonNull(theSubscription);
+			if (!this.myUpstream.compareAndSet(null, theSubscription) ||
+				this.myCancelled) {
+				theSubscription.cancel();
+				return;
+			}
+			schedule();
+		}
+
+
+		@Override
+		public void onNext(T theItem) {
+			Objects.requireNonNull(theItem);
+			if (!this.myBuffer.offer(theItem)) {
+				this.myError = new IllegalStateException(
+									"Publisher sent more items than requested");
+				this.myDone = true;
+				this.myUpstream.get().cancel();
+			}
+			schedule();
+		}
+
+
+		@Override
+		public void onError(Throwable theThrowable) {
+			this.myError = Objects.requireNonNull(theThrowable);
+			this.myDone = true;
+			schedule();
+		}
+
+
+		@Override
+		public void onComplete() {
+			this.myDone = true;
+			schedule();
+		}
+
+
+		@Override
+		boolean emit(Subscriber<? super R> theSubscriber) {
+			T item = this.myBuffer.poll();
+			if (item==null) {
+				return false;
+			}
+			this.myConsumed++;
+			R result;
+			try {
+				result = this.myFunction.apply(item);
+			}
+			catch (RuntimeException re) {
+				throw re;
+			}
+			catch (Exception e) {
+				throw new CompletionException(e);
+			}
+			theSubscriber.onNext(Objects.requireNonNull(result));
+			return true;
+		}
+
+
+		@Override
+		boolean finish(Subscriber<? super R> theSubscriber) {
+			if (!this.myDone || !this.myBuffer.isEmpty()) {
+				return false;
+			}
+			Throwable error = this.myError;
+			if (error==null) {
+				theSubscriber.onComplete();
+			}
+			else {
+				this.myBuffer.clear();
+				theSubscriber.onError(error);
+			}
+			return true;
+		}
+
+
+		@Override
+		void refill() {
+			Subscription upstream = this.myUpstream.get();
+			long room = this.myCapacity - (this.myRequested - this.myConsumed);
+			if (upstream!=null && !this.myDone && room>=this.myRefill) {
+				this.myRequested += room;
+				upstream.request(room);
+			}
+		}
+
+
+		@Override
+		void release() {
+			Subscription upstream = this.myUpstream.getAndSet(CANCELLED);
+			if (upstream!=null && upstream!=CANCELLED) {
+				upstream.cancel();
+			}
+			this.myBuffer.clear();
+		}
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns a processor mapping the items of the publisher it subscribes to
+	 * through the function, for a single subscriber, signalling on the common
+	 * fork/join pool.
+	 *
+	 * @param <T> the type of the items received.
+	 * @param <R> the type of the items published.
+	 * @param theFunction the function.
+	 * @param theBufferSize the most items to buffer from the publisher.
+	 *
+	 * @return the processor.
+	 *
+	 * @throws NullPointerException if the function supplied is null.
+	 * @throws IllegalArgumentException if the buffer size is not positive.
+	**/
+	public static <T, R> Processor<T, R> map(
+						FunctionWithException<? super T, ? extends R> theFunction,
+						int theBufferSize) {
+		return map(theFunction, theBufferSize, ForkJoinPool.commonPool());
+	}
+
+
+	/**
+	 * Returns a processor mapping the items of the publisher it subscribes to
+	 * through the function, for a single subscriber, signalling on the
+	 * executor.
+	 *
+	 * <p>An exception thrown by the function cancels the subscription to the
+	 * publisher and is passed to the subscriber's {@code onError}, checked
+	 * exceptions wrapped in a CompletionException. Errors from the publisher
+	 * are passed on once the items buffered before them have been.</p>
+	 *
+	 * @param <T> the type of the items received.
+	 * @param <R> the type of the items published.
+	 * @param theFunction the function.
+	 * @param theBufferSize the most items to buffer from the publisher.
+	 * @param theExecutor the executor.
+	 *
+	 * @return the processor.
+	 *
+	 * @throws NullPointerException if the function or executor supplied is
+	 *                              null.
+	 * @throws IllegalArgumentException if the buffer size is not positive.
+	**/
+	public static <T, R> Processor<T, R> map(
+						FunctionWithException<? super T, ? extends R> theFunction,
+						int theBufferSize,
+						Executor theExecutor) {
+		Objects.requireNonNull(theFunction);
+		Objects.requireNonNull(theExecutor);
+		if (theBufferSize<1) {
+			throw new IllegalArgumentException("Buffer size must be positive");
+		}
+		return new MappingProcessor<>(theFunction, theBufferSize, theExecutor);
+	}
+
+
+	/**
+	 * Returns a publisher of the items of the iterable, iterating it afresh
+	 * for each subscriber and only as far as it has requested, signalling on
+	 * the executor.
+	 *
+	 * @param <T> the type of the items.
+	 * @param theItems the items, none of which may be null.
+	 * @param theExecutor the executor.
+	 *
+	 * @return the publisher.
+	 *
+	 * @throws NullPointerException if the iterable or executor supplied is
+	 *                              null.
+	**/
+	public static <T> Publisher<T> fromIterable(Iterable<? extends T> theItems,
+												Executor theExecutor) {
+		Objects.requireNonNull(theItems);
+		Objects.requireNonNull(theExecutor);
+		return theSubscriber -> {
+			Objects.requireNonNull(theSubscriber);
+			new IterableDrain<T>(theItems.iterator(), theExecutor)
+											.start(theSubscriber);
+		};
+	}
+}
@@ -0,0 +1,408 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import uk.co.adambh.util.functions.MethodReferences.FunctionWithException;
+import uk.co.adambh.util.functions.MethodReferences.SupplierWithException;
+
+
+
+/**
+ * <p>Issues hedged calls: if a call has not completed after a delay, a
+ * duplicate call is started, the first to succeed is returned and the other
+ * is cancelled with an interrupt. This trades a little extra load for a
+ * shorter tail of slow calls.</p>
+ *
+ * <p>The delay is either fixed, or a percentile of the latencies recently
+ * observed, so that only the slowest calls are hedged. Extra load is limited
+ * by a budget: each call earns the budget given as a fraction of a hedge,
+ * each hedge spends a whole one, and no more than
+ * {@value #MAX_BUDGET_HEDGES} unspent hedges may be saved up. With a budget
+ * of 0.05 no more than about 5% of calls are hedged, however slow the
+ * calls become.</p>
+ *
+ * <p>Both calls run on the executor supplied, which must be able to run them
+ * concurrently; the calling thread waits for the result. If both calls fail,
+ * the exception of the call which failed first is thrown.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class Hedger {
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	/**
+	 * The most hedges the budget may save up.
+	**/
+	public static final int MAX_BUDGET_HEDGES = 10;
+
+	/**
+	 * The number of recent latencies kept to estimate the percentile delay.
+	**/
+	private static final int SAMPLES = 1024;
+
+	/**
+	 * The number of latencies recorded between estimates of the percentile
+	 * delay.
+	**/
+	private static final int ESTIMATE_INTERVAL = 64;
+
+	/**
+	 * The budget is held in millionths of a hedge.
+	**/
+	private static final long BUDGET_SCALE = 1000000;
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final Executor myExecutor;
+	private final double myPercentile;
+	private final long myBudgetPerCall;
+
+	private final AtomicLong myBudget = new AtomicLong(BUDGET_SCALE);
+	private final AtomicLongArray myLatencies = new AtomicLongArray(SAMPLES);
+	private final AtomicLong myRecorded = new AtomicLong();
+	private volatile long myDelayNanos;
+
+	private final LongAdder myCalls = new LongAdder();
+	private final LongAdder myHedges = new LongAdder();
+	private final LongAdder myHedgeWins = new LongAdder();
+	private final LongAdder myBudgetDenials = new LongAdder();
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private Hedger(Executor theExecutor,
+				   long theDelayNanos,
+				   double thePercentile,
+				   double theBudget) {
+		if (theExecutor==null) {
+			throw new NullPointerException("Can not accept a null executor");
+		}
+		if (theDelayNanos<0) {
+			throw new IllegalArgumentException("Delay must not be negative");
+		}
+		if (theBudget<0 || theBudget>1) {
+			throw new IllegalArgumentException("Budget must be from 0 to 1");
+		}
+		this.myExecutor = theExecutor;
+		this.myDelayNanos = theDelayNanos;
+		this.myPercentile = thePercentile;
+		this.myBudgetPerCall = (long)(theBudget * BUDGET_SCALE);
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Calls the supplier on the executor, hedging the call if it has not
+	 * completed within the current delay and the budget allows, and returns
+	 * the first successful result.
+	 *
+	 * @param <T> the type returned by the supplier.
+	 * @param theSupplier the supplier.
+	 *
+	 * @return the first successful result.
+	 *
+	 * @throws Exception the exception of the first call to fail, if both
+	 *                   fail, or InterruptedException if the calling thread
+	 *                   is interrupted while waiting.
+	 * @throws NullPointerException if the supplier supplied is null.
+	**/
+	public <T> T call(SupplierWithException<? extends T> theSupplier)
+			throws Exception {
+		Objects.requireNonNull(theSupplier);
+		this.myCalls.increment();
+		deposit();
+
+		CompletionService<T> completions =
+								new ExecutorCompletionService<>(this.myExecutor);
+		long start = System.nanoTime();
+		Future<T> primary = completions.submit(theSupplier::get);
+		Future<T> hedge = null;
+		try {
+			Future<T> first = completions.poll(this.myDelayNanos,
+											   TimeUnit.NANOSECONDS);
+			if (first==null) {
+				if (withdraw()) {
+					this.myHedges.increment();
+					hedge = completions.submit(theSupplier::get);
+				}
+				else {
+					this.myBudgetDenials.increment();
+				}
+				first = completions.take();
+			}
+			int outstanding = hedge==null ? 0 : 1;
+			Exception failure = null;
+			for (Future<T> aFuture = first; ; aFuture = completions.take()) {
+				try {
+					T result = aFuture.get();
+					if (aFuture==hedge) {
+						this.myHedgeWins.increment();
+					}
+					record(System.nanoTime() - start);
+					return result;
+				}
+				catch (ExecutionException ee) {
+					if (failure==null) {
+						failure = unwrap(ee);
+					}
+					if (outstanding--==0) {
+						throw failure;
+					}
+				}
+			}
+		}
+		finally {
+			primary.cancel(true);
+			if (hedge!=null) {
+				hedge.cancel(true);
+			}
+		}
+	}
+
+
+	/**
+	 * Returns a supplier which makes hedged calls to the supplier given.
+	 *
+	 * @param <T> the type returned by the supplier.
+	 * @param theSupplier the supplier.
+	 *
+	 * @return the hedged supplier.
+	 *
+	 * @throws NullPointerException if the supplier supplied is null.
+	**/
+	public <T> SupplierWithException<T> hedged(
+								SupplierWithException<? extends T> theSupplier) {
+		Objects.requireNonNull(theSupplier);
+		return () -> call(theSupplier);
+	}
+
+
+	/**
+	 * Returns a function which makes hedged calls to the function given.
+	 *
+	 * @param <T> the type supplied to the function.
+	 * @param <R> the type returned by the function.
+	 * @param theFunction the function.
+	 *
+	 * @return the hedged function.
+	 *
+	 * @throws NullPointerException if the function supplied is null.
+	**/
+	public <T, R> FunctionWithException<T, R> hedged(
+				FunctionWithException<? super T, ? extends R> theFunction) {
+		Objects.requireNonNull(theFunction);
+		return (theValue) -> call(() -> theFunction.apply(theValue));
+	}
+
+
+	/**
+	 * Returns the delay after which a call is currently hedged.
+	**/
+	public long getDelay(TimeUnit theUnit) {
+		return theUnit.convert(this.myDelayNanos, TimeUnit.NANOSECONDS);
+	}
+
+
+	/**
+	 * Returns the number of calls made.
+	**/
+	public long getCalls() {
+		return this.myCalls.sum();
+	}
+
+
+	/**
+	 * Returns the number of calls which were hedged.
+	**/
+	public long getHedges() {
+		return this.myHedges.sum();
+	}
+
+
+	/**
+	 * Returns the number of hedged calls won by the hedge.
+	**/
+	public long getHedgeWins() {
+		return this.myHedgeWins.sum();
+	}
+
+
+	/**
+	 * Returns the number of calls which were due a hedge but were not hedged
+	 * as the budget was spent.
+	**/
+	public long getBudgetDenials() {
+		return this.myBudgetDenials.sum();
+	}
+
+
+	/**
+	 * Returns the fraction of calls which were hedged.
+	**/
+	public double getHedgeRate() {
+		long calls = this.myCalls.sum();
+		return calls==0 ? 0 : (double)this.myHedges.sum() / calls;
+	}
+
+
+	@Override
+	public String toString() {
+		return "Hedger[calls=" + getCalls() +
+			   ", hedges=" + getHedges() +
+			   ", hedgeWins=" + getHedgeWins() +
+			   ", budgetDenials=" + getBudgetDenials() +
+			   ", delayNanos=" + this.myDelayNanos + "]";
+	}
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+	private void deposit() {
+		long max = MAX_BUDGET_HEDGES * BUDGET_SCALE;
+		long current;
+		do {
+			current = this.myBudget.get();
+			if (current>=max) {
+				return;
+			}
+		}
+		while (!this.myBudget.compareAndSet(
+						current, Math.min(max, current + this.myBudgetPerCall)));
+	}
+
+
+	private boolean withdraw() {
+		long current;
+		do {
+			current = this.myBudget.get();
+			if (current<BUDGET_SCALE) {
+				return false;
+			}
+		}
+		while (!this.myBudget.compareAndSet(current, current - BUDGET_SCALE));
+		return true;
+	}
+
+
+	/**
+	 * Records the latency of a successful call and, every so often,
+	 * re-estimates the percentile delay.
+	**/
+	private void record(long theNanos) {
+		if (Double.isNaN(this.myPercentile)) {
+			return;
+		}
+		long count = this.myRecorded.getAndIncrement();
+		this.myLatencies.set((int)(count % SAMPLES), theNanos);
+		if ((count + 1) % ESTIMATE_INTERVAL==0) {
+			int samples = (int)Math.min(count + 1, SAMPLES);
+			long[] latencies = new long[samples];
+			for (int i = 0; i<samples; i++) {
+				latencies[i] = this.myLatencies.get(i);
+			}
+			Arrays.sort(latencies);
+			int index = (int)Math.ceil(this.myPercentile / 100 * samples) - 1;
+			this.myDelayNanos = latencies[Math.max(0, Math.min(samples - 1,
+															   index))];
+		}
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns a hedger which hedges calls which have not completed after the
+	 * delay supplied.
+	 *
+	 * @param theExecutor the executor to make calls on.
+	 * @param theDelay the delay.
+	 * @param theUnit the unit of the delay.
+	 * @param theBudget the fraction of a hedge earned by each call, from 0 to
+	 *                  1.
+	 *
+	 * @return the hedger.
+	 *
+	 * @throws NullPointerException if the executor or unit supplied is null.
+	 * @throws IllegalArgumentException if the delay is negative or the budget
+	 *                                  is not from 0 to 1.
+	**/
+	public static Hedger withDelay(Executor theExecutor,
+								   long theDelay,
+								   TimeUnit theUnit,
+								   double theBudget) {
+		return new Hedger(theExecutor,
+						  theUnit.toNanos(theDelay),
+						  Double.NaN,
+						  theBudget);
+	}
+
+
+	/**
+	 * Returns a hedger which hedges calls which have taken longer than the
+	 * given percentile of recent successful calls, such as 95 to hedge the
+	 * slowest 5%. Until 64 calls have succeeded the
+	 * initial delay supplied is used.
+	 *
+	 * @param theExecutor the executor to make calls on.
+	 * @param thePercentile the percentile, greater than 0 and at most 100.
+	 * @param theInitialDelay the delay used until the percentile is known.
+	 * @param theUnit the unit of the initial delay.
+	 * @param theBudget the fraction of a hedge earned by each call, from 0 to
+	 *                  1.
+	 *
+	 * @return the hedger.
+	 *
+	 * @throws NullPointerException if the executor or unit supplied is null.
+	 * @throws IllegalArgumentException if the percentile is out of range, the
+	 *                                  delay is negative or the budget is not
+	 *                                  from 0 to 1.
+	**/
+	public static Hedger withPercentile(Executor theExecutor,
+										double thePercentile,
+										long theInitialDelay,
+										TimeUnit theUnit,
+										double theBudget) {
+		if (!(thePercentile>0 && thePercentile<=100)) {
+			throw new IllegalArgumentException(
+								"Percentile must be greater than 0 and at most 100");
+		}
+		return new Hedger(theExecutor,
+						  theUnit.toNanos(theInitialDelay),
+						  thePercentile,
+						  theBudget);
+	}
+
+
+	private static Exception unwrap(ExecutionException theException) {
+		Throwable cause = theException.getCause();
+		if (cause instanceof Error) {
+			throw (Error)cause;
+		}
+		return cause instanceof Exception ? (Exception)cause : theException;
+	}
+}
@@ -0,0 +1,1859 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.lang.management.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import javax.management.*;
+
+import uk.co.adambh.util.functions.MethodReferences.*;
+
+
+
+/**
+ * <p>Provides decorators for each of the functional interfaces in
+ * {@link MethodReferences} which record, against a named call site, how long
+ * each call takes and the type of any exception thrown.</p>
+ *
+ * <p>Latencies are counted in a histogram of 64 buckets, bucket {@code i}
+ * counting calls which took from 2<sup>i-1</sup> to 2<sup>i</sup>-1
+ * nanoseconds, so percentiles are known to within a factor of two. Each
+ * bucket is a {@link LongAdder}, so recording neither locks nor contends;
+ * the cost of a call is two reads of {@link System#nanoTime()}, two adder
+ * increments and an update of the call site's maximum latency, a
+ * {@link LongAccumulator}. Snapshots of a call site may be taken and reset
+ * from code, and each call site is registered as an MXBean named
+ * {@code uk.co.adambh.util.functions:type=CallSite,name=<name>}.</p>
+ *
+ * <p>Instrumentation is switched off by running with the
+ * {@code uk.co.adambh.util.functions.instrumentation} system property set to
+ * false, in which case every decorator returns the function it was given, so
+ * there is no cost at all.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class Instrumentation {
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	private static final boolean ENABLED =
+						Boolean.parseBoolean(System.getProperty(
+								"uk.co.adambh.util.functions.instrumentation",
+								"true"));
+
+	private static final String DOMAIN = "uk.co.adambh.util.functions";
+
+	private static final ConcurrentHashMap<String, CallSite> CALL_SITES =
+														new ConcurrentHashMap<>();
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private Instrumentation() {}
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+	/**
+	 * The management interface of a call site.
+	**/
+	public interface CallSiteMXBean {
+
+		public long getCount();
+
+		public long getFailures();
+
+		public double getMeanNanos();
+
+		public long getMedianNanos();
+
+		public long getP99Nanos();
+
+		public long getMaxNanos();
+
+		public Map<String, Long> getFailuresByType();
+
+		public void reset();
+	}
+
+
+	/**
+	 * A snapshot of the calls made at a call site.
+	**/
+	public static final class Snapshot {
+
+		private final String myName;
+		private final long[] myBuckets;
+		private final long myCount;
+		private final long myTotalNanos;
+		private final long myMaxNanos;
+		private final Map<String, Long> myFailures;
+		private final long myFailureCount;
+
+		private Snapshot(String theName,
+						 long[] theBuckets,
+						 long theTotalNanos,
+						 long theMaxNanos,
+						 Map<String, Long> theFailures) {
+			this.myName = theName;
+			this.myBuckets = theBuckets;
+			this.myTotalNanos = theTotalNanos;
+			this.myMaxNanos = theMaxNanos;
+			this.myFailures = Collections.unmodifiableMap(theFailures);
+			long count = 0;
+			for (long aBucket: theBuckets) {
+				count += aBucket;
+			}
+			this.myCount = count;
+			long failures = 0;
+			for (long aFailures: theFailures.values()) {
+				failures += aFailures;
+			}
+			this.myFailureCount = failures;
+		}
+
+
+		public String getName() {
+			return this.myName;
+		}
+
+
+		/**
+		 * Returns the number of calls, successful or not.
+		**/
+		public long getCount() {
+			return this.myCount;
+		}
+
+
+		/**
+		 * Returns the number of calls which threw.
+		**/
+		public long getFailures() {
+			return this.myFailureCount;
+		}
+
+
+		/**
+		 * Returns the number of calls which threw, by the class name of the
+		 * throwable.
+		**/
+		public Map<String, Long> getFailuresByType() {
+			return this.myFailures;
+		}
+
+
+		public long getTotalNanos() {
+			return this.myTotalNanos;
+		}
+
+
+		public double getMeanNanos() {
+			return this.myCount==0 ? 0 : (double)this.myTotalNanos / this.myCount;
+		}
+
+
+		/**
+		 * Returns the longest latency of any call, in nanoseconds, or 0 if
+		 * there were none.
+		**/
+		public long getMaxNanos() {
+			return this.myMaxNanos;
+		}
+
+
+		/**
+		 * Returns the count of each of the 64 latency buckets.
+		**/
+		public long[] getBuckets() {
+			return this.myBuckets.clone();
+		}
+
+
+		/**
+		 * Returns an upper bound of the latency, in nanoseconds, within which
+		 * the given percentile of calls completed, or 0 if there were none.
+		 *
+		 * @param thePercentile the percentile, from 0 to 100.
+		**/
+		public long getPercentileNanos(double thePercentile) {
+			if (this.myCount==0) {
+				return 0;
+			}
+			long rank = (long)Math.ceil(thePercentile / 100 * this.myCount);
+			long seen = 0;
+			for (int i = 0; i<this.myBuckets.length; i++) {
+				seen += this.myBuckets[i];
+				if (seen>=Math.max(1, rank)) {
+					return i==63 ? Long.MAX_VALUE : (1L << i) - 1;
+				}
+			}
+			return Long.MAX_VALUE;
+		}
+
+
+		@Override
+		public String toString() {
+			return this.myName +
+				   "[count=" + this.myCount +
+				   ", failures=" + this.myFailureCount +
+				   ", meanNanos=" + (long)getMeanNanos() +
+				   ", p50Nanos<=" + getPercentileNanos(50) +
+				   ", p99Nanos<=" + getPercentileNanos(99) +
+				   ", maxNanos=" + this.myMaxNanos + "]";
+		}
+	}
+
+
+	/**
+	 * The counts of a call site.
+	**/
+	private static final class CallSite implements CallSiteMXBean {
+
+		private final String myName;
+		private final LongAdder[] myBuckets = new LongAdder[64];
+		private final LongAdder myTotalNanos = new LongAdder();
+		private final LongAccumulator myMaxNanos = new LongAccumulator(Math::max, 0);
+		private final ConcurrentHashMap<Class<?>, LongAdder> myFailures =
+														new ConcurrentHashMap<>();
+
+		private CallSite(String theName) {
+			this.myName = theName;
+			for (int i = 0; i<this.myBuckets.length; i++) {
+				this.myBuckets[i] = new LongAdder();
+			}
+		}
+
+
+		private void success(long theNanos) {
+			record(theNanos);
+		}
+
+
+		private void failure(long theNanos, Throwable theThrowable) {
+			record(theNanos);
+			LongAdder failures = this.myFailures.get(theThrowable.getClass());
+			if (failures==null) {
+				failures = this.myFailures.computeIfAbsent(theThrowable.getClass(),
+														   theClass -> new LongAdder());
+			}
+			failures.increment();
+		}
+
+
+		private void record(long theNanos) {
+			long nanos = Math.max(0, theNanos);
+			this.myBuckets[64 - Long.numberOfLeadingZeros(nanos) & 63].increment();
+			this.myTotalNanos.add(nanos);
+			this.myMaxNanos.accumulate(nanos);
+		}
+
+
+		private Snapshot snapshot(boolean theReset) {
+			long[] buckets = new long[this.myBuckets.length];
+			for (int i = 0; i<buckets.length; i++) {
+				buckets[i] = theReset ?
+								this.myBuckets[i].sumThenReset() :
+								this.myBuckets[i].sum();
+			}
+			Map<String, Long> failures = new TreeMap<>();
+			for (Map.Entry<Class<?>, LongAdder> aEntry: this.myFailures.entrySet()) {
+				long count = theReset ?
+								aEntry.getValue().sumThenReset() :
+								aEntry.getValue().sum();
+				if (count>0) {
+					failures.merge(aEntry.getKey().getName(), count, Long::sum);
+				}
+			}
+			return new Snapshot(this.myName,
+								buckets,
+								theReset ?
+									this.myTotalNanos.sumThenReset() :
+									this.myTotalNanos.sum(),
+								theReset ?
+									this.myMaxNanos.getThenReset() :
+									this.myMaxNanos.get(),
+								failures);
+		}
+
+
+		@Override
+		public long getCount() {
+			return snapshot(false).getCount();
+		}
+
+
+		@Override
+		public long getFailures() {
+			return snapshot(false).getFailures();
+		}
+
+
+		@Override
+		public double getMeanNanos() {
+			return snapshot(false).getMeanNanos();
+		}
+
+
+		@Override
+		public long getMedianNanos() {
+			return snapshot(false).getPercentileNanos(50);
+		}
+
+
+		@Override
+		public long getP99Nanos() {
+			return snapshot(false).getPercentileNanos(99);
+		}
+
+
+		@Override
+		public long getMaxNanos() {
+			return this.myMaxNanos.get();
+		}
+
+
+		@Override
+		public Map<String, Long> getFailuresByType() {
+			return snapshot(false).getFailuresByType();
+		}
+
+
+		@Override
+		public void reset() {
+			snapshot(true);
+		}
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns the consumer decorated to record each call against the named
+	 * call site, or the consumer itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theConsumer the consumer.
+	 *
+	 * @return the instrumented consumer.
+	 *
+	 * @throws NullPointerException if the name or consumer supplied is null.
+	**/
+	public static <T> ConsumerWithException<T> instrumented(
+						String theName,
+						ConsumerWithException<T> theConsumer) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theConsumer);
+		if (!ENABLED) {
+			return theConsumer;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				theConsumer.accept(theValue);
+				site.success(System.nanoTime() - start);
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the consumer decorated to record each call against the named
+	 * call site, or the consumer itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theConsumer the consumer.
+	 *
+	 * @return the instrumented consumer.
+	 *
+	 * @throws NullPointerException if the name or consumer supplied is null.
+	**/
+	public static <T, U> BiConsumerWithException<T, U> instrumented(
+						String theName,
+						BiConsumerWithException<T, U> theConsumer) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theConsumer);
+		if (!ENABLED) {
+			return theConsumer;
+		}
+		CallSite site = callSite(theName);
+		return (theFirstValue, theSecondValue) -> {
+			long start = System.nanoTime();
+			try {
+				theConsumer.accept(theFirstValue, theSecondValue);
+				site.success(System.nanoTime() - start);
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static <T, R> FunctionWithException<T, R> instrumented(
+						String theName,
+						FunctionWithException<T, R> theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				R result = theFunction.apply(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static <T, U, R> BiFunctionWithException<T, U, R> instrumented(
+						String theName,
+						BiFunctionWithException<T, U, R> theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theFirstValue, theSecondValue) -> {
+			long start = System.nanoTime();
+			try {
+				R result = theFunction.apply(theFirstValue, theSecondValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the supplier decorated to record each call against the named
+	 * call site, or the supplier itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theSupplier the supplier.
+	 *
+	 * @return the instrumented supplier.
+	 *
+	 * @throws NullPointerException if the name or supplier supplied is null.
+	**/
+	public static <T> SupplierWithException<T> instrumented(
+						String theName,
+						SupplierWithException<T> theSupplier) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theSupplier);
+		if (!ENABLED) {
+			return theSupplier;
+		}
+		CallSite site = callSite(theName);
+		return () -> {
+			long start = System.nanoTime();
+			try {
+				T result = theSupplier.get();
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the predicate decorated to record each call against the named
+	 * call site, or the predicate itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param thePredicate the predicate.
+	 *
+	 * @return the instrumented predicate.
+	 *
+	 * @throws NullPointerException if the name or predicate supplied is null.
+	**/
+	public static <T> PredicateWithException<T> instrumented(
+						String theName,
+						PredicateWithException<T> thePredicate) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(thePredicate);
+		if (!ENABLED) {
+			return thePredicate;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				boolean result = thePredicate.test(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the predicate decorated to record each call against the named
+	 * call site, or the predicate itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param thePredicate the predicate.
+	 *
+	 * @return the instrumented predicate.
+	 *
+	 * @throws NullPointerException if the name or predicate supplied is null.
+	**/
+	public static <T, U> BiPredicateWithException<T, U> instrumented(
+						String theName,
+						BiPredicateWithException<T, U> thePredicate) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(thePredicate);
+		if (!ENABLED) {
+			return thePredicate;
+		}
+		CallSite site = callSite(theName);
+		return (theFirstValue, theSecondValue) -> {
+			long start = System.nanoTime();
+			try {
+				boolean result = thePredicate.test(theFirstValue, theSecondValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static <R> IntFunctionWithException<R> instrumentedIntFunction(
+						String theName,
+						IntFunctionWithException<R> theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				R result = theFunction.apply(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static <R> LongFunctionWithException<R> instrumentedLongFunction(
+						String theName,
+						LongFunctionWithException<R> theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				R result = theFunction.apply(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static <R> DoubleFunctionWithException<R> instrumentedDoubleFunction(
+						String theName,
+						DoubleFunctionWithException<R> theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				R result = theFunction.apply(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static <T> ToIntFunctionWithException<T> instrumentedToIntFunction(
+						String theName,
+						ToIntFunctionWithException<T> theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				int result = theFunction.applyAsInt(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static <T> ToLongFunctionWithException<T> instrumentedToLongFunction(
+						String theName,
+						ToLongFunctionWithException<T> theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				long result = theFunction.applyAsLong(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static <T> ToDoubleFunctionWithException<T> instrumentedToDoubleFunction(
+						String theName,
+						ToDoubleFunctionWithException<T> theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				double result = theFunction.applyAsDouble(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static <T, U> ToIntBiFunctionWithException<T, U> instrumentedToIntBiFunction(
+						String theName,
+						ToIntBiFunctionWithException<T, U> theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theFirstValue, theSecondValue) -> {
+			long start = System.nanoTime();
+			try {
+				int result = theFunction.applyAsInt(theFirstValue, theSecondValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static <T, U> ToLongBiFunctionWithException<T, U> instrumentedToLongBiFunction(
+						String theName,
+						ToLongBiFunctionWithException<T, U> theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theFirstValue, theSecondValue) -> {
+			long start = System.nanoTime();
+			try {
+				long result = theFunction.applyAsLong(theFirstValue, theSecondValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static <T, U> ToDoubleBiFunctionWithException<T, U> instrumentedToDoubleBiFunction(
+						String theName,
+						ToDoubleBiFunctionWithException<T, U> theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theFirstValue, theSecondValue) -> {
+			long start = System.nanoTime();
+			try {
+				double result = theFunction.applyAsDouble(theFirstValue, theSecondValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static IntToLongFunctionWithException instrumentedIntToLongFunction(
+						String theName,
+						IntToLongFunctionWithException theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				long result = theFunction.applyAsLong(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static IntToDoubleFunctionWithException instrumentedIntToDoubleFunction(
+						String theName,
+						IntToDoubleFunctionWithException theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				double result = theFunction.applyAsDouble(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static LongToIntFunctionWithException instrumentedLongToIntFunction(
+						String theName,
+						LongToIntFunctionWithException theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				int result = theFunction.applyAsInt(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static LongToDoubleFunctionWithException instrumentedLongToDoubleFunction(
+						String theName,
+						LongToDoubleFunctionWithException theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				double result = theFunction.applyAsDouble(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static DoubleToIntFunctionWithException instrumentedDoubleToIntFunction(
+						String theName,
+						DoubleToIntFunctionWithException theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				int result = theFunction.applyAsInt(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the function decorated to record each call against the named
+	 * call site, or the function itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theFunction the function.
+	 *
+	 * @return the instrumented function.
+	 *
+	 * @throws NullPointerException if the name or function supplied is null.
+	**/
+	public static DoubleToLongFunctionWithException instrumentedDoubleToLongFunction(
+						String theName,
+						DoubleToLongFunctionWithException theFunction) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theFunction);
+		if (!ENABLED) {
+			return theFunction;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				long result = theFunction.applyAsLong(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the operator decorated to record each call against the named
+	 * call site, or the operator itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theOperator the operator.
+	 *
+	 * @return the instrumented operator.
+	 *
+	 * @throws NullPointerException if the name or operator supplied is null.
+	**/
+	public static IntUnaryOperatorWithException instrumentedIntUnaryOperator(
+						String theName,
+						IntUnaryOperatorWithException theOperator) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theOperator);
+		if (!ENABLED) {
+			return theOperator;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				int result = theOperator.applyAsInt(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the operator decorated to record each call against the named
+	 * call site, or the operator itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theOperator the operator.
+	 *
+	 * @return the instrumented operator.
+	 *
+	 * @throws NullPointerException if the name or operator supplied is null.
+	**/
+	public static LongUnaryOperatorWithException instrumentedLongUnaryOperator(
+						String theName,
+						LongUnaryOperatorWithException theOperator) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theOperator);
+		if (!ENABLED) {
+			return theOperator;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				long result = theOperator.applyAsLong(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the operator decorated to record each call against the named
+	 * call site, or the operator itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theOperator the operator.
+	 *
+	 * @return the instrumented operator.
+	 *
+	 * @throws NullPointerException if the name or operator supplied is null.
+	**/
+	public static DoubleUnaryOperatorWithException instrumentedDoubleUnaryOperator(
+						String theName,
+						DoubleUnaryOperatorWithException theOperator) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theOperator);
+		if (!ENABLED) {
+			return theOperator;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				double result = theOperator.applyAsDouble(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the operator decorated to record each call against the named
+	 * call site, or the operator itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theOperator the operator.
+	 *
+	 * @return the instrumented operator.
+	 *
+	 * @throws NullPointerException if the name or operator supplied is null.
+	**/
+	public static IntBinaryOperatorWithException instrumentedIntBinaryOperator(
+						String theName,
+						IntBinaryOperatorWithException theOperator) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theOperator);
+		if (!ENABLED) {
+			return theOperator;
+		}
+		CallSite site = callSite(theName);
+		return (theFirstValue, theSecondValue) -> {
+			long start = System.nanoTime();
+			try {
+				int result = theOperator.applyAsInt(theFirstValue, theSecondValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the operator decorated to record each call against the named
+	 * call site, or the operator itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theOperator the operator.
+	 *
+	 * @return the instrumented operator.
+	 *
+	 * @throws NullPointerException if the name or operator supplied is null.
+	**/
+	public static LongBinaryOperatorWithException instrumentedLongBinaryOperator(
+						String theName,
+						LongBinaryOperatorWithException theOperator) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theOperator);
+		if (!ENABLED) {
+			return theOperator;
+		}
+		CallSite site = callSite(theName);
+		return (theFirstValue, theSecondValue) -> {
+			long start = System.nanoTime();
+			try {
+				long result = theOperator.applyAsLong(theFirstValue, theSecondValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the operator decorated to record each call against the named
+	 * call site, or the operator itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theOperator the operator.
+	 *
+	 * @return the instrumented operator.
+	 *
+	 * @throws NullPointerException if the name or operator supplied is null.
+	**/
+	public static DoubleBinaryOperatorWithException instrumentedDoubleBinaryOperator(
+						String theName,
+						DoubleBinaryOperatorWithException theOperator) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theOperator);
+		if (!ENABLED) {
+			return theOperator;
+		}
+		CallSite site = callSite(theName);
+		return (theFirstValue, theSecondValue) -> {
+			long start = System.nanoTime();
+			try {
+				double result = theOperator.applyAsDouble(theFirstValue, theSecondValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the predicate decorated to record each call against the named
+	 * call site, or the predicate itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param thePredicate the predicate.
+	 *
+	 * @return the instrumented predicate.
+	 *
+	 * @throws NullPointerException if the name or predicate supplied is null.
+	**/
+	public static IntPredicateWithException instrumentedIntPredicate(
+						String theName,
+						IntPredicateWithException thePredicate) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(thePredicate);
+		if (!ENABLED) {
+			return thePredicate;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				boolean result = thePredicate.test(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the predicate decorated to record each call against the named
+	 * call site, or the predicate itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param thePredicate the predicate.
+	 *
+	 * @return the instrumented predicate.
+	 *
+	 * @throws NullPointerException if the name or predicate supplied is null.
+	**/
+	public static LongPredicateWithException instrumentedLongPredicate(
+						String theName,
+						LongPredicateWithException thePredicate) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(thePredicate);
+		if (!ENABLED) {
+			return thePredicate;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				boolean result = thePredicate.test(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the predicate decorated to record each call against the named
+	 * call site, or the predicate itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param thePredicate the predicate.
+	 *
+	 * @return the instrumented predicate.
+	 *
+	 * @throws NullPointerException if the name or predicate supplied is null.
+	**/
+	public static DoublePredicateWithException instrumentedDoublePredicate(
+						String theName,
+						DoublePredicateWithException thePredicate) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(thePredicate);
+		if (!ENABLED) {
+			return thePredicate;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				boolean result = thePredicate.test(theValue);
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the consumer decorated to record each call against the named
+	 * call site, or the consumer itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theConsumer the consumer.
+	 *
+	 * @return the instrumented consumer.
+	 *
+	 * @throws NullPointerException if the name or consumer supplied is null.
+	**/
+	public static IntConsumerWithException instrumentedIntConsumer(
+						String theName,
+						IntConsumerWithException theConsumer) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theConsumer);
+		if (!ENABLED) {
+			return theConsumer;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				theConsumer.accept(theValue);
+				site.success(System.nanoTime() - start);
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the consumer decorated to record each call against the named
+	 * call site, or the consumer itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theConsumer the consumer.
+	 *
+	 * @return the instrumented consumer.
+	 *
+	 * @throws NullPointerException if the name or consumer supplied is null.
+	**/
+	public static LongConsumerWithException instrumentedLongConsumer(
+						String theName,
+						LongConsumerWithException theConsumer) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theConsumer);
+		if (!ENABLED) {
+			return theConsumer;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				theConsumer.accept(theValue);
+				site.success(System.nanoTime() - start);
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the consumer decorated to record each call against the named
+	 * call site, or the consumer itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theConsumer the consumer.
+	 *
+	 * @return the instrumented consumer.
+	 *
+	 * @throws NullPointerException if the name or consumer supplied is null.
+	**/
+	public static DoubleConsumerWithException instrumentedDoubleConsumer(
+						String theName,
+						DoubleConsumerWithException theConsumer) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theConsumer);
+		if (!ENABLED) {
+			return theConsumer;
+		}
+		CallSite site = callSite(theName);
+		return (theValue) -> {
+			long start = System.nanoTime();
+			try {
+				theConsumer.accept(theValue);
+				site.success(System.nanoTime() - start);
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the consumer decorated to record each call against the named
+	 * call site, or the consumer itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theConsumer the consumer.
+	 *
+	 * @return the instrumented consumer.
+	 *
+	 * @throws NullPointerException if the name or consumer supplied is null.
+	**/
+	public static <T> ObjIntConsumerWithException<T> instrumentedObjIntConsumer(
+						String theName,
+						ObjIntConsumerWithException<T> theConsumer) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theConsumer);
+		if (!ENABLED) {
+			return theConsumer;
+		}
+		CallSite site = callSite(theName);
+		return (theFirstValue, theSecondValue) -> {
+			long start = System.nanoTime();
+			try {
+				theConsumer.accept(theFirstValue, theSecondValue);
+				site.success(System.nanoTime() - start);
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the consumer decorated to record each call against the named
+	 * call site, or the consumer itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theConsumer the consumer.
+	 *
+	 * @return the instrumented consumer.
+	 *
+	 * @throws NullPointerException if the name or consumer supplied is null.
+	**/
+	public static <T> ObjLongConsumerWithException<T> instrumentedObjLongConsumer(
+						String theName,
+						ObjLongConsumerWithException<T> theConsumer) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theConsumer);
+		if (!ENABLED) {
+			return theConsumer;
+		}
+		CallSite site = callSite(theName);
+		return (theFirstValue, theSecondValue) -> {
+			long start = System.nanoTime();
+			try {
+				theConsumer.accept(theFirstValue, theSecondValue);
+				site.success(System.nanoTime() - start);
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the consumer decorated to record each call against the named
+	 * call site, or the consumer itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theConsumer the consumer.
+	 *
+	 * @return the instrumented consumer.
+	 *
+	 * @throws NullPointerException if the name or consumer supplied is null.
+	**/
+	public static <T> ObjDoubleConsumerWithException<T> instrumentedObjDoubleConsumer(
+						String theName,
+						ObjDoubleConsumerWithException<T> theConsumer) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theConsumer);
+		if (!ENABLED) {
+			return theConsumer;
+		}
+		CallSite site = callSite(theName);
+		return (theFirstValue, theSecondValue) -> {
+			long start = System.nanoTime();
+			try {
+				theConsumer.accept(theFirstValue, theSecondValue);
+				site.success(System.nanoTime() - start);
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the supplier decorated to record each call against the named
+	 * call site, or the supplier itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theSupplier the supplier.
+	 *
+	 * @return the instrumented supplier.
+	 *
+	 * @throws NullPointerException if the name or supplier supplied is null.
+	**/
+	public static IntSupplierWithException instrumentedIntSupplier(
+						String theName,
+						IntSupplierWithException theSupplier) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theSupplier);
+		if (!ENABLED) {
+			return theSupplier;
+		}
+		CallSite site = callSite(theName);
+		return () -> {
+			long start = System.nanoTime();
+			try {
+				int result = theSupplier.getAsInt();
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the supplier decorated to record each call against the named
+	 * call site, or the supplier itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theSupplier the supplier.
+	 *
+	 * @return the instrumented supplier.
+	 *
+	 * @throws NullPointerException if the name or supplier supplied is null.
+	**/
+	public static LongSupplierWithException instrumentedLongSupplier(
+						String theName,
+						LongSupplierWithException theSupplier) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theSupplier);
+		if (!ENABLED) {
+			return theSupplier;
+		}
+		CallSite site = callSite(theName);
+		return () -> {
+			long start = System.nanoTime();
+			try {
+				long result = theSupplier.getAsLong();
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the supplier decorated to record each call against the named
+	 * call site, or the supplier itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theSupplier the supplier.
+	 *
+	 * @return the instrumented supplier.
+	 *
+	 * @throws NullPointerException if the name or supplier supplied is null.
+	**/
+	public static DoubleSupplierWithException instrumentedDoubleSupplier(
+						String theName,
+						DoubleSupplierWithException theSupplier) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theSupplier);
+		if (!ENABLED) {
+			return theSupplier;
+		}
+		CallSite site = callSite(theName);
+		return () -> {
+			long start = System.nanoTime();
+			try {
+				double result = theSupplier.getAsDouble();
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns the supplier decorated to record each call against the named
+	 * call site, or the supplier itself if instrumentation is switched off.
+	 *
+	 * @param theName the name of the call site.
+	 * @param theSupplier the supplier.
+	 *
+	 * @return the instrumented supplier.
+	 *
+	 * @throws NullPointerException if the name or supplier supplied is null.
+	**/
+	public static BooleanSupplierWithException instrumentedBooleanSupplier(
+						String theName,
+						BooleanSupplierWithException theSupplier) {
+		Objects.requireNonNull(theName);
+		Objects.requireNonNull(theSupplier);
+		if (!ENABLED) {
+			return theSupplier;
+		}
+		CallSite site = callSite(theName);
+		return () -> {
+			long start = System.nanoTime();
+			try {
+				boolean result = theSupplier.getAsBoolean();
+				site.success(System.nanoTime() - start);
+				return result;
+			}
+			catch (Throwable t) {
+				site.failure(System.nanoTime() - start, t);
+				throw t;
+			}
+		};
+	}
+
+
+	/**
+	 * Returns true unless instrumentation has been switched off.
+	**/
+	public static boolean isEnabled() {
+		return ENABLED;
+	}
+
+
+	/**
+	 * Returns a snapshot of the named call site, or null if no function has
+	 * been instrumented with that name.
+	**/
+	public static Snapshot snapshot(String theName) {
+		CallSite site = CALL_SITES.get(theName);
+		return site==null ? null : site.snapshot(false);
+	}
+
+
+	/**
+	 * Returns a snapshot of the named call site and resets its counts, or null
+	 * if no function has been instrumented with that name. Calls completing
+	 * while the snapshot is taken may be split between it and the next.
+	**/
+	public static Snapshot snapshotAndReset(String theName) {
+		CallSite site = CALL_SITES.get(theName);
+		return site==null ? null : site.snapshot(true);
+	}
+
+
+	/**
+	 * Returns snapshots of every call site, by name.
+	**/
+	public static Map<String, Snapshot> snapshots() {
+		Map<String, Snapshot> snapshots = new TreeMap<>();
+		for (CallSite aSite: CALL_SITES.values()) {
+			snapshots.put(aSite.myName, aSite.snapshot(false));
+		}
+		return snapshots;
+	}
+
+
+	/**
+	 * Resets the counts of every call site.
+	**/
+	public static void resetAll() {
+		for (CallSite aSite: CALL_SITES.values()) {
+			aSite.snapshot(true);
+		}
+	}
+
+
+	private static CallSite callSite(String theName) {
+		if (theName==null) {
+			throw new NullPointerException("Can not accept a null name");
+		}
+		CallSite site = CALL_SITES.get(theName);
+		if (site==null) {
+			CallSite created = new CallSite(theName);
+			site = CALL_SITES.putIfAbsent(theName, created);
+			if (site==null) {
+				site = created;
+				register(created);
+			}
+		}
+		return site;
+	}
+
+
+	/**
+	 * Registers the call site with the platform MBean server, if there is one;
+	 * instrumentation carries on without it otherwise.
+	**/
+	private static void register(CallSite theSite) {
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(
+				new StandardMBean(theSite, CallSiteMXBean.class, true),
+				new ObjectName(DOMAIN + ":type=CallSite,name=" +
+							   ObjectName.quote(theSite.myName)));
+		}
+		catch (JMException | SecurityException | LinkageError e) {
+			// management is not available, so counts are only
+			// available from snapshots
+		}
+	}
+}
@@ -0,0 +1,633 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import uk.co.adambh.util.functions.MethodReferences.BiFunctionWithException;
+import uk.co.adambh.util.functions.MethodReferences.FunctionWithException;
+
+
+
+/**
+ * <p>A function which may throw, memoized in a bounded concurrent cache.</p>
+ *
+ * <p>Concurrent calls for a key which is not cached result in a single call to
+ * the function, the other callers waiting for its result. If the function
+ * throws, the exception is cached for the failure time to live given, during
+ * which calls for the key throw the same exception without calling the
+ * function again; a time to live of zero does not cache failures.</p>
+ *
+ * <p>Once the cache is full, a newly loaded key is only admitted if it has
+ * been asked for more often than the oldest cached key, which is then
+ * evicted; otherwise the new key's value is returned but not cached. How often
+ * each key is asked for is estimated with a small count-min sketch whose
+ * counts are halved periodically, so a burst of one-off keys can not flush a
+ * cache of frequently used ones. Hits only touch the concurrent map and the
+ * sketch, and do not lock.</p>
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class Memoizer<K, V> implements FunctionWithException<K, V> {
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final FunctionWithException<? super K, ? extends V> myFunction;
+	private final int myMaximumSize;
+	private final long myFailureTtlNanos;
+
+	private final ConcurrentHashMap<K, Node<K, V>> myNodes;
+	private final FrequencySketch mySketch;
+
+	/**
+	 * The sentinel of the circular list of admitted nodes, oldest first,
+	 * guarded by itself. Nodes are unlinked as soon as they are removed, so
+	 * the list only ever holds cached nodes.
+	**/
+	private final Node<K, V> myQueue = new Node<>(null);
+	private int myQueued;
+
+	private final LongAdder myHits = new LongAdder();
+	private final LongAdder myMisses = new LongAdder();
+	private final LongAdder myLoadFailures = new LongAdder();
+	private final LongAdder myEvictions = new LongAdder();
+	private final LongAdder myRejections = new LongAdder();
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private Memoizer(FunctionWithException<? super K, ? extends V> theFunction,
+					 int theMaximumSize,
+					 long theFailureTtl,
+					 TimeUnit theUnit) {
+		if (theFunction==null) {
+			throw new NullPointerException("Can not accept a null function");
+		}
+		if (theMaximumSize<1) {
+			throw new IllegalArgumentException("Maximum size must be positive");
+		}
+		if (theFailureTtl<0) {
+			throw new IllegalArgumentException(
+									"Failure time to live must not be negative");
+		}
+		this.myFunction = theFunction;
+		this.myMaximumSize = theMaximumSize;
+		this.myFailureTtlNanos = theUnit.toNanos(theFailureTtl);
+		this.myNodes = new ConcurrentHashMap<>(Math.min(theMaximumSize, 1 << 16));
+		this.mySketch = new FrequencySketch(theMaximumSize);
+		this.myQueue.myPrevious = this.myQueue;
+		this.myQueue.myNext = this.myQueue;
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns the cached value for the key, or calls the function to load it.
+	 *
+	 * @param theKey the key, which must not be null.
+	 *
+	 * @return the value.
+	 *
+	 * @throws Exception the exception thrown by the function for the key,
+	 *                   either now or within the failure time to live, or
+	 *                   InterruptedException if interrupted while waiting for
+	 *                   another caller's load.
+	 * @throws NullPointerException if the key supplied is null.
+	**/
+	@Override
+	public V apply(K theKey)
+			throws Exception {
+		if (theKey==null) {
+			throw new NullPointerException("Can not accept a null key");
+		}
+		this.mySketch.increment(theKey.hashCode());
+		while (true) {
+			Node<K, V> node = this.myNodes.get(theKey);
+			if (node==null) {
+				Node<K, V> created = new Node<>(theKey);
+				node = this.myNodes.putIfAbsent(theKey, created);
+				if (node==null) {
+					this.myMisses.increment();
+					return load(created);
+				}
+			}
+			if (node.isExpired()) {
+				if (this.myNodes.remove(theKey, node)) {
+					dequeue(node);
+				}
+				continue;
+			}
+			this.myHits.increment();
+			return node.await();
+		}
+	}
+
+
+	/**
+	 * Removes the key from the cache, so that its value is loaded again when
+	 * next asked for.
+	**/
+	public void invalidate(K theKey) {
+		Node<K, V> node = this.myNodes.remove(theKey);
+		if (node!=null) {
+			dequeue(node);
+		}
+	}
+
+
+	/**
+	 * Removes every key from the cache.
+	**/
+	public void invalidateAll() {
+		for (K aKey: this.myNodes.keySet()) {
+			invalidate(aKey);
+		}
+	}
+
+
+	/**
+	 * Returns the number of keys cached, including any being loaded.
+	**/
+	public int size() {
+		return this.myNodes.size();
+	}
+
+
+	/**
+	 * Returns a snapshot of the cache's statistics.
+	**/
+	public Stats getStats() {
+		return new Stats(this.myHits.sum(),
+						 this.myMisses.sum(),
+						 this.myLoadFailures.sum(),
+						 this.myEvictions.sum(),
+						 this.myRejections.sum());
+	}
+
+
+	@Override
+	public String toString() {
+		return "Memoizer[size=" + size() + ", " + getStats() + "]";
+	}
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+	private V load(Node<K, V> theNode)
+			throws Exception {
+		V value;
+		try {
+			value = this.myFunction.apply(theNode.myKey);
+		}
+		catch (Exception e) {
+			this.myLoadFailures.increment();
+			if (this.myFailureTtlNanos==0) {
+				this.myNodes.remove(theNode.myKey, theNode);
+				theNode.fail(e, 0);
+			}
+			else {
+				theNode.fail(e, System.nanoTime() + this.myFailureTtlNanos);
+				admit(theNode);
+			}
+			throw e;
+		}
+		catch (Error e) {
+			this.myNodes.remove(theNode.myKey, theNode);
+			theNode.fail(new ExecutionException(e), 0);
+			throw e;
+		}
+		theNode.complete(value);
+		admit(theNode);
+		return value;
+	}
+
+
+	/**
+	 * Admits the node just loaded into the queue, evicting the oldest node if
+	 * the cache is full and the new node's key is asked for more often, or
+	 * otherwise removing the new node.
+	**/
+	private void admit(Node<K, V> theNode) {
+		synchronized (this.myQueue) {
+			if (this.myNodes.get(theNode.myKey)!=theNode) {
+				return;
+			}
+			while (this.myQueued>=this.myMaximumSize) {
+				Node<K, V> victim = this.myQueue.myNext;
+				if (this.mySketch.frequency(theNode.myKey.hashCode()) <=
+					this.mySketch.frequency(victim.myKey.hashCode())) {
+					this.myNodes.remove(theNode.myKey, theNode);
+					this.myRejections.increment();
+					return;
+				}
+				victim.unlink();
+				this.myQueued--;
+				this.myNodes.remove(victim.myKey, victim);
+				this.myEvictions.increment();
+			}
+			theNode.linkBefore(this.myQueue);
+			this.myQueued++;
+		}
+	}
+
+
+	private void dequeue(Node<K, V> theNode) {
+		synchronized (this.myQueue) {
+			if (theNode.myNext!=null) {
+				theNode.unlink();
+				this.myQueued--;
+			}
+		}
+	}
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+	/**
+	 * A snapshot of a memoizer's statistics.
+	**/
+	public static final class Stats {
+
+		private final long myHits;
+		private final long myMisses;
+		private final long myLoadFailures;
+		private final long myEvictions;
+		private final long myRejections;
+
+		private Stats(long theHits,
+					  long theMisses,
+					  long theLoadFailures,
+					  long theEvictions,
+					  long theRejections) {
+			this.myHits = theHits;
+			this.myMisses = theMisses;
+			this.myLoadFailures = theLoadFailures;
+			this.myEvictions = theEvictions;
+			this.myRejections = theRejections;
+		}
+
+
+		/**
+		 * Returns the number of calls answered from the cache, including
+		 * cached failures and calls which waited for another caller's load.
+		**/
+		public long getHits() {
+			return this.myHits;
+		}
+
+
+		/**
+		 * Returns the number of calls which loaded a value.
+		**/
+		public long getMisses() {
+			return this.myMisses;
+		}
+
+
+		/**
+		 * Returns the number of loads which threw.
+		**/
+		public long getLoadFailures() {
+			return this.myLoadFailures;
+		}
+
+
+		/**
+		 * Returns the number of keys evicted to make room for another.
+		**/
+		public long getEvictions() {
+			return this.myEvictions;
+		}
+
+
+		/**
+		 * Returns the number of loaded keys not cached because they were
+		 * asked for less often than the key they would have evicted.
+		**/
+		public long getRejections() {
+			return this.myRejections;
+		}
+
+
+		public double getHitRate() {
+			long calls = this.myHits + this.myMisses;
+			return calls==0 ? 0 : (double)this.myHits / calls;
+		}
+
+
+		@Override
+		public String toString() {
+			return "hits=" + this.myHits +
+				   ", misses=" + this.myMisses +
+				   ", loadFailures=" + this.myLoadFailures +
+				   ", evictions=" + this.myEvictions +
+				   ", rejections=" + this.myRejections;
+		}
+	}
+
+
+	/**
+	 * A two argument function memoized on both of its arguments.
+	**/
+	public static final class Bi<T, U, V>
+									implements BiFunctionWithException<T, U, V> {
+
+		private final Memoizer<Map.Entry<T, U>, V> myMemoizer;
+
+		private Bi(Memoizer<Map.Entry<T, U>, V> theMemoizer) {
+			this.myMemoizer = theMemoizer;
+		}
+
+
+		@Override
+		public V apply(T theFirstValue, U theSecondValue)
+				throws Exception {
+			return this.myMemoizer.apply(
+					new AbstractMap.SimpleImmutableEntry<>(theFirstValue,
+														   theSecondValue));
+		}
+
+
+		public void invalidate(T theFirstValue, U theSecondValue) {
+			this.myMemoizer.invalidate(
+					new AbstractMap.SimpleImmutableEntry<>(theFirstValue,
+														   theSecondValue));
+		}
+
+
+		public void invalidateAll() {
+			this.myMemoizer.invalidateAll();
+		}
+
+
+		public int size() {
+			return this.myMemoizer.size();
+		}
+
+
+		public Stats getStats() {
+			return this.myMemoizer.getStats();
+		}
+
+
+		@Override
+		public String toString() {
+			return this.myMemoizer.toString();
+		}
+	}
+
+
+	/**
+	 * A cached key, whose value or failure is published once through a
+	 * latch so that callers arriving during the load wait for it.
+	**/
+	private static final class Node<K, V> {
+
+		private final K myKey;
+		private final CountDownLatch myLatch = new CountDownLatch(1);
+		private V myValue;
+		private Exception myFailure;
+		private long myExpiry;
+
+		/**
+		 * The neighbours of the node in the queue, null when not queued,
+		 * guarded by the queue.
+		**/
+		private Node<K, V> myPrevious;
+		private Node<K, V> myNext;
+
+		private Node(K theKey) {
+			this.myKey = theKey;
+		}
+
+
+		/**
+		 * Links the node in before the node supplied, which as the sentinel
+		 * puts it at the tail of the queue.
+		**/
+		private void linkBefore(Node<K, V> theNode) {
+			this.myNext = theNode;
+			this.myPrevious = theNode.myPrevious;
+			this.myPrevious.myNext = this;
+			theNode.myPrevious = this;
+		}
+
+
+		private void unlink() {
+			this.myPrevious.myNext = this.myNext;
+			this.myNext.myPrevious = this.myPrevious;
+			this.myPrevious = null;
+			this.myNext = null;
+		}
+
+
+		private void complete(V theValue) {
+			this.myValue = theValue;
+			this.myLatch.countDown();
+		}
+
+
+		private void fail(Exception theFailure, long theExpiry) {
+			this.myFailure = theFailure;
+			this.myExpiry = theExpiry;
+			this.myLatch.countDown();
+		}
+
+
+		private boolean isExpired() {
+			return this.myLatch.getCount()==0 &&
+				   this.myFailure!=null &&
+				   System.nanoTime() - this.myExpiry>=0;
+		}
+
+
+		private V await()
+				throws Exception {
+			this.myLatch.await();
+			if (this.myFailure!=null) {
+				throw this.myFailure;
+			}
+			return this.myValue;
+		}
+	}
+
+
+	/**
+	 * A count-min sketch of four rows of 4-bit counters, estimating how often
+	 * each key hash has been seen. Every time ten times the maximum size of the
+	 * cache has been counted, all counters are halved so that old frequency
+	 * decays. Only the thread whose increment completes the sample halves the
+	 * counters, the count of additions being atomic, so each sample is
+	 * halved exactly once. Otherwise the sketch is deliberately racy and
+	 * approximate: counter updates are not synchronized, so an increment
+	 * racing another, or the halving, of the same word may be lost, or may
+	 * undo that word's halving, which only makes the estimate slightly less
+	 * accurate.
+	**/
+	private static final class FrequencySketch {
+
+		private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L,
+			0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private final long[] myTable;
+		private final int myMask;
+		private final int mySampleSize;
+		private final AtomicInteger myAdditions = new AtomicInteger();
+
+		private FrequencySketch(int theMaximumSize) {
+			int width = Integer.highestOneBit(
+							Math.max(16, Math.min(theMaximumSize, 1 << 24)) - 1) << 1;
+			this.myTable = new long[width];
+			this.myMask = width - 1;
+			this.mySampleSize = (int)Math.min(10L * theMaximumSize,
+											  Integer.MAX_VALUE);
+		}
+
+
+		private void increment(int theHash) {
+			boolean added = false;
+			for (int i = 0; i<4; i++) {
+				int index = index(theHash, i);
+				int shift = counter(theHash, i);
+				long word = this.myTable[index];
+				if (((word >>> shift) & 0xf)!=0xf) {
+					this.myTable[index] = word + (1L << shift);
+					added = true;
+				}
+			}
+			if (added && this.myAdditions.incrementAndGet()==this.mySampleSize) {
+				reset();
+			}
+		}
+
+
+		private int frequency(int theHash) {
+			int frequency = Integer.MAX_VALUE;
+			for (int i = 0; i<4; i++) {
+				long word = this.myTable[index(theHash, i)];
+				frequency = Math.min(frequency,
+									 (int)((word >>> counter(theHash, i)) & 0xf));
+			}
+			return frequency;
+		}
+
+
+		/**
+		 * Halves every counter and then starts the next sample; additions
+		 * counted while halving are discarded with the old sample.
+		**/
+		private void reset() {
+			for (int i = 0; i<this.myTable.length; i++) {
+				this.myTable[i] = (this.myTable[i] >>> 1) & RESET_MASK;
+			}
+			this.myAdditions.set(0);
+		}
+
+
+		private int index(int theHash, int theRow) {
+			long hash = (theHash + SEEDS[theRow]) * SEEDS[theRow];
+			hash += hash >>> 32;
+			return (int)hash & this.myMask;
+		}
+
+
+		/**
+		 * Returns the shift of the key's counter within its word; each row
+		 * uses its own four of the word's sixteen counters.
+		**/
+		private int counter(int theHash, int theRow) {
+			int spread = theHash * 0x9e3779b9;
+			return ((theRow << 2) + ((spread >>> (theRow << 3)) & 3)) << 2;
+		}
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns the function memoized in a cache of the maximum size given.
+	 *
+	 * @param <K> the type supplied to the function.
+	 * @param <V> the type returned by the function.
+	 * @param theFunction the function.
+	 * @param theMaximumSize the maximum number of keys to cache.
+	 * @param theFailureTtl how long to cache a failure for, or zero not to.
+	 * @param theUnit the unit of the failure time to live.
+	 *
+	 * @return the memoized function.
+	 *
+	 * @throws NullPointerException if the function or unit supplied is null.
+	 * @throws IllegalArgumentException if the maximum size is not positive or
+	 *                                  the time to live is negative.
+	**/
+	public static <K, V> Memoizer<K, V> memoize(
+						FunctionWithException<? super K, ? extends V> theFunction,
+						int theMaximumSize,
+						long theFailureTtl,
+						TimeUnit theUnit) {
+		return new Memoizer<>(theFunction,
+							  theMaximumSize,
+							  theFailureTtl,
+							  theUnit);
+	}
+
+
+	/**
+	 * Returns the two argument function memoized on both of its arguments in
+	 * a cache of the maximum size given.
+	 *
+	 * @param <T> the first type supplied to the function.
+	 * @param <U> the second type supplied to the function.
+	 * @param <V> the type returned by the function.
+	 * @param theFunction the function.
+	 * @param theMaximumSize the maximum number of keys to cache.
+	 * @param theFailureTtl how long to cache a failure for, or zero not to.
+	 * @param theUnit the unit of the failure time to live.
+	 *
+	 * @return the memoized function.
+	 *
+	 * @throws NullPointerException if the function or unit supplied is null.
+	 * @throws IllegalArgumentException if the maximum size is not positive or
+	 *                                  the time to live is negative.
+	**/
+	public static <T, U, V> Bi<T, U, V> memoize(
+			BiFunctionWithException<? super T, ? super U, ? extends V> theFunction,
+			int theMaximumSize,
+			long theFailureTtl,
+			TimeUnit theUnit) {
+		Objects.requireNonNull(theFunction);
+		return new Bi<>(new Memoizer<Map.Entry<T, U>, V>(
+								theEntry -> theFunction.apply(theEntry.getKey(),
+															  theEntry.getValue()),
+								theMaximumSize,
+								theFailureTtl,
+								theUnit));
+	}
+}
@@ -145,51 +145,3732 @@ public final class MethodReferences {
         public boolean test(T theFirstValue, U theSecondValue)
                 throws Exception;
     }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link IntFunction#apply(int)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface IntFunctionWithException<R> {
+        public R apply(int theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link LongFunction#apply(long)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface LongFunctionWithException<R> {
+        public R apply(long theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link DoubleFunction#apply(double)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface DoubleFunctionWithException<R> {
+        public R apply(double theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link ToIntFunction#applyAsInt(Object)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface ToIntFunctionWithException<T> {
+        public int applyAsInt(T theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link ToLongFunction#applyAsLong(Object)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface ToLongFunctionWithException<T> {
+        public long applyAsLong(T theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link ToDoubleFunction#applyAsDouble(Object)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface ToDoubleFunctionWithException<T> {
+        public double applyAsDouble(T theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link ToIntBiFunction#applyAsInt(Object,Object)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface ToIntBiFunctionWithException<T, U> {
+        public int applyAsInt(T theFirstValue, U theSecondValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link ToLongBiFunction#applyAsLong(Object,Object)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface ToLongBiFunctionWithException<T, U> {
+        public long applyAsLong(T theFirstValue, U theSecondValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link ToDoubleBiFunction#applyAsDouble(Object,Object)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface ToDoubleBiFunctionWithException<T, U> {
+        public double applyAsDouble(T theFirstValue, U theSecondValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link IntToLongFunction#applyAsLong(int)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface IntToLongFunctionWithException {
+        public long applyAsLong(int theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link IntToDoubleFunction#applyAsDouble(int)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface IntToDoubleFunctionWithException {
+        public double applyAsDouble(int theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link LongToIntFunction#applyAsInt(long)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface LongToIntFunctionWithException {
+        public int applyAsInt(long theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link LongToDoubleFunction#applyAsDouble(long)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface LongToDoubleFunctionWithException {
+        public double applyAsDouble(long theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link DoubleToIntFunction#applyAsInt(double)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface DoubleToIntFunctionWithException {
+        public int applyAsInt(double theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link DoubleToLongFunction#applyAsLong(double)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface DoubleToLongFunctionWithException {
+        public long applyAsLong(double theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link IntUnaryOperator#applyAsInt(int)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface IntUnaryOperatorWithException {
+        public int applyAsInt(int theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link LongUnaryOperator#applyAsLong(long)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface LongUnaryOperatorWithException {
+        public long applyAsLong(long theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link DoubleUnaryOperator#applyAsDouble(double)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface DoubleUnaryOperatorWithException {
+        public double applyAsDouble(double theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link IntBinaryOperator#applyAsInt(int,int)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface IntBinaryOperatorWithException {
+        public int applyAsInt(int theFirstValue, int theSecondValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link LongBinaryOperator#applyAsLong(long,long)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface LongBinaryOperatorWithException {
+        public long applyAsLong(long theFirstValue, long theSecondValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link DoubleBinaryOperator#applyAsDouble(double,double)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface DoubleBinaryOperatorWithException {
+        public double applyAsDouble(double theFirstValue, double theSecondValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link IntPredicate#test(int)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface IntPredicateWithException {
+        public boolean test(int theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link LongPredicate#test(long)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface LongPredicateWithException {
+        public boolean test(long theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link DoublePredicate#test(double)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface DoublePredicateWithException {
+        public boolean test(double theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link IntConsumer#accept(int)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface IntConsumerWithException {
+        public void accept(int theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link LongConsumer#accept(long)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface LongConsumerWithException {
+        public void accept(long theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link DoubleConsumer#accept(double)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface DoubleConsumerWithException {
+        public void accept(double theValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link ObjIntConsumer#accept(Object,int)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface ObjIntConsumerWithException<T> {
+        public void accept(T theFirstValue, int theSecondValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link ObjLongConsumer#accept(Object,long)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface ObjLongConsumerWithException<T> {
+        public void accept(T theFirstValue, long theSecondValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link ObjDoubleConsumer#accept(Object,double)} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface ObjDoubleConsumerWithException<T> {
+        public void accept(T theFirstValue, double theSecondValue)
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link IntSupplier#getAsInt()} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface IntSupplierWithException {
+        public int getAsInt()
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link LongSupplier#getAsLong()} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface LongSupplierWithException {
+        public long getAsLong()
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link DoubleSupplier#getAsDouble()} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface DoubleSupplierWithException {
+        public double getAsDouble()
+                throws Exception;
+    }
+    
+    
+    /**
+     * Functional interface with a single method signature matching
+     * {@link BooleanSupplier#getAsBoolean()} but which
+     * additionally throws a checked exception.
+    **/
+    @FunctionalInterface
+    public interface BooleanSupplierWithException {
+        public boolean getAsBoolean()
+                throws Exception;
+    }
+	
+	
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Consumer#accept(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}. This allows methods 
+     * which previously could not be used as method references due to their 
+     * checked exception to now be used.
+     * 
+     * @param <T> the type to be consumed.
+     * @param theConsumer the consumer.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+	public static <T> Consumer<T> unchecked(
+                                ConsumerWithException<? super T> theConsumer) {
+        Objects.requireNonNull(theConsumer);
+		return (theValue) -> {
+			try {
+				theConsumer.accept(theValue);
+			}
+			catch (RuntimeException re) {
+				throw re;
+			}
+			catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link BiConsumer#accept(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}. This allows methods 
+     * which previously could not be used as method references due to their 
+     * checked exception to now be used.
+     * 
+     * @param <T> the first type to be consumed.
+     * @param <U> the second type to be consumed.
+     * @param theConsumer the consumer.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+    public static <T, U> BiConsumer<T, U> unchecked(
+                    BiConsumerWithException<? super T, ? super U> theConsumer) {
+        Objects.requireNonNull(theConsumer);
+		return (theFirstValue, theSecondValue) -> {
+			try {
+				theConsumer.accept(theFirstValue, theSecondValue);
+			}
+			catch (RuntimeException re) {
+				throw re;
+			}
+			catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Function#apply(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}. This allows methods 
+     * which previously could not be used as method references due to their 
+     * checked exception to now be used.
+     * 
+     * @param <T> the type supplied to the function.
+     * @param <R> the type returned by the function.
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+	public static <T, R> Function<T, R> unchecked(
+                            FunctionWithException<? super T, R> theFunction) {
+		Objects.requireNonNull(theFunction);
+        return (theValue) -> {
+			try {
+				return theFunction.apply(theValue);
+			}
+			catch (RuntimeException re) {
+				throw re;
+			}
+			catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link BiFunction#apply(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}. This allows methods 
+     * which previously could not be used as method references due to their 
+     * checked exception to now be used.
+     * 
+     * @param <T> the first type supplied to the function.
+     * @param <U> the second type supplied to the function.
+     * @param <R> the type returned by the function.
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+	public static <T, U, R> BiFunction<T, U, R> unchecked(
+						BiFunctionWithException<? super T, U, R> theFunction) {
+		Objects.requireNonNull(theFunction);
+        return (theFirstValue, theSecondValue) -> {
+			try {
+				return theFunction.apply(theFirstValue, theSecondValue);
+			}
+			catch (RuntimeException re) {
+				throw re;
+			}
+			catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Supplier#get()} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}. This allows methods 
+     * which previously could not be used as method references due to their 
+     * checked exception to now be used.
+     * 
+     * @param <T> the type returned by the supplier.
+     * @param theSupplier the supplier.
+     * 
+     * @return the wrapped supplier. 
+     * 
+     * @throws NullPointerException if the supplier supplied is null.
+    **/
+	public static <T> Supplier<T> unchecked(
+                                        SupplierWithException<T> theSupplier) {
+		Objects.requireNonNull(theSupplier);
+        return () -> {
+			try {
+				return theSupplier.get();
+			}
+			catch (RuntimeException re) {
+				throw re;
+			}
+			catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Predicate#test(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}. This allows methods 
+     * which previously could not be used as method references due to their 
+     * checked exception to now be used.
+     * 
+     * @param <T> the type supplied to the predicate.
+     * @param thePredicate the predicate.
+     * 
+     * @return the wrapped predicate. 
+     * 
+     * @throws NullPointerException if the predicate supplied is null.
+    **/
+    public static <T> Predicate<T> unchecked(
+                                    PredicateWithException<T> thePredicate) {
+        Objects.requireNonNull(thePredicate);
+        return (theValue) -> {
+            try {
+                return thePredicate.test(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link BiPredicate#test(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}. This allows methods 
+     * which previously could not be used as method references due to their 
+     * checked exception to now be used.
+     * 
+     * @param <T> the first type supplied to the predicate.
+     * @param <U> the second type supplied to the predicate.
+     * @param thePredicate the predicate.
+     * 
+     * @return the wrapped predicate. 
+     * 
+     * @throws NullPointerException if the predicate supplied is null.
+    **/
+    public static <T, U> BiPredicate<T, U> unchecked(
+                                BiPredicateWithException<T, U> thePredicate) {
+        Objects.requireNonNull(thePredicate);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return thePredicate.test(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
 	
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Consumer#accept(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied. This allows methods which 
+     * previously could not be used as method references due to their checked 
+     * exception to now be used, and additionally allows control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <T> the type to be consumed.
+     * @param <E> the type of runtime exception to be thrown. 
+     * @param theConsumer the consumer.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer or exception function 
+     *                              supplied is null.
+    **/
+	public static <T, E extends RuntimeException> Consumer<T> unchecked(
+								ConsumerWithException<? super T> theConsumer,
+								Function<Exception, E> theExceptionFunc) {
+		Objects.requireNonNull(theConsumer);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+			try {
+				theConsumer.accept(theValue);
+			}
+			catch (RuntimeException re) {
+				throw re;
+			}
+			catch (Exception e) {
+				throw theExceptionFunc.apply(e);
+			}
+		};
+	}
 	
-	// ************************************************************************\
-	// Static Methods                                                          *
-	// ************************************************************************/
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link BiConsumer#accept(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied. This allows methods which 
+     * previously could not be used as method references due to their checked 
+     * exception to now be used, and additionally allows control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <T> the first type to be consumed.
+     * @param <U> the second type to be consumed.
+     * @param <E> the type of runtime exception to be thrown. 
+     * @param theConsumer the consumer.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer or exception function 
+     *                              supplied is null.
+    **/
+	public static <T, U, E extends RuntimeException> BiConsumer<T, U> unchecked(
+					BiConsumerWithException<? super T, ? super U> theConsumer,
+					Function<Exception, E> theExceptionFunc) {
+		Objects.requireNonNull(theConsumer);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theFirstValue, theSecondValue) -> {
+			try {
+				theConsumer.accept(theFirstValue, theSecondValue);
+			}
+			catch (RuntimeException re) {
+				throw re;
+			}
+			catch (Exception e) {
+				throw theExceptionFunc.apply(e);
+			}
+		};
+	}
+
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Function#apply(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied. This allows methods which 
+     * previously could not be used as method references due to their checked 
+     * exception to now be used, and additionally allows control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <T> the type supplied to the function.
+     * @param <R> the type returned by the function.
+     * @param <E> the type of runtime exception to be thrown
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+	public static <T, R, E extends RuntimeException> Function<T, R> unchecked(
+								FunctionWithException<? super T, R> theFunction,
+								Function<Exception, E> theExceptionFunc) {
+		Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+			try {
+				return theFunction.apply(theValue);
+			}
+			catch (RuntimeException re) {
+				throw re;
+			}
+			catch (Exception e) {
+				throw theExceptionFunc.apply(e);
+			}
+		};
+	}
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link BiFunction#apply(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied. This allows methods which 
+     * previously could not be used as method references due to their checked 
+     * exception to now be used, and additionally allows control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <T> the first type supplied to the function.
+     * @param <U> the second type supplied to the function.
+     * @param <R> the type returned by the function.
+     * @param <E> the type of runtime exception to be thrown
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+	public static <T, U, R, E extends RuntimeException> BiFunction<T, U, R> 
+            unchecked(
+                BiFunctionWithException<? super T, ? super U, R> theFunction,
+				 Function<Exception, E> theExceptionFunc) {
+		Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theFirstValue, theSecondValue) -> {
+			try {
+				return theFunction.apply(theFirstValue, theSecondValue);
+			}
+			catch (RuntimeException re) {
+				throw re;
+			}
+			catch (Exception e) {
+				throw theExceptionFunc.apply(e);
+			}
+		};
+	}
 
+            
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Supplier#get()} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied. This allows methods which 
+     * previously could not be used as method references due to their checked 
+     * exception to now be used, and additionally allows control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <T> the type returned by the supplier.
+     * @param <E> the type of runtime exception to be thrown
+     * @param theSupplier the supplier.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped supplier. 
+     * 
+     * @throws NullPointerException if the supplier or exception function 
+     *                              supplied is null.
+    **/
+	public static <T, E extends RuntimeException> Supplier<T> unchecked(
+									SupplierWithException<T> theSupplier,
+									Function<Exception, E> theExceptionFunc) {
+		Objects.requireNonNull(theSupplier);
+        Objects.requireNonNull(theExceptionFunc);
+        return () -> {
+			try {
+				return theSupplier.get();
+			}
+			catch (RuntimeException re) {
+				throw re;
+			}
+			catch (Exception e) {
+				throw theExceptionFunc.apply(e);
+			}
+		};
+	}
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Predicate#test(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied. This allows methods which 
+     * previously could not be used as method references due to their checked 
+     * exception to now be used, and additionally allows control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <T> the type supplied to the predicate.
+     * @param <E> the type of runtime exception to be thrown
+     * @param thePredicate the predicate.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped predicate. 
+     * 
+     * @throws NullPointerException if the predicate or exception function 
+     *                              supplied is null.
+    **/
+    public static <T, E extends RuntimeException> Predicate<T> unchecked(
+                                    PredicateWithException<T> thePredicate,
+                                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(thePredicate);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return thePredicate.test(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link BiPredicate#test(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied. This allows methods which 
+     * previously could not be used as method references due to their checked 
+     * exception to now be used, and additionally allows control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <T> the first type supplied to the predicate.
+     * @param <U> the second type supplied to the predicate.
+     * @param <E> the type of runtime exception to be thrown
+     * @param thePredicate the predicate.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped predicate. 
+     * 
+     * @throws NullPointerException if the predicate or exception function 
+     *                              supplied is null.
+    **/
+    public static <T, U, E extends RuntimeException> BiPredicate<T, U> 
+            unchecked(
+                    BiPredicateWithException<? super T, ? super U> thePredicate,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(thePredicate);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return thePredicate.test(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Consumer#accept(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception unchanged without declaring it. No exception is created, so
+     * this is the cheapest way to fail, but callers must be prepared to
+     * catch a checked exception their compiler does not know about.
+     * 
+     * @param <T> the type to be consumed.
+     * @param theConsumer the consumer.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+    public static <T> Consumer<T> sneaky(
+                ConsumerWithException<? super T> theConsumer) {
+        Objects.requireNonNull(theConsumer);
+        return (theValue) -> {
+            try {
+                theConsumer.accept(theValue);
+            }
+            catch (Exception e) {
+                throw MethodReferences.<RuntimeException>sneakyThrow(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link BiConsumer#accept(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception unchanged without declaring it. No exception is created, so
+     * this is the cheapest way to fail, but callers must be prepared to
+     * catch a checked exception their compiler does not know about.
+     * 
+     * @param <T> the first type to be consumed.
+     * @param <U> the second type to be consumed.
+     * @param theConsumer the consumer.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+    public static <T, U> BiConsumer<T, U> sneaky(
+                BiConsumerWithException<? super T, ? super U> theConsumer) {
+        Objects.requireNonNull(theConsumer);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                theConsumer.accept(theFirstValue, theSecondValue);
+            }
+            catch (Exception e) {
+                throw MethodReferences.<RuntimeException>sneakyThrow(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Function#apply(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception unchanged without declaring it. No exception is created, so
+     * this is the cheapest way to fail, but callers must be prepared to
+     * catch a checked exception their compiler does not know about.
+     * 
+     * @param <T> the type supplied to the function.
+     * @param <R> the type returned by the function.
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static <T, R> Function<T, R> sneaky(
+                FunctionWithException<? super T, R> theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theValue) -> {
+            try {
+                return theFunction.apply(theValue);
+            }
+            catch (Exception e) {
+                throw MethodReferences.<RuntimeException>sneakyThrow(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link BiFunction#apply(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception unchanged without declaring it. No exception is created, so
+     * this is the cheapest way to fail, but callers must be prepared to
+     * catch a checked exception their compiler does not know about.
+     * 
+     * @param <T> the first type supplied to the function.
+     * @param <U> the second type supplied to the function.
+     * @param <R> the type returned by the function.
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static <T, U, R> BiFunction<T, U, R> sneaky(
+                BiFunctionWithException<? super T, U, R> theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return theFunction.apply(theFirstValue, theSecondValue);
+            }
+            catch (Exception e) {
+                throw MethodReferences.<RuntimeException>sneakyThrow(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Supplier#get()} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception unchanged without declaring it. No exception is created, so
+     * this is the cheapest way to fail, but callers must be prepared to
+     * catch a checked exception their compiler does not know about.
+     * 
+     * @param <T> the type returned by the supplier.
+     * @param theSupplier the supplier.
+     * 
+     * @return the wrapped supplier. 
+     * 
+     * @throws NullPointerException if the supplier supplied is null.
+    **/
+    public static <T> Supplier<T> sneaky(
+                SupplierWithException<T> theSupplier) {
+        Objects.requireNonNull(theSupplier);
+        return () -> {
+            try {
+                return theSupplier.get();
+            }
+            catch (Exception e) {
+                throw MethodReferences.<RuntimeException>sneakyThrow(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Predicate#test(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception unchanged without declaring it. No exception is created, so
+     * this is the cheapest way to fail, but callers must be prepared to
+     * catch a checked exception their compiler does not know about.
+     * 
+     * @param <T> the type supplied to the predicate.
+     * @param thePredicate the predicate.
+     * 
+     * @return the wrapped predicate. 
+     * 
+     * @throws NullPointerException if the predicate supplied is null.
+    **/
+    public static <T> Predicate<T> sneaky(
+                PredicateWithException<T> thePredicate) {
+        Objects.requireNonNull(thePredicate);
+        return (theValue) -> {
+            try {
+                return thePredicate.test(theValue);
+            }
+            catch (Exception e) {
+                throw MethodReferences.<RuntimeException>sneakyThrow(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link BiPredicate#test(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception unchanged without declaring it. No exception is created, so
+     * this is the cheapest way to fail, but callers must be prepared to
+     * catch a checked exception their compiler does not know about.
+     * 
+     * @param <T> the first type supplied to the predicate.
+     * @param <U> the second type supplied to the predicate.
+     * @param thePredicate the predicate.
+     * 
+     * @return the wrapped predicate. 
+     * 
+     * @throws NullPointerException if the predicate supplied is null.
+    **/
+    public static <T, U> BiPredicate<T, U> sneaky(
+                BiPredicateWithException<T, U> thePredicate) {
+        Objects.requireNonNull(thePredicate);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return thePredicate.test(theFirstValue, theSecondValue);
+            }
+            catch (Exception e) {
+                throw MethodReferences.<RuntimeException>sneakyThrow(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Consumer#accept(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link StacklessRuntimeException}, which does 
+     * not capture a stack trace.
+     * 
+     * @param <T> the type to be consumed.
+     * @param theConsumer the consumer.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+    public static <T> Consumer<T> uncheckedStackless(
+                ConsumerWithException<? super T> theConsumer) {
+        Objects.requireNonNull(theConsumer);
+        return (theValue) -> {
+            try {
+                theConsumer.accept(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new StacklessRuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link BiConsumer#accept(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link StacklessRuntimeException}, which does 
+     * not capture a stack trace.
+     * 
+     * @param <T> the first type to be consumed.
+     * @param <U> the second type to be consumed.
+     * @param theConsumer the consumer.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+    public static <T, U> BiConsumer<T, U> uncheckedStackless(
+                BiConsumerWithException<? super T, ? super U> theConsumer) {
+        Objects.requireNonNull(theConsumer);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                theConsumer.accept(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new StacklessRuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Function#apply(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link StacklessRuntimeException}, which does 
+     * not capture a stack trace.
+     * 
+     * @param <T> the type supplied to the function.
+     * @param <R> the type returned by the function.
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static <T, R> Function<T, R> uncheckedStackless(
+                FunctionWithException<? super T, R> theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theValue) -> {
+            try {
+                return theFunction.apply(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new StacklessRuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link BiFunction#apply(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link StacklessRuntimeException}, which does 
+     * not capture a stack trace.
+     * 
+     * @param <T> the first type supplied to the function.
+     * @param <U> the second type supplied to the function.
+     * @param <R> the type returned by the function.
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static <T, U, R> BiFunction<T, U, R> uncheckedStackless(
+                BiFunctionWithException<? super T, U, R> theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return theFunction.apply(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new StacklessRuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Supplier#get()} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link StacklessRuntimeException}, which does 
+     * not capture a stack trace.
+     * 
+     * @param <T> the type returned by the supplier.
+     * @param theSupplier the supplier.
+     * 
+     * @return the wrapped supplier. 
+     * 
+     * @throws NullPointerException if the supplier supplied is null.
+    **/
+    public static <T> Supplier<T> uncheckedStackless(
+                SupplierWithException<T> theSupplier) {
+        Objects.requireNonNull(theSupplier);
+        return () -> {
+            try {
+                return theSupplier.get();
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new StacklessRuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link Predicate#test(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link StacklessRuntimeException}, which does 
+     * not capture a stack trace.
+     * 
+     * @param <T> the type supplied to the predicate.
+     * @param thePredicate the predicate.
+     * 
+     * @return the wrapped predicate. 
+     * 
+     * @throws NullPointerException if the predicate supplied is null.
+    **/
+    public static <T> Predicate<T> uncheckedStackless(
+                PredicateWithException<T> thePredicate) {
+        Objects.requireNonNull(thePredicate);
+        return (theValue) -> {
+            try {
+                return thePredicate.test(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new StacklessRuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of {@link BiPredicate#test(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link StacklessRuntimeException}, which does 
+     * not capture a stack trace.
+     * 
+     * @param <T> the first type supplied to the predicate.
+     * @param <U> the second type supplied to the predicate.
+     * @param thePredicate the predicate.
+     * 
+     * @return the wrapped predicate. 
+     * 
+     * @throws NullPointerException if the predicate supplied is null.
+    **/
+    public static <T, U> BiPredicate<T, U> uncheckedStackless(
+                BiPredicateWithException<T, U> thePredicate) {
+        Objects.requireNonNull(thePredicate);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return thePredicate.test(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new StacklessRuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link IntFunction#apply(int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param <R> the type returned by the function.
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static <R> IntFunction<R> uncheckedIntFunction(
+                IntFunctionWithException<R> theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theValue) -> {
+            try {
+                return theFunction.apply(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongFunction#apply(long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param <R> the type returned by the function.
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static <R> LongFunction<R> uncheckedLongFunction(
+                LongFunctionWithException<R> theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theValue) -> {
+            try {
+                return theFunction.apply(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoubleFunction#apply(double)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param <R> the type returned by the function.
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static <R> DoubleFunction<R> uncheckedDoubleFunction(
+                DoubleFunctionWithException<R> theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theValue) -> {
+            try {
+                return theFunction.apply(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ToIntFunction#applyAsInt(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param <T> the type supplied to the function.
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static <T> ToIntFunction<T> uncheckedToIntFunction(
+                ToIntFunctionWithException<? super T> theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsInt(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ToLongFunction#applyAsLong(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param <T> the type supplied to the function.
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static <T> ToLongFunction<T> uncheckedToLongFunction(
+                ToLongFunctionWithException<? super T> theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsLong(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ToDoubleFunction#applyAsDouble(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param <T> the type supplied to the function.
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static <T> ToDoubleFunction<T> uncheckedToDoubleFunction(
+                ToDoubleFunctionWithException<? super T> theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsDouble(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ToIntBiFunction#applyAsInt(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param <T> the first type supplied to the function.
+     * @param <U> the second type supplied to the function.
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static <T, U> ToIntBiFunction<T, U> uncheckedToIntBiFunction(
+                ToIntBiFunctionWithException<? super T, ? super U> theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return theFunction.applyAsInt(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ToLongBiFunction#applyAsLong(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param <T> the first type supplied to the function.
+     * @param <U> the second type supplied to the function.
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static <T, U> ToLongBiFunction<T, U> uncheckedToLongBiFunction(
+                ToLongBiFunctionWithException<? super T, ? super U> theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return theFunction.applyAsLong(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ToDoubleBiFunction#applyAsDouble(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param <T> the first type supplied to the function.
+     * @param <U> the second type supplied to the function.
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static <T, U> ToDoubleBiFunction<T, U> uncheckedToDoubleBiFunction(
+                ToDoubleBiFunctionWithException<? super T, ? super U> theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return theFunction.applyAsDouble(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link IntToLongFunction#applyAsLong(int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static IntToLongFunction uncheckedIntToLongFunction(
+                IntToLongFunctionWithException theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsLong(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link IntToDoubleFunction#applyAsDouble(int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static IntToDoubleFunction uncheckedIntToDoubleFunction(
+                IntToDoubleFunctionWithException theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsDouble(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongToIntFunction#applyAsInt(long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static LongToIntFunction uncheckedLongToIntFunction(
+                LongToIntFunctionWithException theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsInt(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongToDoubleFunction#applyAsDouble(long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static LongToDoubleFunction uncheckedLongToDoubleFunction(
+                LongToDoubleFunctionWithException theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsDouble(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoubleToIntFunction#applyAsInt(double)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static DoubleToIntFunction uncheckedDoubleToIntFunction(
+                DoubleToIntFunctionWithException theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsInt(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoubleToLongFunction#applyAsLong(double)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theFunction the function.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public static DoubleToLongFunction uncheckedDoubleToLongFunction(
+                DoubleToLongFunctionWithException theFunction) {
+        Objects.requireNonNull(theFunction);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsLong(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link IntUnaryOperator#applyAsInt(int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theOperator the operator.
+     * 
+     * @return the wrapped operator. 
+     * 
+     * @throws NullPointerException if the operator supplied is null.
+    **/
+    public static IntUnaryOperator uncheckedIntUnaryOperator(
+                IntUnaryOperatorWithException theOperator) {
+        Objects.requireNonNull(theOperator);
+        return (theValue) -> {
+            try {
+                return theOperator.applyAsInt(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongUnaryOperator#applyAsLong(long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theOperator the operator.
+     * 
+     * @return the wrapped operator. 
+     * 
+     * @throws NullPointerException if the operator supplied is null.
+    **/
+    public static LongUnaryOperator uncheckedLongUnaryOperator(
+                LongUnaryOperatorWithException theOperator) {
+        Objects.requireNonNull(theOperator);
+        return (theValue) -> {
+            try {
+                return theOperator.applyAsLong(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoubleUnaryOperator#applyAsDouble(double)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theOperator the operator.
+     * 
+     * @return the wrapped operator. 
+     * 
+     * @throws NullPointerException if the operator supplied is null.
+    **/
+    public static DoubleUnaryOperator uncheckedDoubleUnaryOperator(
+                DoubleUnaryOperatorWithException theOperator) {
+        Objects.requireNonNull(theOperator);
+        return (theValue) -> {
+            try {
+                return theOperator.applyAsDouble(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link IntBinaryOperator#applyAsInt(int,int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theOperator the operator.
+     * 
+     * @return the wrapped operator. 
+     * 
+     * @throws NullPointerException if the operator supplied is null.
+    **/
+    public static IntBinaryOperator uncheckedIntBinaryOperator(
+                IntBinaryOperatorWithException theOperator) {
+        Objects.requireNonNull(theOperator);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return theOperator.applyAsInt(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongBinaryOperator#applyAsLong(long,long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theOperator the operator.
+     * 
+     * @return the wrapped operator. 
+     * 
+     * @throws NullPointerException if the operator supplied is null.
+    **/
+    public static LongBinaryOperator uncheckedLongBinaryOperator(
+                LongBinaryOperatorWithException theOperator) {
+        Objects.requireNonNull(theOperator);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return theOperator.applyAsLong(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoubleBinaryOperator#applyAsDouble(double,double)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theOperator the operator.
+     * 
+     * @return the wrapped operator. 
+     * 
+     * @throws NullPointerException if the operator supplied is null.
+    **/
+    public static DoubleBinaryOperator uncheckedDoubleBinaryOperator(
+                DoubleBinaryOperatorWithException theOperator) {
+        Objects.requireNonNull(theOperator);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return theOperator.applyAsDouble(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link IntPredicate#test(int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param thePredicate the predicate.
+     * 
+     * @return the wrapped predicate. 
+     * 
+     * @throws NullPointerException if the predicate supplied is null.
+    **/
+    public static IntPredicate uncheckedIntPredicate(
+                IntPredicateWithException thePredicate) {
+        Objects.requireNonNull(thePredicate);
+        return (theValue) -> {
+            try {
+                return thePredicate.test(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongPredicate#test(long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param thePredicate the predicate.
+     * 
+     * @return the wrapped predicate. 
+     * 
+     * @throws NullPointerException if the predicate supplied is null.
+    **/
+    public static LongPredicate uncheckedLongPredicate(
+                LongPredicateWithException thePredicate) {
+        Objects.requireNonNull(thePredicate);
+        return (theValue) -> {
+            try {
+                return thePredicate.test(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoublePredicate#test(double)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param thePredicate the predicate.
+     * 
+     * @return the wrapped predicate. 
+     * 
+     * @throws NullPointerException if the predicate supplied is null.
+    **/
+    public static DoublePredicate uncheckedDoublePredicate(
+                DoublePredicateWithException thePredicate) {
+        Objects.requireNonNull(thePredicate);
+        return (theValue) -> {
+            try {
+                return thePredicate.test(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link IntConsumer#accept(int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theConsumer the consumer.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+    public static IntConsumer uncheckedIntConsumer(
+                IntConsumerWithException theConsumer) {
+        Objects.requireNonNull(theConsumer);
+        return (theValue) -> {
+            try {
+                theConsumer.accept(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongConsumer#accept(long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theConsumer the consumer.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+    public static LongConsumer uncheckedLongConsumer(
+                LongConsumerWithException theConsumer) {
+        Objects.requireNonNull(theConsumer);
+        return (theValue) -> {
+            try {
+                theConsumer.accept(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoubleConsumer#accept(double)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theConsumer the consumer.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+    public static DoubleConsumer uncheckedDoubleConsumer(
+                DoubleConsumerWithException theConsumer) {
+        Objects.requireNonNull(theConsumer);
+        return (theValue) -> {
+            try {
+                theConsumer.accept(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ObjIntConsumer#accept(Object,int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param <T> the object type to be consumed.
+     * @param theConsumer the consumer.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+    public static <T> ObjIntConsumer<T> uncheckedObjIntConsumer(
+                ObjIntConsumerWithException<? super T> theConsumer) {
+        Objects.requireNonNull(theConsumer);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                theConsumer.accept(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ObjLongConsumer#accept(Object,long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param <T> the object type to be consumed.
+     * @param theConsumer the consumer.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+    public static <T> ObjLongConsumer<T> uncheckedObjLongConsumer(
+                ObjLongConsumerWithException<? super T> theConsumer) {
+        Objects.requireNonNull(theConsumer);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                theConsumer.accept(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ObjDoubleConsumer#accept(Object,double)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param <T> the object type to be consumed.
+     * @param theConsumer the consumer.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+    public static <T> ObjDoubleConsumer<T> uncheckedObjDoubleConsumer(
+                ObjDoubleConsumerWithException<? super T> theConsumer) {
+        Objects.requireNonNull(theConsumer);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                theConsumer.accept(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link IntSupplier#getAsInt()} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theSupplier the supplier.
+     * 
+     * @return the wrapped supplier. 
+     * 
+     * @throws NullPointerException if the supplier supplied is null.
+    **/
+    public static IntSupplier uncheckedIntSupplier(
+                IntSupplierWithException theSupplier) {
+        Objects.requireNonNull(theSupplier);
+        return () -> {
+            try {
+                return theSupplier.getAsInt();
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongSupplier#getAsLong()} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theSupplier the supplier.
+     * 
+     * @return the wrapped supplier. 
+     * 
+     * @throws NullPointerException if the supplier supplied is null.
+    **/
+    public static LongSupplier uncheckedLongSupplier(
+                LongSupplierWithException theSupplier) {
+        Objects.requireNonNull(theSupplier);
+        return () -> {
+            try {
+                return theSupplier.getAsLong();
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoubleSupplier#getAsDouble()} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theSupplier the supplier.
+     * 
+     * @return the wrapped supplier. 
+     * 
+     * @throws NullPointerException if the supplier supplied is null.
+    **/
+    public static DoubleSupplier uncheckedDoubleSupplier(
+                DoubleSupplierWithException theSupplier) {
+        Objects.requireNonNull(theSupplier);
+        return () -> {
+            try {
+                return theSupplier.getAsDouble();
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link BooleanSupplier#getAsBoolean()} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception wrapped in a {@link RuntimeException}.
+     * 
+     * @param theSupplier the supplier.
+     * 
+     * @return the wrapped supplier. 
+     * 
+     * @throws NullPointerException if the supplier supplied is null.
+    **/
+    public static BooleanSupplier uncheckedBooleanSupplier(
+                BooleanSupplierWithException theSupplier) {
+        Objects.requireNonNull(theSupplier);
+        return () -> {
+            try {
+                return theSupplier.getAsBoolean();
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link IntFunction#apply(int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <R> the type returned by the function.
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+    public static <R, E extends RuntimeException> IntFunction<R> 
+            uncheckedIntFunction(
+                    IntFunctionWithException<R> theFunction,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return theFunction.apply(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongFunction#apply(long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <R> the type returned by the function.
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+    public static <R, E extends RuntimeException> LongFunction<R> 
+            uncheckedLongFunction(
+                    LongFunctionWithException<R> theFunction,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return theFunction.apply(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoubleFunction#apply(double)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <R> the type returned by the function.
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+    public static <R, E extends RuntimeException> DoubleFunction<R> 
+            uncheckedDoubleFunction(
+                    DoubleFunctionWithException<R> theFunction,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return theFunction.apply(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ToIntFunction#applyAsInt(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <T> the type supplied to the function.
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+    public static <T, E extends RuntimeException> ToIntFunction<T> 
+            uncheckedToIntFunction(
+                    ToIntFunctionWithException<? super T> theFunction,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsInt(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ToLongFunction#applyAsLong(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <T> the type supplied to the function.
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+    public static <T, E extends RuntimeException> ToLongFunction<T> 
+            uncheckedToLongFunction(
+                    ToLongFunctionWithException<? super T> theFunction,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsLong(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ToDoubleFunction#applyAsDouble(Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <T> the type supplied to the function.
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+    public static <T, E extends RuntimeException> ToDoubleFunction<T> 
+            uncheckedToDoubleFunction(
+                    ToDoubleFunctionWithException<? super T> theFunction,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsDouble(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ToIntBiFunction#applyAsInt(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <T> the first type supplied to the function.
+     * @param <U> the second type supplied to the function.
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+    public static <T, U, E extends RuntimeException> ToIntBiFunction<T, U> 
+            uncheckedToIntBiFunction(
+                    ToIntBiFunctionWithException<? super T, ? super U> theFunction,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return theFunction.applyAsInt(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ToLongBiFunction#applyAsLong(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <T> the first type supplied to the function.
+     * @param <U> the second type supplied to the function.
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+    public static <T, U, E extends RuntimeException> ToLongBiFunction<T, U> 
+            uncheckedToLongBiFunction(
+                    ToLongBiFunctionWithException<? super T, ? super U> theFunction,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return theFunction.applyAsLong(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ToDoubleBiFunction#applyAsDouble(Object,Object)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <T> the first type supplied to the function.
+     * @param <U> the second type supplied to the function.
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+    public static <T, U, E extends RuntimeException> ToDoubleBiFunction<T, U> 
+            uncheckedToDoubleBiFunction(
+                    ToDoubleBiFunctionWithException<? super T, ? super U> theFunction,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return theFunction.applyAsDouble(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link IntToLongFunction#applyAsLong(int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> IntToLongFunction 
+            uncheckedIntToLongFunction(
+                    IntToLongFunctionWithException theFunction,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsLong(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link IntToDoubleFunction#applyAsDouble(int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> IntToDoubleFunction 
+            uncheckedIntToDoubleFunction(
+                    IntToDoubleFunctionWithException theFunction,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsDouble(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongToIntFunction#applyAsInt(long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> LongToIntFunction 
+            uncheckedLongToIntFunction(
+                    LongToIntFunctionWithException theFunction,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsInt(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongToDoubleFunction#applyAsDouble(long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> LongToDoubleFunction 
+            uncheckedLongToDoubleFunction(
+                    LongToDoubleFunctionWithException theFunction,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsDouble(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoubleToIntFunction#applyAsInt(double)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> DoubleToIntFunction 
+            uncheckedDoubleToIntFunction(
+                    DoubleToIntFunctionWithException theFunction,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsInt(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoubleToLongFunction#applyAsLong(double)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theFunction the function.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped function. 
+     * 
+     * @throws NullPointerException if the function or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> DoubleToLongFunction 
+            uncheckedDoubleToLongFunction(
+                    DoubleToLongFunctionWithException theFunction,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return theFunction.applyAsLong(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link IntUnaryOperator#applyAsInt(int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theOperator the operator.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped operator. 
+     * 
+     * @throws NullPointerException if the operator or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> IntUnaryOperator 
+            uncheckedIntUnaryOperator(
+                    IntUnaryOperatorWithException theOperator,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theOperator);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return theOperator.applyAsInt(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongUnaryOperator#applyAsLong(long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theOperator the operator.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped operator. 
+     * 
+     * @throws NullPointerException if the operator or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> LongUnaryOperator 
+            uncheckedLongUnaryOperator(
+                    LongUnaryOperatorWithException theOperator,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theOperator);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return theOperator.applyAsLong(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoubleUnaryOperator#applyAsDouble(double)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theOperator the operator.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped operator. 
+     * 
+     * @throws NullPointerException if the operator or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> DoubleUnaryOperator 
+            uncheckedDoubleUnaryOperator(
+                    DoubleUnaryOperatorWithException theOperator,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theOperator);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return theOperator.applyAsDouble(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link IntBinaryOperator#applyAsInt(int,int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theOperator the operator.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped operator. 
+     * 
+     * @throws NullPointerException if the operator or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> IntBinaryOperator 
+            uncheckedIntBinaryOperator(
+                    IntBinaryOperatorWithException theOperator,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theOperator);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return theOperator.applyAsInt(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongBinaryOperator#applyAsLong(long,long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theOperator the operator.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped operator. 
+     * 
+     * @throws NullPointerException if the operator or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> LongBinaryOperator 
+            uncheckedLongBinaryOperator(
+                    LongBinaryOperatorWithException theOperator,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theOperator);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return theOperator.applyAsLong(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoubleBinaryOperator#applyAsDouble(double,double)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theOperator the operator.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped operator. 
+     * 
+     * @throws NullPointerException if the operator or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> DoubleBinaryOperator 
+            uncheckedDoubleBinaryOperator(
+                    DoubleBinaryOperatorWithException theOperator,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theOperator);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                return theOperator.applyAsDouble(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link IntPredicate#test(int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param thePredicate the predicate.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped predicate. 
+     * 
+     * @throws NullPointerException if the predicate or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> IntPredicate 
+            uncheckedIntPredicate(
+                    IntPredicateWithException thePredicate,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(thePredicate);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return thePredicate.test(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongPredicate#test(long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param thePredicate the predicate.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped predicate. 
+     * 
+     * @throws NullPointerException if the predicate or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> LongPredicate 
+            uncheckedLongPredicate(
+                    LongPredicateWithException thePredicate,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(thePredicate);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return thePredicate.test(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoublePredicate#test(double)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param thePredicate the predicate.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped predicate. 
+     * 
+     * @throws NullPointerException if the predicate or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> DoublePredicate 
+            uncheckedDoublePredicate(
+                    DoublePredicateWithException thePredicate,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(thePredicate);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                return thePredicate.test(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link IntConsumer#accept(int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theConsumer the consumer.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> IntConsumer uncheckedIntConsumer(
+                IntConsumerWithException theConsumer,
+                Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theConsumer);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                theConsumer.accept(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongConsumer#accept(long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theConsumer the consumer.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> LongConsumer 
+            uncheckedLongConsumer(
+                    LongConsumerWithException theConsumer,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theConsumer);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                theConsumer.accept(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoubleConsumer#accept(double)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theConsumer the consumer.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> DoubleConsumer 
+            uncheckedDoubleConsumer(
+                    DoubleConsumerWithException theConsumer,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theConsumer);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theValue) -> {
+            try {
+                theConsumer.accept(theValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ObjIntConsumer#accept(Object,int)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <T> the object type to be consumed.
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theConsumer the consumer.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer or exception function 
+     *                              supplied is null.
+    **/
+    public static <T, E extends RuntimeException> ObjIntConsumer<T> 
+            uncheckedObjIntConsumer(
+                    ObjIntConsumerWithException<? super T> theConsumer,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theConsumer);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                theConsumer.accept(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link ObjLongConsumer#accept(Object,long)} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <T> the object type to be consumed.
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theConsumer the consumer.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer or exception function 
+     *                              supplied is null.
+    **/
+    public static <T, E extends RuntimeException> ObjLongConsumer<T> 
+            uncheckedObjLongConsumer(
+                    ObjLongConsumerWithException<? super T> theConsumer,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theConsumer);
+        Objects.requireNonNull(theExceptionFunc);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                theConsumer.accept(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
     /**
      * Method which wraps a functional interface whose functional method matches
-     * the method signature of {@link Consumer#accept(Object)} but
+     * the method signature of
+     * {@link ObjDoubleConsumer#accept(Object,double)} but
      * additionally throws a checked exception, and re-throws the checked 
-     * exception wrapped in a {@link RuntimeException}. This allows methods 
-     * which previously could not be used as method references due to their 
-     * checked exception to now be used.
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
      * 
-     * @param <T> the type to be consumed.
+     * @param <T> the object type to be consumed.
+     * @param <E> the type of runtime exception to be thrown.
      * @param theConsumer the consumer.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
      * 
      * @return the wrapped consumer. 
      * 
-     * @throws NullPointerException if the consumer supplied is null.
+     * @throws NullPointerException if the consumer or exception function 
+     *                              supplied is null.
     **/
-	public static <T> Consumer<T> unchecked(
-                                ConsumerWithException<? super T> theConsumer) {
+    public static <T, E extends RuntimeException> ObjDoubleConsumer<T> 
+            uncheckedObjDoubleConsumer(
+                    ObjDoubleConsumerWithException<? super T> theConsumer,
+                    Function<Exception, E> theExceptionFunc) {
         Objects.requireNonNull(theConsumer);
-		return (theValue) -> {
-			try {
-				theConsumer.accept(theValue);
-			}
-			catch (RuntimeException re) {
-				throw re;
-			}
-			catch (Exception e) {
-				throw new RuntimeException(e);
-			}
-		};
-	}
+        Objects.requireNonNull(theExceptionFunc);
+        return (theFirstValue, theSecondValue) -> {
+            try {
+                theConsumer.accept(theFirstValue, theSecondValue);
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
     
     
     /**
      * Method which wraps a functional interface whose functional method matches
-     * the method signature of {@link BiConsumer#accept(Object,Object)} but
+     * the method signature of
+     * {@link IntSupplier#getAsInt()} but
      * additionally throws a checked exception, and re-throws the checked 
-     * exception wrapped in a {@link RuntimeException}. This allows methods 
-     * which previously could not be used as method references due to their 
-     * checked exception to now be used.
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theSupplier the supplier.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped supplier. 
+     * 
+     * @throws NullPointerException if the supplier or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> IntSupplier uncheckedIntSupplier(
+                IntSupplierWithException theSupplier,
+                Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theSupplier);
+        Objects.requireNonNull(theExceptionFunc);
+        return () -> {
+            try {
+                return theSupplier.getAsInt();
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link LongSupplier#getAsLong()} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theSupplier the supplier.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped supplier. 
+     * 
+     * @throws NullPointerException if the supplier or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> LongSupplier 
+            uncheckedLongSupplier(
+                    LongSupplierWithException theSupplier,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theSupplier);
+        Objects.requireNonNull(theExceptionFunc);
+        return () -> {
+            try {
+                return theSupplier.getAsLong();
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link DoubleSupplier#getAsDouble()} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theSupplier the supplier.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped supplier. 
+     * 
+     * @throws NullPointerException if the supplier or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> DoubleSupplier 
+            uncheckedDoubleSupplier(
+                    DoubleSupplierWithException theSupplier,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theSupplier);
+        Objects.requireNonNull(theExceptionFunc);
+        return () -> {
+            try {
+                return theSupplier.getAsDouble();
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method matches
+     * the method signature of
+     * {@link BooleanSupplier#getAsBoolean()} but
+     * additionally throws a checked exception, and re-throws the checked 
+     * exception using the function supplied, allowing control over the type 
+     * of runtime exception thrown.
+     * 
+     * @param <E> the type of runtime exception to be thrown.
+     * @param theSupplier the supplier.
+     * @param theExceptionFunc the function to be used to convert the exception
+     *                         into a runtime exception.
+     * 
+     * @return the wrapped supplier. 
+     * 
+     * @throws NullPointerException if the supplier or exception function 
+     *                              supplied is null.
+    **/
+    public static <E extends RuntimeException> BooleanSupplier 
+            uncheckedBooleanSupplier(
+                    BooleanSupplierWithException theSupplier,
+                    Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theSupplier);
+        Objects.requireNonNull(theExceptionFunc);
+        return () -> {
+            try {
+                return theSupplier.getAsBoolean();
+            }
+            catch (RuntimeException re) {
+                throw re;
+            }
+            catch (Exception e) {
+                throw theExceptionFunc.apply(e);
+            }
+        };
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method
+     * matches the method signature of {@link Consumer#accept(Object)} but
+     * additionally throws a checked exception, as
+     * {@link #unchecked(ConsumerWithException)} does, but returns an instance
+     * of a wrapper class specific to the class of the consumer supplied. The
+     * call to the consumer within the wrapper then only ever sees the one
+     * class, and so may be inlined by the JIT however many other classes are
+     * wrapped.
+     * 
+     * @param <T> the type to be consumed.
+     * @param theConsumer the consumer.
+     * 
+     * @return the wrapped consumer. 
+     * 
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+    public static <T> Consumer<T> specialized(
+                ConsumerWithException<? super T> theConsumer) {
+        Objects.requireNonNull(theConsumer);
+        return Specializer.consumer(theConsumer, Specializer.WRAP);
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method
+     * matches the method signature of {@link BiConsumer#accept(Object,Object)}
+     * but additionally throws a checked exception, as
+     * {@link #unchecked(BiConsumerWithException)} does, but returns an
+     * instance of a wrapper class specific to the class of the consumer
+     * supplied. The call to the consumer within the wrapper then only ever
+     * sees the one class, and so may be inlined by the JIT however many other
+     * classes are wrapped.
      * 
      * @param <T> the first type to be consumed.
      * @param <U> the second type to be consumed.
@@ -199,30 +3880,22 @@ public final class MethodReferences {
      * 
      * @throws NullPointerException if the consumer supplied is null.
     **/
-    public static <T, U> BiConsumer<T, U> unchecked(
-                    BiConsumerWithException<? super T, ? super U> theConsumer) {
+    public static <T, U> BiConsumer<T, U> specialized(
+                BiConsumerWithException<? super T, ? super U> theConsumer) {
         Objects.requireNonNull(theConsumer);
-		return (theFirstValue, theSecondValue) -> {
-			try {
-				theConsumer.accept(theFirstValue, theSecondValue);
-			}
-			catch (RuntimeException re) {
-				throw re;
-			}
-			catch (Exception e) {
-				throw new RuntimeException(e);
-			}
-		};
-	}
-
+        return Specializer.biConsumer(theConsumer, Specializer.WRAP);
+    }
+    
     
     /**
-     * Method which wraps a functional interface whose functional method matches
-     * the method signature of {@link Function#apply(Object)} but
-     * additionally throws a checked exception, and re-throws the checked 
-     * exception wrapped in a {@link RuntimeException}. This allows methods 
-     * which previously could not be used as method references due to their 
-     * checked exception to now be used.
+     * Method which wraps a functional interface whose functional method
+     * matches the method signature of {@link Function#apply(Object)} but
+     * additionally throws a checked exception, as
+     * {@link #unchecked(FunctionWithException)} does, but returns an instance
+     * of a wrapper class specific to the class of the function supplied. The
+     * call to the function within the wrapper then only ever sees the one
+     * class, and so may be inlined by the JIT however many other classes are
+     * wrapped.
      * 
      * @param <T> the type supplied to the function.
      * @param <R> the type returned by the function.
@@ -232,30 +3905,22 @@ public final class MethodReferences {
      * 
      * @throws NullPointerException if the function supplied is null.
     **/
-	public static <T, R> Function<T, R> unchecked(
-                            FunctionWithException<? super T, R> theFunction) {
-		Objects.requireNonNull(theFunction);
-        return (theValue) -> {
-			try {
-				return theFunction.apply(theValue);
-			}
-			catch (RuntimeException re) {
-				throw re;
-			}
-			catch (Exception e) {
-				throw new RuntimeException(e);
-			}
-		};
-	}
-
+    public static <T, R> Function<T, R> specialized(
+                FunctionWithException<? super T, ? extends R> theFunction) {
+        Objects.requireNonNull(theFunction);
+        return Specializer.function(theFunction, Specializer.WRAP);
+    }
+    
     
     /**
-     * Method which wraps a functional interface whose functional method matches
-     * the method signature of {@link BiFunction#apply(Object,Object)} but
-     * additionally throws a checked exception, and re-throws the checked 
-     * exception wrapped in a {@link RuntimeException}. This allows methods 
-     * which previously could not be used as method references due to their 
-     * checked exception to now be used.
+     * Method which wraps a functional interface whose functional method
+     * matches the method signature of {@link BiFunction#apply(Object,Object)}
+     * but additionally throws a checked exception, as
+     * {@link #unchecked(BiFunctionWithException)} does, but returns an
+     * instance of a wrapper class specific to the class of the function
+     * supplied. The call to the function within the wrapper then only ever
+     * sees the one class, and so may be inlined by the JIT however many other
+     * classes are wrapped.
      * 
      * @param <T> the first type supplied to the function.
      * @param <U> the second type supplied to the function.
@@ -266,30 +3931,22 @@ public final class MethodReferences {
      * 
      * @throws NullPointerException if the function supplied is null.
     **/
-	public static <T, U, R> BiFunction<T, U, R> unchecked(
-						BiFunctionWithException<? super T, U, R> theFunction) {
-		Objects.requireNonNull(theFunction);
-        return (theFirstValue, theSecondValue) -> {
-			try {
-				return theFunction.apply(theFirstValue, theSecondValue);
-			}
-			catch (RuntimeException re) {
-				throw re;
-			}
-			catch (Exception e) {
-				throw new RuntimeException(e);
-			}
-		};
-	}
-
-    
-    /**
-     * Method which wraps a functional interface whose functional method matches
-     * the method signature of {@link Supplier#get()} but
-     * additionally throws a checked exception, and re-throws the checked 
-     * exception wrapped in a {@link RuntimeException}. This allows methods 
-     * which previously could not be used as method references due to their 
-     * checked exception to now be used.
+    public static <T, U, R> BiFunction<T, U, R> specialized(
+                BiFunctionWithException<? super T, ? super U,
+                                        ? extends R> theFunction) {
+        Objects.requireNonNull(theFunction);
+        return Specializer.biFunction(theFunction, Specializer.WRAP);
+    }
+    
+    
+    /**
+     * Method which wraps a functional interface whose functional method
+     * matches the method signature of {@link Supplier#get()} but additionally
+     * throws a checked exception, as {@link #unchecked(SupplierWithException)}
+     * does, but returns an instance of a wrapper class specific to the class
+     * of the supplier supplied. The call to the supplier within the wrapper
+     * then only ever sees the one class, and so may be inlined by the JIT
+     * however many other classes are wrapped.
      * 
      * @param <T> the type returned by the supplier.
      * @param theSupplier the supplier.
@@ -298,96 +3955,70 @@ public final class MethodReferences {
      * 
      * @throws NullPointerException if the supplier supplied is null.
     **/
-	public static <T> Supplier<T> unchecked(
-                                        SupplierWithException<T> theSupplier) {
-		Objects.requireNonNull(theSupplier);
-        return () -> {
-			try {
-				return theSupplier.get();
-			}
-			catch (RuntimeException re) {
-				throw re;
-			}
-			catch (Exception e) {
-				throw new RuntimeException(e);
-			}
-		};
-	}
-
+    public static <T> Supplier<T> specialized(
+                SupplierWithException<? extends T> theSupplier) {
+        Objects.requireNonNull(theSupplier);
+        return Specializer.supplier(theSupplier, Specializer.WRAP);
+    }
+    
     
     /**
-     * Method which wraps a functional interface whose functional method matches
-     * the method signature of {@link Predicate#test(Object)} but
-     * additionally throws a checked exception, and re-throws the checked 
-     * exception wrapped in a {@link RuntimeException}. This allows methods 
-     * which previously could not be used as method references due to their 
-     * checked exception to now be used.
+     * Method which wraps a functional interface whose functional method
+     * matches the method signature of {@link Predicate#test(Object)} but
+     * additionally throws a checked exception, as
+     * {@link #unchecked(PredicateWithException)} does, but returns an instance
+     * of a wrapper class specific to the class of the predicate supplied. The
+     * call to the predicate within the wrapper then only ever sees the one
+     * class, and so may be inlined by the JIT however many other classes are
+     * wrapped.
      * 
-     * @param <T> the type supplied to the predicate.
+     * @param <T> the type to be tested.
      * @param thePredicate the predicate.
      * 
      * @return the wrapped predicate. 
      * 
      * @throws NullPointerException if the predicate supplied is null.
     **/
-    public static <T> Predicate<T> unchecked(
-                                    PredicateWithException<T> thePredicate) {
+    public static <T> Predicate<T> specialized(
+                PredicateWithException<? super T> thePredicate) {
         Objects.requireNonNull(thePredicate);
-        return (theValue) -> {
-            try {
-                return thePredicate.test(theValue);
-            }
-            catch (RuntimeException re) {
-                throw re;
-            }
-            catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-        };
+        return Specializer.predicate(thePredicate, Specializer.WRAP);
     }
     
     
     /**
-     * Method which wraps a functional interface whose functional method matches
-     * the method signature of {@link BiPredicate#test(Object,Object)} but
-     * additionally throws a checked exception, and re-throws the checked 
-     * exception wrapped in a {@link RuntimeException}. This allows methods 
-     * which previously could not be used as method references due to their 
-     * checked exception to now be used.
+     * Method which wraps a functional interface whose functional method
+     * matches the method signature of {@link BiPredicate#test(Object,Object)}
+     * but additionally throws a checked exception, as
+     * {@link #unchecked(BiPredicateWithException)} does, but returns an
+     * instance of a wrapper class specific to the class of the predicate
+     * supplied. The call to the predicate within the wrapper then only ever
+     * sees the one class, and so may be inlined by the JIT however many other
+     * classes are wrapped.
      * 
-     * @param <T> the first type supplied to the predicate.
-     * @param <U> the second type supplied to the predicate.
+     * @param <T> the first type to be tested.
+     * @param <U> the second type to be tested.
      * @param thePredicate the predicate.
      * 
      * @return the wrapped predicate. 
      * 
      * @throws NullPointerException if the predicate supplied is null.
     **/
-    public static <T, U> BiPredicate<T, U> unchecked(
-                                BiPredicateWithException<T, U> thePredicate) {
+    public static <T, U> BiPredicate<T, U> specialized(
+                BiPredicateWithException<? super T, ? super U> thePredicate) {
         Objects.requireNonNull(thePredicate);
-        return (theFirstValue, theSecondValue) -> {
-            try {
-                return thePredicate.test(theFirstValue, theSecondValue);
-            }
-            catch (RuntimeException re) {
-                throw re;
-            }
-            catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-        };
+        return Specializer.biPredicate(thePredicate, Specializer.WRAP);
     }
-	
+    
     
     /**
-     * Method which wraps a functional interface whose functional method matches
-     * the method signature of {@link Consumer#accept(Object)} but
-     * additionally throws a checked exception, and re-throws the checked 
-     * exception using the function supplied. This allows methods which 
-     * previously could not be used as method references due to their checked 
-     * exception to now be used, and additionally allows control over the type 
-     * of runtime exception thrown.
+     * Method which wraps a functional interface whose functional method
+     * matches the method signature of {@link Consumer#accept(Object)} but
+     * additionally throws a checked exception, and re-throws the checked
+     * exception using the function supplied, as
+     * {@link #unchecked(ConsumerWithException, Function)} does, but returns an
+     * instance of a wrapper class specific to the class of the consumer
+     * supplied, as {@link #specialized(ConsumerWithException)} does.
      * 
      * @param <T> the type to be consumed.
      * @param <E> the type of runtime exception to be thrown. 
@@ -400,33 +4031,23 @@ public final class MethodReferences {
      * @throws NullPointerException if the consumer or exception function 
      *                              supplied is null.
     **/
-	public static <T, E extends RuntimeException> Consumer<T> unchecked(
-								ConsumerWithException<? super T> theConsumer,
-								Function<Exception, E> theExceptionFunc) {
-		Objects.requireNonNull(theConsumer);
+    public static <T, E extends RuntimeException> Consumer<T> specialized(
+                ConsumerWithException<? super T> theConsumer,
+                Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theConsumer);
         Objects.requireNonNull(theExceptionFunc);
-        return (theValue) -> {
-			try {
-				theConsumer.accept(theValue);
-			}
-			catch (RuntimeException re) {
-				throw re;
-			}
-			catch (Exception e) {
-				throw theExceptionFunc.apply(e);
-			}
-		};
-	}
-	
+        return Specializer.consumer(theConsumer, theExceptionFunc);
+    }
+    
     
     /**
-     * Method which wraps a functional interface whose functional method matches
-     * the method signature of {@link BiConsumer#accept(Object,Object)} but
-     * additionally throws a checked exception, and re-throws the checked 
-     * exception using the function supplied. This allows methods which 
-     * previously could not be used as method references due to their checked 
-     * exception to now be used, and additionally allows control over the type 
-     * of runtime exception thrown.
+     * Method which wraps a functional interface whose functional method
+     * matches the method signature of {@link BiConsumer#accept(Object,Object)}
+     * but additionally throws a checked exception, and re-throws the checked
+     * exception using the function supplied, as
+     * {@link #unchecked(BiConsumerWithException, Function)} does, but returns
+     * an instance of a wrapper class specific to the class of the consumer
+     * supplied, as {@link #specialized(BiConsumerWithException)} does.
      * 
      * @param <T> the first type to be consumed.
      * @param <U> the second type to be consumed.
@@ -440,37 +4061,28 @@ public final class MethodReferences {
      * @throws NullPointerException if the consumer or exception function 
      *                              supplied is null.
     **/
-	public static <T, U, E extends RuntimeException> BiConsumer<T, U> unchecked(
-					BiConsumerWithException<? super T, ? super U> theConsumer,
-					Function<Exception, E> theExceptionFunc) {
-		Objects.requireNonNull(theConsumer);
+    public static <T, U, E extends RuntimeException>
+            BiConsumer<T, U> specialized(
+                BiConsumerWithException<? super T, ? super U> theConsumer,
+                Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theConsumer);
         Objects.requireNonNull(theExceptionFunc);
-        return (theFirstValue, theSecondValue) -> {
-			try {
-				theConsumer.accept(theFirstValue, theSecondValue);
-			}
-			catch (RuntimeException re) {
-				throw re;
-			}
-			catch (Exception e) {
-				throw theExceptionFunc.apply(e);
-			}
-		};
-	}
-
+        return Specializer.biConsumer(theConsumer, theExceptionFunc);
+    }
+    
     
     /**
-     * Method which wraps a functional interface whose functional method matches
-     * the method signature of {@link Function#apply(Object)} but
-     * additionally throws a checked exception, and re-throws the checked 
-     * exception using the function supplied. This allows methods which 
-     * previously could not be used as method references due to their checked 
-     * exception to now be used, and additionally allows control over the type 
-     * of runtime exception thrown.
+     * Method which wraps a functional interface whose functional method
+     * matches the method signature of {@link Function#apply(Object)} but
+     * additionally throws a checked exception, and re-throws the checked
+     * exception using the function supplied, as
+     * {@link #unchecked(FunctionWithException, Function)} does, but returns an
+     * instance of a wrapper class specific to the class of the function
+     * supplied, as {@link #specialized(FunctionWithException)} does.
      * 
      * @param <T> the type supplied to the function.
      * @param <R> the type returned by the function.
-     * @param <E> the type of runtime exception to be thrown
+     * @param <E> the type of runtime exception to be thrown. 
      * @param theFunction the function.
      * @param theExceptionFunc the function to be used to convert the exception
      *                         into a runtime exception.
@@ -480,38 +4092,28 @@ public final class MethodReferences {
      * @throws NullPointerException if the function or exception function 
      *                              supplied is null.
     **/
-	public static <T, R, E extends RuntimeException> Function<T, R> unchecked(
-								FunctionWithException<? super T, R> theFunction,
-								Function<Exception, E> theExceptionFunc) {
-		Objects.requireNonNull(theFunction);
+    public static <T, R, E extends RuntimeException> Function<T, R> specialized(
+                FunctionWithException<? super T, ? extends R> theFunction,
+                Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
         Objects.requireNonNull(theExceptionFunc);
-        return (theValue) -> {
-			try {
-				return theFunction.apply(theValue);
-			}
-			catch (RuntimeException re) {
-				throw re;
-			}
-			catch (Exception e) {
-				throw theExceptionFunc.apply(e);
-			}
-		};
-	}
+        return Specializer.function(theFunction, theExceptionFunc);
+    }
     
     
     /**
-     * Method which wraps a functional interface whose functional method matches
-     * the method signature of {@link BiFunction#apply(Object,Object)} but
-     * additionally throws a checked exception, and re-throws the checked 
-     * exception using the function supplied. This allows methods which 
-     * previously could not be used as method references due to their checked 
-     * exception to now be used, and additionally allows control over the type 
-     * of runtime exception thrown.
+     * Method which wraps a functional interface whose functional method
+     * matches the method signature of {@link BiFunction#apply(Object,Object)}
+     * but additionally throws a checked exception, and re-throws the checked
+     * exception using the function supplied, as
+     * {@link #unchecked(BiFunctionWithException, Function)} does, but returns
+     * an instance of a wrapper class specific to the class of the function
+     * supplied, as {@link #specialized(BiFunctionWithException)} does.
      * 
      * @param <T> the first type supplied to the function.
      * @param <U> the second type supplied to the function.
      * @param <R> the type returned by the function.
-     * @param <E> the type of runtime exception to be thrown
+     * @param <E> the type of runtime exception to be thrown. 
      * @param theFunction the function.
      * @param theExceptionFunc the function to be used to convert the exception
      *                         into a runtime exception.
@@ -521,37 +4123,28 @@ public final class MethodReferences {
      * @throws NullPointerException if the function or exception function 
      *                              supplied is null.
     **/
-	public static <T, U, R, E extends RuntimeException> BiFunction<T, U, R> 
-            unchecked(
-                BiFunctionWithException<? super T, ? super U, R> theFunction,
-				 Function<Exception, E> theExceptionFunc) {
-		Objects.requireNonNull(theFunction);
+    public static <T, U, R, E extends RuntimeException>
+            BiFunction<T, U, R> specialized(
+                BiFunctionWithException<? super T, ? super U,
+                                        ? extends R> theFunction,
+                Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theFunction);
         Objects.requireNonNull(theExceptionFunc);
-        return (theFirstValue, theSecondValue) -> {
-			try {
-				return theFunction.apply(theFirstValue, theSecondValue);
-			}
-			catch (RuntimeException re) {
-				throw re;
-			}
-			catch (Exception e) {
-				throw theExceptionFunc.apply(e);
-			}
-		};
-	}
-
-            
+        return Specializer.biFunction(theFunction, theExceptionFunc);
+    }
+    
+    
     /**
-     * Method which wraps a functional interface whose functional method matches
-     * the method signature of {@link Supplier#get()} but
-     * additionally throws a checked exception, and re-throws the checked 
-     * exception using the function supplied. This allows methods which 
-     * previously could not be used as method references due to their checked 
-     * exception to now be used, and additionally allows control over the type 
-     * of runtime exception thrown.
+     * Method which wraps a functional interface whose functional method
+     * matches the method signature of {@link Supplier#get()} but additionally
+     * throws a checked exception, and re-throws the checked exception using
+     * the function supplied, as
+     * {@link #unchecked(SupplierWithException, Function)} does, but returns an
+     * instance of a wrapper class specific to the class of the supplier
+     * supplied, as {@link #specialized(SupplierWithException)} does.
      * 
      * @param <T> the type returned by the supplier.
-     * @param <E> the type of runtime exception to be thrown
+     * @param <E> the type of runtime exception to be thrown. 
      * @param theSupplier the supplier.
      * @param theExceptionFunc the function to be used to convert the exception
      *                         into a runtime exception.
@@ -561,36 +4154,26 @@ public final class MethodReferences {
      * @throws NullPointerException if the supplier or exception function 
      *                              supplied is null.
     **/
-	public static <T, E extends RuntimeException> Supplier<T> unchecked(
-									SupplierWithException<T> theSupplier,
-									Function<Exception, E> theExceptionFunc) {
-		Objects.requireNonNull(theSupplier);
+    public static <T, E extends RuntimeException> Supplier<T> specialized(
+                SupplierWithException<? extends T> theSupplier,
+                Function<Exception, E> theExceptionFunc) {
+        Objects.requireNonNull(theSupplier);
         Objects.requireNonNull(theExceptionFunc);
-        return () -> {
-			try {
-				return theSupplier.get();
-			}
-			catch (RuntimeException re) {
-				throw re;
-			}
-			catch (Exception e) {
-				throw theExceptionFunc.apply(e);
-			}
-		};
-	}
+        return Specializer.supplier(theSupplier, theExceptionFunc);
+    }
     
     
     /**
-     * Method which wraps a functional interface whose functional method matches
-     * the method signature of {@link Predicate#test(Object)} but
-     * additionally throws a checked exception, and re-throws the checked 
-     * exception using the function supplied. This allows methods which 
-     * previously could not be used as method references due to their checked 
-     * exception to now be used, and additionally allows control over the type 
-     * of runtime exception thrown.
+     * Method which wraps a functional interface whose functional method
+     * matches the method signature of {@link Predicate#test(Object)} but
+     * additionally throws a checked exception, and re-throws the checked
+     * exception using the function supplied, as
+     * {@link #unchecked(PredicateWithException, Function)} does, but returns
+     * an instance of a wrapper class specific to the class of the predicate
+     * supplied, as {@link #specialized(PredicateWithException)} does.
      * 
-     * @param <T> the type supplied to the predicate.
-     * @param <E> the type of runtime exception to be thrown
+     * @param <T> the type to be tested.
+     * @param <E> the type of runtime exception to be thrown. 
      * @param thePredicate the predicate.
      * @param theExceptionFunc the function to be used to convert the exception
      *                         into a runtime exception.
@@ -600,37 +4183,27 @@ public final class MethodReferences {
      * @throws NullPointerException if the predicate or exception function 
      *                              supplied is null.
     **/
-    public static <T, E extends RuntimeException> Predicate<T> unchecked(
-                                    PredicateWithException<T> thePredicate,
-                                    Function<Exception, E> theExceptionFunc) {
+    public static <T, E extends RuntimeException> Predicate<T> specialized(
+                PredicateWithException<? super T> thePredicate,
+                Function<Exception, E> theExceptionFunc) {
         Objects.requireNonNull(thePredicate);
         Objects.requireNonNull(theExceptionFunc);
-        return (theValue) -> {
-            try {
-                return thePredicate.test(theValue);
-            }
-            catch (RuntimeException re) {
-                throw re;
-            }
-            catch (Exception e) {
-                throw theExceptionFunc.apply(e);
-            }
-        };
+        return Specializer.predicate(thePredicate, theExceptionFunc);
     }
     
     
     /**
-     * Method which wraps a functional interface whose functional method matches
-     * the method signature of {@link BiPredicate#test(Object,Object)} but
-     * additionally throws a checked exception, and re-throws the checked 
-     * exception using the function supplied. This allows methods which 
-     * previously could not be used as method references due to their checked 
-     * exception to now be used, and additionally allows control over the type 
-     * of runtime exception thrown.
+     * Method which wraps a functional interface whose functional method
+     * matches the method signature of {@link BiPredicate#test(Object,Object)}
+     * but additionally throws a checked exception, and re-throws the checked
+     * exception using the function supplied, as
+     * {@link #unchecked(BiPredicateWithException, Function)} does, but returns
+     * an instance of a wrapper class specific to the class of the predicate
+     * supplied, as {@link #specialized(BiPredicateWithException)} does.
      * 
-     * @param <T> the first type supplied to the predicate.
-     * @param <U> the second type supplied to the predicate.
-     * @param <E> the type of runtime exception to be thrown
+     * @param <T> the first type to be tested.
+     * @param <U> the second type to be tested.
+     * @param <E> the type of runtime exception to be thrown. 
      * @param thePredicate the predicate.
      * @param theExceptionFunc the function to be used to convert the exception
      *                         into a runtime exception.
@@ -640,22 +4213,24 @@ public final class MethodReferences {
      * @throws NullPointerException if the predicate or exception function 
      *                              supplied is null.
     **/
-    public static <T, U, E extends RuntimeException> BiPredicate<T, U> 
-            unchecked(
-                    BiPredicateWithException<? super T, ? super U> thePredicate,
-                    Function<Exception, E> theExceptionFunc) {
+    public static <T, U, E extends RuntimeException>
+            BiPredicate<T, U> specialized(
+                BiPredicateWithException<? super T, ? super U> thePredicate,
+                Function<Exception, E> theExceptionFunc) {
         Objects.requireNonNull(thePredicate);
         Objects.requireNonNull(theExceptionFunc);
-        return (theFirstValue, theSecondValue) -> {
-            try {
-                return thePredicate.test(theFirstValue, theSecondValue);
-            }
-            catch (RuntimeException re) {
-                throw re;
-            }
-            catch (Exception e) {
-                throw theExceptionFunc.apply(e);
-            }
-        };
+        return Specializer.biPredicate(thePredicate, theExceptionFunc);
+    }
+    
+    
+    /**
+     * Throws the throwable supplied without the compiler requiring a checked
+     * exception to be declared, by way of an unchecked cast of its type.
+    **/
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> RuntimeException sneakyThrow(
+                                                    Throwable theThrowable)
+            throws E {
+        throw (E)theThrowable;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,276 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import uk.co.adambh.util.functions.MethodReferences.FunctionWithException;
+
+
+
+/**
+ * <p>Presents a bulk function, taking a list of keys and returning a map of
+ * their values, as a function of a single key, coalescing concurrent calls
+ * into bulk calls.</p>
+ *
+ * <p>The first caller to arrive when no batch is open opens one and leads it:
+ * it waits for up to the maximum delay, or until the batch holds the maximum
+ * number of keys, then closes the batch, makes the bulk call on its own
+ * thread and hands each caller in the batch its value. Callers arriving while
+ * a batch is open join it and wait. A key asked for more than once in a batch
+ * is only passed to the bulk call once. A key missing from the map returned
+ * gives null.</p>
+ *
+ * <p>If the bulk call throws, every caller in the batch throws the same
+ * exception.</p>
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class MicroBatcher<K, V> implements FunctionWithException<K, V> {
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final FunctionWithException<? super List<K>,
+										? extends Map<K, ? extends V>> myBulk;
+	private final int myMaximumBatch;
+	private final long myMaximumDelayNanos;
+
+	/**
+	 * The open batch, if any, guarded by itself; the leader of a batch waits
+	 * on the lock and is notified when the batch fills.
+	**/
+	private final Object myLock = new Object();
+	private Batch<K, V> myOpen;
+
+	private final LongAdder myCalls = new LongAdder();
+	private final LongAdder myBatches = new LongAdder();
+	private final LongAdder myKeys = new LongAdder();
+	private final LongAdder myFailures = new LongAdder();
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	/**
+	 * Creates a batcher for the bulk function supplied.
+	 *
+	 * @param theBulk the bulk function.
+	 * @param theMaximumBatch the most distinct keys in a single bulk call.
+	 * @param theMaximumDelay the longest to wait for a batch to fill.
+	 * @param theUnit the unit of the maximum delay.
+	 *
+	 * @throws NullPointerException if the function or unit supplied is null.
+	 * @throws IllegalArgumentException if the maximum batch is not positive
+	 *                                  or the maximum delay is negative.
+	**/
+	public MicroBatcher(FunctionWithException<? super List<K>,
+											  ? extends Map<K, ? extends V>> theBulk,
+						int theMaximumBatch,
+						long theMaximumDelay,
+						TimeUnit theUnit) {
+		if (theBulk==null) {
+			throw new NullPointerException("Can not accept a null function");
+		}
+		if (theMaximumBatch<1) {
+			throw new IllegalArgumentException("Maximum batch must be positive");
+		}
+		if (theMaximumDelay<0) {
+			throw new IllegalArgumentException(
+										"Maximum delay must not be negative");
+		}
+		this.myBulk = theBulk;
+		this.myMaximumBatch = theMaximumBatch;
+		this.myMaximumDelayNanos = theUnit.toNanos(theMaximumDelay);
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns the value of the key, as returned by the bulk call of the batch
+	 * the key joins.
+	 *
+	 * @param theKey the key.
+	 *
+	 * @return the value, or null if the bulk call did not return one.
+	 *
+	 * @throws Exception the exception thrown by the bulk call, or
+	 *                   InterruptedException if interrupted while waiting for
+	 *                   another caller's bulk call.
+	**/
+	@Override
+	public V apply(K theKey)
+			throws Exception {
+		this.myCalls.increment();
+		Batch<K, V> batch;
+		boolean leader = false;
+		synchronized (this.myLock) {
+			if (this.myOpen==null) {
+				this.myOpen = new Batch<>();
+				leader = true;
+			}
+			batch = this.myOpen;
+			batch.myKeys.add(theKey);
+			if (batch.myKeys.size()>=this.myMaximumBatch) {
+				this.myOpen = null;
+				if (!leader) {
+					this.myLock.notifyAll();
+				}
+			}
+		}
+		if (leader) {
+			lead(batch);
+		}
+		return batch.await(theKey);
+	}
+
+
+	/**
+	 * Returns the number of calls made.
+	**/
+	public long getCalls() {
+		return this.myCalls.sum();
+	}
+
+
+	/**
+	 * Returns the number of bulk calls made.
+	**/
+	public long getBatches() {
+		return this.myBatches.sum();
+	}
+
+
+	/**
+	 * Returns the number of distinct keys passed to bulk calls.
+	**/
+	public long getKeys() {
+		return this.myKeys.sum();
+	}
+
+
+	/**
+	 * Returns the number of bulk calls which threw.
+	**/
+	public long getFailures() {
+		return this.myFailures.sum();
+	}
+
+
+	/**
+	 * Returns the average number of distinct keys in each bulk call.
+	**/
+	public double getAverageBatchSize() {
+		long batches = this.myBatches.sum();
+		return batches==0 ? 0 : (double)this.myKeys.sum() / batches;
+	}
+
+
+	@Override
+	public String toString() {
+		return "MicroBatcher[calls=" + getCalls() +
+			   ", batches=" + getBatches() +
+			   ", keys=" + getKeys() +
+			   ", failures=" + getFailures() + "]";
+	}
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+	/**
+	 * Waits for the batch to fill or the maximum delay to pass, closes it and
+	 * makes its bulk call.
+	**/
+	private void lead(Batch<K, V> theBatch) {
+		List<K> keys;
+		synchronized (this.myLock) {
+			long deadline = System.nanoTime() + this.myMaximumDelayNanos;
+			long remaining = this.myMaximumDelayNanos;
+			while (this.myOpen==theBatch && remaining>0) {
+				try {
+					TimeUnit.NANOSECONDS.timedWait(this.myLock, remaining);
+				}
+				catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+				remaining = deadline - System.nanoTime();
+			}
+			if (this.myOpen==theBatch) {
+				this.myOpen = null;
+			}
+			keys = Collections.unmodifiableList(new ArrayList<>(theBatch.myKeys));
+		}
+		this.myBatches.increment();
+		this.myKeys.add(keys.size());
+		try {
+			Map<K, ? extends V> values = this.myBulk.apply(keys);
+			theBatch.complete(values==null ? Collections.emptyMap() : values);
+		}
+		catch (Exception e) {
+			this.myFailures.increment();
+			theBatch.fail(e);
+		}
+		catch (Error e) {
+			this.myFailures.increment();
+			theBatch.fail(new ExecutionException(e));
+			throw e;
+		}
+	}
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+	/**
+	 * The keys of a batch, guarded by the batcher's lock until the batch is
+	 * closed, and the outcome of its bulk call, published through a latch.
+	**/
+	private static final class Batch<K, V> {
+
+		private final LinkedHashSet<K> myKeys = new LinkedHashSet<>();
+		private final CountDownLatch myLatch = new CountDownLatch(1);
+		private Map<K, ? extends V> myValues;
+		private Exception myFailure;
+
+		private void complete(Map<K, ? extends V> theValues) {
+			this.myValues = theValues;
+			this.myLatch.countDown();
+		}
+
+
+		private void fail(Exception theFailure) {
+			this.myFailure = theFailure;
+			this.myLatch.countDown();
+		}
+
+
+		private V await(K theKey)
+				throws Exception {
+			this.myLatch.await();
+			if (this.myFailure!=null) {
+				throw this.myFailure;
+			}
+			return this.myValues.get(theKey);
+		}
+	}
+}
@@ -0,0 +1,361 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import uk.co.adambh.util.functions.MethodReferences.FunctionWithException;
+
+
+
+/**
+ * <p>Provides a parallel map of a collection through a function which throws
+ * checked exceptions, with the parallelism and executor under the caller's
+ * control and the results in the collection's iteration order.</p>
+ *
+ * <p>The elements are drawn from the collection's iterator in chunks by a
+ * fixed number of lanes, one of them the calling thread, rather than split
+ * into a task per element, so however large the collection only the
+ * results are held in full. As the calling thread takes part, a call made
+ * from one of the executor's own threads can not starve for want of
+ * another.</p>
+ *
+ * <p>By default the first failure stops the map: no further chunks are
+ * started, the lanes running on the executor are interrupted, and once every
+ * lane has stopped the exception is thrown. Alternatively every element may
+ * be tried, and the failure of the first element to fail thrown with the
+ * failures of the others added as suppressed exceptions.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class ParallelFunctions {
+
+
+	// ************************************************************************\
+	// Enums                                                                   *
+	// ************************************************************************/
+
+	/**
+	 * What a parallel map does when the function throws.
+	**/
+	public enum FailureMode {
+
+		/**
+		 * Stop at the first failure, interrupting the calls in flight, and
+		 * throw its exception.
+		**/
+		FAIL_FAST,
+
+		/**
+		 * Try every element, and throw the exception of the first element to
+		 * fail with those of the others suppressed.
+		**/
+		COLLECT_ALL
+	}
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	/**
+	 * The most elements drawn by a lane at once.
+	**/
+	public static final int MAX_CHUNK = 1024;
+
+	/**
+	 * The number of chunks aimed for per lane, so that lanes finish close
+	 * together when elements take uneven times.
+	**/
+	private static final int CHUNKS_PER_LANE = 8;
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private ParallelFunctions() {}
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+	/**
+	 * The state of a single parallel map, shared by its lanes and guarded by
+	 * itself.
+	**/
+	private static final class ParallelMap<T, R> {
+
+		private final Iterator<? extends T> myElements;
+		private final FunctionWithException<? super T, ? extends R> myFunction;
+		private final FailureMode myMode;
+		private final int myChunkSize;
+		private final Object[] myResults;
+
+		private final Set<Thread> myLaneThreads = new HashSet<>();
+		private final SortedMap<Integer, Throwable> myFailures = new TreeMap<>();
+		private volatile boolean myStopping;
+		private final Set<Thread> myInterrupted = new HashSet<>();
+		private int myNext;
+		private boolean myClosed;
+
+		private ParallelMap(
+						Collection<? extends T> theElements,
+						FunctionWithException<? super T, ? extends R> theFunction,
+						FailureMode theMode,
+						int theChunkSize) {
+			this.myElements = theElements.iterator();
+			this.myFunction = theFunction;
+			this.myMode = theMode;
+			this.myChunkSize = theChunkSize;
+			this.myResults = new Object[theElements.size()];
+		}
+
+
+		/**
+		 * Runs the lanes on the executor and the calling thread, returning the
+		 * results or throwing the failure.
+		**/
+		@SuppressWarnings("unchecked")
+		private List<R> run(Executor theExecutor, int theLanes)
+				throws Exception {
+			try {
+				for (int i = 1; i<theLanes; i++) {
+					try {
+						theExecutor.execute(this::lane);
+					}
+					catch (RejectedExecutionException ree) {
+						break;
+					}
+				}
+				lane();
+			}
+			finally {
+				close();
+			}
+
+			Throwable failure;
+			synchronized (this) {
+				if (this.myFailures.isEmpty()) {
+					return (List<R>)Arrays.asList(this.myResults);
+				}
+				Iterator<Throwable> failures = this.myFailures.values().iterator();
+				failure = failures.next();
+				while (failures.hasNext()) {
+					failure.addSuppressed(failures.next());
+				}
+			}
+			if (failure instanceof Error) {
+				throw (Error)failure;
+			}
+			throw (Exception)failure;
+		}
+
+
+		/**
+		 * Applies the function to chunks of elements until there are none
+		 * left, or the map is stopping.
+		**/
+		private void lane() {
+			Thread current = Thread.currentThread();
+			synchronized (this) {
+				if (this.myClosed || !this.myLaneThreads.add(current)) {
+					return;
+				}
+			}
+			try {
+				Object[] chunk = new Object[this.myChunkSize];
+				int start;
+				int size;
+				do {
+					synchronized (this) {
+						start = this.myNext;
+						size = 0;
+						while (!this.myStopping &&
+							   size<chunk.length &&
+							   this.myElements.hasNext()) {
+							chunk[size++] = this.myElements.next();
+						}
+						this.myNext += size;
+					}
+					for (int i = 0; i<size; i++) {
+						@SuppressWarnings("unchecked")
+						T element = (T)chunk[i];
+						chunk[i] = null;
+						if (this.myStopping) {
+							continue;
+						}
+						try {
+							this.myResults[start + i] = this.myFunction.apply(element);
+						}
+						catch (Throwable t) {
+							fail(start + i, t);
+						}
+					}
+				}
+				while (size>0);
+			}
+			finally {
+				synchronized (this) {
+					if (this.myInterrupted.remove(current)) {
+						Thread.interrupted();
+					}
+					this.myLaneThreads.remove(current);
+					notifyAll();
+				}
+			}
+		}
+
+
+		/**
+		 * Records the failure of an element, and when failing fast stops the
+		 * map.
+		**/
+		private synchronized void fail(int theIndex, Throwable theFailure) {
+			if (this.myMode==FailureMode.COLLECT_ALL) {
+				this.myFailures.put(theIndex, theFailure);
+			}
+			else if (!this.myStopping) {
+				this.myFailures.put(theIndex, theFailure);
+				stop();
+			}
+		}
+
+
+		/**
+		 * Stops further elements being started, and interrupts the lanes in
+		 * flight other than the current thread's. The threads interrupted are
+		 * recorded, and each clears its interrupt as its lane unregisters, so
+		 * the interrupt does not outlive the map on the executor's threads or
+		 * the calling thread.
+		**/
+		private synchronized void stop() {
+			this.myStopping = true;
+			Thread current = Thread.currentThread();
+			for (Thread aThread : this.myLaneThreads) {
+				if (aThread!=current) {
+					aThread.interrupt();
+					this.myInterrupted.add(aThread);
+				}
+			}
+		}
+
+
+		/**
+		 * Stops lanes which have yet to start from starting, and waits for
+		 * those which have to finish. Should the calling thread be
+		 * interrupted while waiting, the map is stopped whatever its failure
+		 * mode.
+		**/
+		private synchronized void close()
+				throws InterruptedException {
+			this.myClosed = true;
+			InterruptedException interrupted = null;
+			while (!this.myLaneThreads.isEmpty()) {
+				try {
+					wait();
+				}
+				catch (InterruptedException ie) {
+					interrupted = ie;
+					stop();
+				}
+			}
+			if (interrupted!=null) {
+				throw interrupted;
+			}
+		}
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Applies the function to each element of the collection in parallel on
+	 * the common fork/join pool, stopping at the first failure.
+	 *
+	 * @param <T> the type of the elements.
+	 * @param <R> the type of the results.
+	 * @param theElements the elements.
+	 * @param theFunction the function.
+	 * @param theParallelism the greatest number of calls to run at once,
+	 *                       including on the calling thread.
+	 *
+	 * @return the results, in the collection's iteration order.
+	 *
+	 * @throws Exception the exception thrown by the function for the first
+	 *                   element to fail, or InterruptedException if the
+	 *                   calling thread is interrupted.
+	 * @throws NullPointerException if the collection or function supplied is
+	 *                              null.
+	 * @throws IllegalArgumentException if the parallelism is not positive.
+	**/
+	public static <T, R> List<R> parallelMap(
+						Collection<? extends T> theElements,
+						FunctionWithException<? super T, ? extends R> theFunction,
+						int theParallelism)
+			throws Exception {
+		return parallelMap(theElements,
+						   theFunction,
+						   theParallelism,
+						   ForkJoinPool.commonPool(),
+						   FailureMode.FAIL_FAST);
+	}
+
+
+	/**
+	 * Applies the function to each element of the collection in parallel on
+	 * the executor and the calling thread.
+	 *
+	 * @param <T> the type of the elements.
+	 * @param <R> the type of the results.
+	 * @param theElements the elements.
+	 * @param theFunction the function.
+	 * @param theParallelism the greatest number of calls to run at once,
+	 *                       including on the calling thread.
+	 * @param theExecutor the executor.
+	 * @param theMode what to do when the function throws.
+	 *
+	 * @return the results, in the collection's iteration order.
+	 *
+	 * @throws Exception the exception thrown by the function for the first
+	 *                   element to fail, or InterruptedException if the
+	 *                   calling thread is interrupted.
+	 * @throws NullPointerException if the collection, function, executor or
+	 *                              mode supplied is null.
+	 * @throws IllegalArgumentException if the parallelism is not positive.
+	**/
+	public static <T, R> List<R> parallelMap(
+						Collection<? extends T> theElements,
+						FunctionWithException<? super T, ? extends R> theFunction,
+						int theParallelism,
+						Executor theExecutor,
+						FailureMode theMode)
+			throws Exception {
+		Objects.requireNonNull(theElements);
+		Objects.requireNonNull(theFunction);
+		Objects.requireNonNull(theExecutor);
+		Objects.requireNonNull(theMode);
+		if (theParallelism<1) {
+			throw new IllegalArgumentException("Parallelism must be positive");
+		}
+		int size = theElements.size();
+		if (size==0) {
+			return new ArrayList<>();
+		}
+		int chunks = theParallelism * CHUNKS_PER_LANE;
+		int chunkSize = Math.max(1, Math.min(MAX_CHUNK,
+											 (size + chunks - 1) / chunks));
+		int lanes = Math.min(theParallelism, (size + chunkSize - 1) / chunkSize);
+		return new ParallelMap<T, R>(theElements, theFunction, theMode, chunkSize)
+						.run(theExecutor, lanes);
+	}
+}
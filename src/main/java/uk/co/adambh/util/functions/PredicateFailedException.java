@@ -0,0 +1,47 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+/**
+ * Thrown, or held by a failed {@link Try}, when a predicate does not hold.
+ * When control flow exceptions are stackless (see
+ * {@link ControlFlowException}) a failed {@link Try#filter(Try.TryPredicate)}
+ * holds a single shared instance which does not name the value.
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public class PredicateFailedException extends ControlFlowException {
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The shared stackless instance.
+	**/
+	static final PredicateFailedException SHARED =
+						new PredicateFailedException("Predicate does not hold",
+													 false);
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	public PredicateFailedException(String theMessage) {
+		super(theMessage);
+	}
+
+
+	private PredicateFailedException(String theMessage, boolean theStackTrace) {
+		super(theMessage, theStackTrace);
+	}
+}
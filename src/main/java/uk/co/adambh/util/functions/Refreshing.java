@@ -0,0 +1,330 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import uk.co.adambh.util.functions.MethodReferences.SupplierWithException;
+
+
+
+/**
+ * <p>A value computed by a supplier which may throw, computed on first use
+ * and, optionally, refreshed ahead of its expiry.</p>
+ *
+ * <p>Reads of a loaded value only read a volatile field and the clock, and
+ * do not lock. Concurrent calls before the first load result in a single
+ * call to the supplier, the other callers waiting for its result; should it
+ * throw, each caller throws its exception and the next call tries again.</p>
+ *
+ * <p>A refreshing value is refreshed on the executor supplied when it is read
+ * within the refresh ahead time of its expiry, readers carrying on with the
+ * current value meanwhile. Only one refresh is in flight at a time. Reading a
+ * value which has expired waits for a refresh. Should a refresh throw, the
+ * last good value is kept and served, expired or not, and no refresh is
+ * tried again for a tenth of the time to live; the exception can be had from
+ * {@link #getLastFailure()}.</p>
+ *
+ * @param <T> the type of the value.
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class Refreshing<T> implements SupplierWithException<T> {
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final SupplierWithException<? extends T> mySupplier;
+	private final long myTtlNanos;
+	private final long myRefreshNanos;
+	private final long myRetryNanos;
+	private final Executor myExecutor;
+
+	private volatile Snapshot<T> mySnapshot;
+	private volatile Exception myLastFailure;
+	private final AtomicReference<FutureTask<Snapshot<T>>> myLoad =
+														new AtomicReference<>();
+
+	private final LongAdder myLoads = new LongAdder();
+	private final LongAdder myFailures = new LongAdder();
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private Refreshing(SupplierWithException<? extends T> theSupplier,
+					   long theTtlNanos,
+					   long theRefreshAheadNanos,
+					   Executor theExecutor) {
+		if (theSupplier==null) {
+			throw new NullPointerException("Can not accept a null supplier");
+		}
+		if (theTtlNanos<=0) {
+			throw new IllegalArgumentException("Time to live must be positive");
+		}
+		if (theRefreshAheadNanos<0 || theRefreshAheadNanos>theTtlNanos) {
+			throw new IllegalArgumentException(
+				"Refresh ahead time must be from zero to the time to live");
+		}
+		this.mySupplier = theSupplier;
+		this.myTtlNanos = theTtlNanos;
+		this.myRefreshNanos = theTtlNanos - theRefreshAheadNanos;
+		this.myRetryNanos = theTtlNanos / 10;
+		this.myExecutor = theExecutor;
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns the current value, loading it first if it has not been loaded
+	 * or has expired.
+	 *
+	 * @return the value.
+	 *
+	 * @throws Exception the exception thrown by the supplier, should the
+	 *                   first load fail, or InterruptedException if
+	 *                   interrupted while waiting for another caller's load.
+	**/
+	@Override
+	public T get()
+			throws Exception {
+		Snapshot<T> snapshot = this.mySnapshot;
+		if (snapshot==null) {
+			return await(load(true)).myValue;
+		}
+		long now = System.nanoTime();
+		long age = now - snapshot.myLoaded;
+		if (age<this.myRefreshNanos || now - snapshot.myRetry<0) {
+			return snapshot.myValue;
+		}
+		if (age<this.myTtlNanos) {
+			load(false);
+			return snapshot.myValue;
+		}
+		return await(load(true)).myValue;
+	}
+
+
+	/**
+	 * Returns whether a value has been loaded.
+	**/
+	public boolean isLoaded() {
+		return this.mySnapshot!=null;
+	}
+
+
+	/**
+	 * Returns the exception thrown by the latest load, or null if it
+	 * succeeded or no load has been tried.
+	**/
+	public Exception getLastFailure() {
+		return this.myLastFailure;
+	}
+
+
+	/**
+	 * Returns the number of successful loads, including refreshes.
+	**/
+	public long getLoads() {
+		return this.myLoads.sum();
+	}
+
+
+	/**
+	 * Returns the number of failed loads, including refreshes.
+	**/
+	public long getFailures() {
+		return this.myFailures.sum();
+	}
+
+
+	@Override
+	public String toString() {
+		return "Refreshing[loaded=" + isLoaded() +
+			   ", loads=" + getLoads() +
+			   ", failures=" + getFailures() + "]";
+	}
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+	/**
+	 * Returns the load in flight, or starts one: on the calling thread if it
+	 * is to wait for it, otherwise on the executor. A load the executor
+	 * rejects is dropped, to be tried again by a later read.
+	**/
+	private FutureTask<Snapshot<T>> load(boolean theWait) {
+		FutureTask<Snapshot<T>> created = new FutureTask<>(this::call);
+		while (!this.myLoad.compareAndSet(null, created)) {
+			FutureTask<Snapshot<T>> load = this.myLoad.get();
+			if (load!=null) {
+				return load;
+			}
+		}
+		if (theWait) {
+			created.run();
+		}
+		else {
+			try {
+				this.myExecutor.execute(created);
+			}
+			catch (RejectedExecutionException ree) {
+				this.myLoad.compareAndSet(created, null);
+			}
+		}
+		return created;
+	}
+
+
+	/**
+	 * Calls the supplier, returning the new snapshot, or on failure the last
+	 * good one held back from refreshing for a while.
+	**/
+	private Snapshot<T> call()
+			throws Exception {
+		try {
+			T value = this.mySupplier.get();
+			Snapshot<T> snapshot = new Snapshot<>(value, System.nanoTime());
+			this.mySnapshot = snapshot;
+			this.myLastFailure = null;
+			this.myLoads.increment();
+			return snapshot;
+		}
+		catch (Exception e) {
+			this.myLastFailure = e;
+			this.myFailures.increment();
+			Snapshot<T> current = this.mySnapshot;
+			if (current==null) {
+				throw e;
+			}
+			Snapshot<T> retained = current.retryAfter(System.nanoTime() +
+													  this.myRetryNanos);
+			this.mySnapshot = retained;
+			return retained;
+		}
+		finally {
+			this.myLoad.set(null);
+		}
+	}
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+	/**
+	 * A loaded value, with the time it was loaded and the time before which
+	 * it is not to be refreshed again after a failed refresh.
+	**/
+	private static final class Snapshot<T> {
+
+		private final T myValue;
+		private final long myLoaded;
+		private final long myRetry;
+
+		private Snapshot(T theValue, long theLoaded) {
+			this(theValue, theLoaded, theLoaded);
+		}
+
+
+		private Snapshot(T theValue, long theLoaded, long theRetry) {
+			this.myValue = theValue;
+			this.myLoaded = theLoaded;
+			this.myRetry = theRetry;
+		}
+
+
+		private Snapshot<T> retryAfter(long theRetry) {
+			return new Snapshot<>(this.myValue, this.myLoaded, theRetry);
+		}
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns a value computed by the supplier on first use and kept for good.
+	 *
+	 * @param <T> the type of the value.
+	 * @param theSupplier the supplier.
+	 *
+	 * @return the lazy value.
+	 *
+	 * @throws NullPointerException if the supplier supplied is null.
+	**/
+	public static <T> Refreshing<T> lazy(
+							SupplierWithException<? extends T> theSupplier) {
+		return new Refreshing<>(theSupplier, Long.MAX_VALUE, 0, null);
+	}
+
+
+	/**
+	 * Returns a value computed by the supplier on first use, which expires
+	 * after the time to live and is refreshed on the executor when read
+	 * within the refresh ahead time of its expiry.
+	 *
+	 * @param <T> the type of the value.
+	 * @param theSupplier the supplier.
+	 * @param theTtl the time to live of each value loaded.
+	 * @param theRefreshAhead the time before expiry from which a read starts
+	 *                        a refresh.
+	 * @param theUnit the unit of the times.
+	 * @param theExecutor the executor to refresh on.
+	 *
+	 * @return the refreshing value.
+	 *
+	 * @throws NullPointerException if the supplier, unit or executor supplied
+	 *                              is null.
+	 * @throws IllegalArgumentException if the time to live is not positive,
+	 *                                  or the refresh ahead time is negative
+	 *                                  or greater than the time to live.
+	**/
+	public static <T> Refreshing<T> of(
+							SupplierWithException<? extends T> theSupplier,
+							long theTtl,
+							long theRefreshAhead,
+							TimeUnit theUnit,
+							Executor theExecutor) {
+		if (theExecutor==null) {
+			throw new NullPointerException("Can not accept a null executor");
+		}
+		return new Refreshing<>(theSupplier,
+								theUnit.toNanos(theTtl),
+								theUnit.toNanos(theRefreshAhead),
+								theExecutor);
+	}
+
+
+	/**
+	 * Waits for a load, throwing the exception of a failed one.
+	**/
+	private static <T> Snapshot<T> await(FutureTask<Snapshot<T>> theLoad)
+			throws Exception {
+		try {
+			return theLoad.get();
+		}
+		catch (ExecutionException ee) {
+			Throwable cause = ee.getCause();
+			if (cause instanceof Error) {
+				throw (Error)cause;
+			}
+			throw (Exception)cause;
+		}
+	}
+}
@@ -0,0 +1,64 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.function.*;
+
+import uk.co.adambh.util.functions.MethodReferences.*;
+
+
+
+/**
+ * The template copied by {@link Specializer} for each class of consumer
+ * wrapped by {@link MethodReferences#specialized(BiConsumerWithException)}.
+ * Copies are defined in loaders of their own, so this class may refer to
+ * nothing but public types, and its constructor is not private so that no
+ * accessor is generated for it.
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+final class SpecializedBiConsumer<T, U> implements BiConsumer<T, U> {
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final BiConsumerWithException<? super T, ? super U> myTarget;
+	private final Function<Exception, ? extends RuntimeException> myFunc;
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	@SuppressWarnings("unchecked")
+	SpecializedBiConsumer(Object theTarget,
+			Function<Exception, ? extends RuntimeException> theFunc) {
+		this.myTarget = (BiConsumerWithException<? super T, ? super U>)theTarget;
+		this.myFunc = theFunc;
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	@Override
+	public void accept(T theFirstValue, U theSecondValue) {
+		try {
+			this.myTarget.accept(theFirstValue, theSecondValue);
+		}
+		catch (RuntimeException re) {
+			throw re;
+		}
+		catch (Exception e) {
+			throw this.myFunc.apply(e);
+		}
+	}
+}
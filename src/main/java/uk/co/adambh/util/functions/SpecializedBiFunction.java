@@ -0,0 +1,66 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.function.*;
+
+import uk.co.adambh.util.functions.MethodReferences.*;
+
+
+
+/**
+ * The template copied by {@link Specializer} for each class of function
+ * wrapped by {@link MethodReferences#specialized(BiFunctionWithException)}.
+ * Copies are defined in loaders of their own, so this class may refer to
+ * nothing but public types, and its constructor is not private so that no
+ * accessor is generated for it.
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+final class SpecializedBiFunction<T, U, R> implements BiFunction<T, U, R> {
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final BiFunctionWithException<? super T, ? super U,
+										  ? extends R> myTarget;
+	private final Function<Exception, ? extends RuntimeException> myFunc;
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	@SuppressWarnings("unchecked")
+	SpecializedBiFunction(Object theTarget,
+			Function<Exception, ? extends RuntimeException> theFunc) {
+		this.myTarget = (BiFunctionWithException<? super T, ? super U,
+												 ? extends R>)theTarget;
+		this.myFunc = theFunc;
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	@Override
+	public R apply(T theFirstValue, U theSecondValue) {
+		try {
+			return this.myTarget.apply(theFirstValue, theSecondValue);
+		}
+		catch (RuntimeException re) {
+			throw re;
+		}
+		catch (Exception e) {
+			throw this.myFunc.apply(e);
+		}
+	}
+}
@@ -0,0 +1,64 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.function.*;
+
+import uk.co.adambh.util.functions.MethodReferences.*;
+
+
+
+/**
+ * The template copied by {@link Specializer} for each class of predicate
+ * wrapped by {@link MethodReferences#specialized(BiPredicateWithException)}.
+ * Copies are defined in loaders of their own, so this class may refer to
+ * nothing but public types, and its constructor is not private so that no
+ * accessor is generated for it.
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+final class SpecializedBiPredicate<T, U> implements BiPredicate<T, U> {
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final BiPredicateWithException<? super T, ? super U> myTarget;
+	private final Function<Exception, ? extends RuntimeException> myFunc;
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	@SuppressWarnings("unchecked")
+	SpecializedBiPredicate(Object theTarget,
+			Function<Exception, ? extends RuntimeException> theFunc) {
+		this.myTarget = (BiPredicateWithException<? super T, ? super U>)theTarget;
+		this.myFunc = theFunc;
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	@Override
+	public boolean test(T theFirstValue, U theSecondValue) {
+		try {
+			return this.myTarget.test(theFirstValue, theSecondValue);
+		}
+		catch (RuntimeException re) {
+			throw re;
+		}
+		catch (Exception e) {
+			throw this.myFunc.apply(e);
+		}
+	}
+}
@@ -0,0 +1,64 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.function.*;
+
+import uk.co.adambh.util.functions.MethodReferences.*;
+
+
+
+/**
+ * The template copied by {@link Specializer} for each class of consumer
+ * wrapped by {@link MethodReferences#specialized(ConsumerWithException)}.
+ * Copies are defined in loaders of their own, so this class may refer to
+ * nothing but public types, and its constructor is not private so that no
+ * accessor is generated for it.
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+final class SpecializedConsumer<T> implements Consumer<T> {
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final ConsumerWithException<? super T> myTarget;
+	private final Function<Exception, ? extends RuntimeException> myFunc;
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	@SuppressWarnings("unchecked")
+	SpecializedConsumer(Object theTarget,
+			Function<Exception, ? extends RuntimeException> theFunc) {
+		this.myTarget = (ConsumerWithException<? super T>)theTarget;
+		this.myFunc = theFunc;
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	@Override
+	public void accept(T theValue) {
+		try {
+			this.myTarget.accept(theValue);
+		}
+		catch (RuntimeException re) {
+			throw re;
+		}
+		catch (Exception e) {
+			throw this.myFunc.apply(e);
+		}
+	}
+}
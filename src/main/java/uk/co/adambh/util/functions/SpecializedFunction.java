@@ -0,0 +1,64 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.function.*;
+
+import uk.co.adambh.util.functions.MethodReferences.*;
+
+
+
+/**
+ * The template copied by {@link Specializer} for each class of function
+ * wrapped by {@link MethodReferences#specialized(FunctionWithException)}.
+ * Copies are defined in loaders of their own, so this class may refer to
+ * nothing but public types, and its constructor is not private so that no
+ * accessor is generated for it.
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+final class SpecializedFunction<T, R> implements Function<T, R> {
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final FunctionWithException<? super T, ? extends R> myTarget;
+	private final Function<Exception, ? extends RuntimeException> myFunc;
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	@SuppressWarnings("unchecked")
+	SpecializedFunction(Object theTarget,
+			Function<Exception, ? extends RuntimeException> theFunc) {
+		this.myTarget = (FunctionWithException<? super T, ? extends R>)theTarget;
+		this.myFunc = theFunc;
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	@Override
+	public R apply(T theValue) {
+		try {
+			return this.myTarget.apply(theValue);
+		}
+		catch (RuntimeException re) {
+			throw re;
+		}
+		catch (Exception e) {
+			throw this.myFunc.apply(e);
+		}
+	}
+}
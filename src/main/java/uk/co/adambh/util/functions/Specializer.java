@@ -0,0 +1,259 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.io.*;
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.function.*;
+
+import uk.co.adambh.util.functions.MethodReferences.*;
+
+
+
+/**
+ * <p>Creates the wrappers returned by the {@code specialized} methods of
+ * {@link MethodReferences}, each an instance of a wrapper class of its own
+ * for each class of wrapped function.</p>
+ *
+ * <p>Each shape of wrapper has a package-private template class, such as
+ * {@link SpecializedFunction}. For each template and each class of wrapped
+ * function, the template's class file is defined again in a class loader of
+ * its own, giving a new class with the same code. The
+ * JIT profiles each class separately, so the call to the wrapped function
+ * within each copy only ever sees one class and may be inlined, where within
+ * a single shared wrapper it would see every class wrapped. The copies refer
+ * only to public types, which they resolve through the parent loader.</p>
+ *
+ * <p>Copies are cached per template and class of wrapped function, and so are
+ * made once per lambda expression or method reference in the calling code.
+ * Should a copy not be possible, as where class files can not be read, the
+ * template itself is used; so too when specialization is switched off with
+ * {@code -Duk.co.adambh.util.functions.specialize=false}.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+final class Specializer {
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	static final boolean ENABLED = Boolean.parseBoolean(System.getProperty(
+							"uk.co.adambh.util.functions.specialize", "true"));
+
+	static final Function<Exception, RuntimeException> WRAP =
+														RuntimeException::new;
+
+	private static final MethodType CONSTRUCTOR_TYPE =
+			MethodType.methodType(Object.class, Object.class, Function.class);
+
+	private static final Specializer CONSUMER =
+								new Specializer(SpecializedConsumer.class);
+	private static final Specializer BI_CONSUMER =
+								new Specializer(SpecializedBiConsumer.class);
+	private static final Specializer FUNCTION =
+								new Specializer(SpecializedFunction.class);
+	private static final Specializer BI_FUNCTION =
+								new Specializer(SpecializedBiFunction.class);
+	private static final Specializer SUPPLIER =
+								new Specializer(SpecializedSupplier.class);
+	private static final Specializer PREDICATE =
+								new Specializer(SpecializedPredicate.class);
+	private static final Specializer BI_PREDICATE =
+								new Specializer(SpecializedBiPredicate.class);
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final Class<?> myTemplate;
+	private final MethodHandle myTemplateConstructor;
+	private volatile byte[] myClassFile;
+
+	private final ClassValue<MethodHandle> myConstructors =
+												new ClassValue<MethodHandle>() {
+		@Override
+		protected MethodHandle computeValue(Class<?> theTargetClass) {
+			return copy();
+		}
+	};
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private Specializer(Class<?> theTemplate) {
+		this.myTemplate = theTemplate;
+		this.myTemplateConstructor = constructor(theTemplate);
+	}
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+	/**
+	 * Returns a new instance of this template's copy for the class of the
+	 * target, or of the template itself should specialization be off.
+	**/
+	@SuppressWarnings("unchecked")
+	private <W> W wrap(Object theTarget,
+					   Function<Exception, ? extends RuntimeException> theFunc) {
+		MethodHandle constructor = ENABLED ?
+									this.myConstructors.get(theTarget.getClass()) :
+									this.myTemplateConstructor;
+		try {
+			return (W)(Object)constructor.invokeExact(theTarget,
+													  (Function)theFunc);
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable t) {
+			throw new IllegalStateException(t);
+		}
+	}
+
+
+	/**
+	 * Defines a new copy of the template, returning its constructor, or the
+	 * template's own constructor if no copy can be made.
+	**/
+	private MethodHandle copy() {
+		try {
+			byte[] classFile = classFile();
+			Class<?> copy = new CopyLoader(this.myTemplate.getClassLoader())
+									.define(this.myTemplate.getName(), classFile);
+			return constructor(copy);
+		}
+		catch (IOException | LinkageError | RuntimeException e) {
+			return this.myTemplateConstructor;
+		}
+	}
+
+
+	private byte[] classFile()
+			throws IOException {
+		byte[] classFile = this.myClassFile;
+		if (classFile==null) {
+			String name = this.myTemplate.getName();
+			String resource = name.substring(name.lastIndexOf('.') + 1) + ".class";
+			try (InputStream in = this.myTemplate.getResourceAsStream(resource)) {
+				if (in==null) {
+					throw new FileNotFoundException(resource);
+				}
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				byte[] buffer = new byte[4096];
+				for (int read; (read = in.read(buffer))!=-1; ) {
+					out.write(buffer, 0, read);
+				}
+				classFile = out.toByteArray();
+			}
+			this.myClassFile = classFile;
+		}
+		return classFile;
+	}
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+	/**
+	 * A loader holding a single copy of a template, which it defines itself
+	 * and otherwise delegates to its parent.
+	**/
+	private static final class CopyLoader extends ClassLoader {
+
+		private CopyLoader(ClassLoader theParent) {
+			super(theParent);
+		}
+
+
+		private Class<?> define(String theName, byte[] theClassFile) {
+			return defineClass(theName, theClassFile, 0, theClassFile.length);
+		}
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	static <T> Consumer<T> consumer(
+					ConsumerWithException<? super T> theConsumer,
+					Function<Exception, ? extends RuntimeException> theFunc) {
+		return CONSUMER.wrap(theConsumer, theFunc);
+	}
+
+
+	static <T, U> BiConsumer<T, U> biConsumer(
+					BiConsumerWithException<? super T, ? super U> theConsumer,
+					Function<Exception, ? extends RuntimeException> theFunc) {
+		return BI_CONSUMER.wrap(theConsumer, theFunc);
+	}
+
+
+	static <T, R> Function<T, R> function(
+					FunctionWithException<? super T, ? extends R> theFunction,
+					Function<Exception, ? extends RuntimeException> theFunc) {
+		return FUNCTION.wrap(theFunction, theFunc);
+	}
+
+
+	static <T, U, R> BiFunction<T, U, R> biFunction(
+					BiFunctionWithException<? super T, ? super U,
+											? extends R> theFunction,
+					Function<Exception, ? extends RuntimeException> theFunc) {
+		return BI_FUNCTION.wrap(theFunction, theFunc);
+	}
+
+
+	static <T> Supplier<T> supplier(
+					SupplierWithException<? extends T> theSupplier,
+					Function<Exception, ? extends RuntimeException> theFunc) {
+		return SUPPLIER.wrap(theSupplier, theFunc);
+	}
+
+
+	static <T> Predicate<T> predicate(
+					PredicateWithException<? super T> thePredicate,
+					Function<Exception, ? extends RuntimeException> theFunc) {
+		return PREDICATE.wrap(thePredicate, theFunc);
+	}
+
+
+	static <T, U> BiPredicate<T, U> biPredicate(
+					BiPredicateWithException<? super T, ? super U> thePredicate,
+					Function<Exception, ? extends RuntimeException> theFunc) {
+		return BI_PREDICATE.wrap(thePredicate, theFunc);
+	}
+
+
+	/**
+	 * Returns the constructor of a template or copy, typed to take the target
+	 * and exception function and to return an object.
+	**/
+	private static MethodHandle constructor(Class<?> theClass) {
+		try {
+			Constructor<?> constructor = theClass.getDeclaredConstructor(
+												Object.class, Function.class);
+			constructor.setAccessible(true);
+			return MethodHandles.lookup()
+								.unreflectConstructor(constructor)
+								.asType(CONSTRUCTOR_TYPE);
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
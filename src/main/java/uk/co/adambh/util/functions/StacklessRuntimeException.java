@@ -0,0 +1,38 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+/**
+ * Runtime exception wrapping a checked exception which, unlike a plain
+ * {@link RuntimeException}, neither captures a stack trace nor records
+ * suppressed exceptions. The stack trace of the checked exception it wraps
+ * is still available from {@link #getCause()}.
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public class StacklessRuntimeException extends RuntimeException {
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	private static final long serialVersionUID = 1L;
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	public StacklessRuntimeException(Throwable theCause) {
+		super(theCause==null ? null : theCause.toString(),
+			  theCause,
+			  false,
+			  false);
+	}
+}
@@ -0,0 +1,554 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import uk.co.adambh.util.functions.MethodReferences.BiFunctionWithException;
+import uk.co.adambh.util.functions.MethodReferences.FunctionWithException;
+import uk.co.adambh.util.functions.MethodReferences.SupplierWithException;
+
+
+
+/**
+ * <p>Bounds the time callers wait for calls which may hang, such as a stat on
+ * a dead network mount: each call runs on an executor while the caller waits
+ * no longer than its timeout or deadline, then throws a TimeoutException.</p>
+ *
+ * <p>A call which times out is either interrupted or abandoned, as chosen
+ * when the limiter is created; either way the caller returns at once, and a
+ * call which is still running afterwards, having ignored or not been sent
+ * the interrupt, is counted as abandoned until it finishes. The count of
+ * abandoned calls is the number of threads stuck in them.</p>
+ *
+ * <p>The deadline of a call is passed on to calls made within it: a call
+ * made on a thread already running a limited call, on this or any other
+ * limiter, is given the earlier of its own deadline and the one in force, and
+ * {@link #getRemaining(TimeUnit)} gives the time remaining for calls which
+ * take a timeout of their own.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class TimeLimiter {
+
+
+	// ************************************************************************\
+	// Enums                                                                   *
+	// ************************************************************************/
+
+	/**
+	 * What is done with a call which has timed out.
+	**/
+	public enum Policy {
+
+		/**
+		 * Interrupt the thread running the call.
+		**/
+		INTERRUPT,
+
+		/**
+		 * Leave the call to finish, discarding its result.
+		**/
+		ABANDON
+	}
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	/**
+	 * The deadline in force on the current thread, as a System.nanoTime(), or
+	 * null if there is none.
+	**/
+	private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+	/**
+	 * The longest timeout honoured, keeping deadlines clear of overflow.
+	**/
+	private static final long MAX_TIMEOUT_NANOS = Long.MAX_VALUE >> 1;
+
+	private static final int NEW = 0;
+	private static final int RUNNING = 1;
+	private static final int DONE = 2;
+	private static final int ABANDONED = 3;
+
+	private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final Executor myExecutor;
+	private final Policy myPolicy;
+
+	private final LongAdder myCalls = new LongAdder();
+	private final LongAdder myTimeouts = new LongAdder();
+	private final AtomicInteger myAbandoned = new AtomicInteger();
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private TimeLimiter(Executor theExecutor, Policy thePolicy) {
+		if (theExecutor==null) {
+			throw new NullPointerException("Can not accept a null executor");
+		}
+		if (thePolicy==null) {
+			throw new NullPointerException("Can not accept a null policy");
+		}
+		this.myExecutor = theExecutor;
+		this.myPolicy = thePolicy;
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Calls the supplier on the executor, waiting no longer than the timeout,
+	 * or the deadline already in force on this thread if that is sooner.
+	 *
+	 * @param <T> the type returned by the supplier.
+	 * @param theSupplier the supplier.
+	 * @param theTimeout the timeout.
+	 * @param theUnit the unit of the timeout.
+	 *
+	 * @return the result of the supplier.
+	 *
+	 * @throws Exception the exception thrown by the supplier,
+	 *                   TimeoutException if it did not complete in time, or
+	 *                   InterruptedException if the calling thread is
+	 *                   interrupted while waiting.
+	 * @throws NullPointerException if the supplier or unit supplied is null.
+	 * @throws RejectedExecutionException if the executor rejects the call.
+	**/
+	public <T> T call(SupplierWithException<? extends T> theSupplier,
+					  long theTimeout,
+					  TimeUnit theUnit)
+			throws Exception {
+		Objects.requireNonNull(theSupplier);
+		long timeout = Math.min(theUnit.toNanos(theTimeout), MAX_TIMEOUT_NANOS);
+		return callBy(theSupplier, System.nanoTime() + Math.max(0, timeout));
+	}
+
+
+	/**
+	 * Calls the supplier on the executor, waiting no later than the deadline,
+	 * or the deadline already in force on this thread if that is sooner.
+	 *
+	 * @param <T> the type returned by the supplier.
+	 * @param theSupplier the supplier.
+	 * @param theDeadline the deadline.
+	 *
+	 * @return the result of the supplier.
+	 *
+	 * @throws Exception the exception thrown by the supplier,
+	 *                   TimeoutException if it did not complete in time, or
+	 *                   InterruptedException if the calling thread is
+	 *                   interrupted while waiting.
+	 * @throws NullPointerException if the supplier or deadline supplied is
+	 *                              null.
+	 * @throws RejectedExecutionException if the executor rejects the call.
+	**/
+	public <T> T call(SupplierWithException<? extends T> theSupplier,
+					  Instant theDeadline)
+			throws Exception {
+		Objects.requireNonNull(theSupplier);
+		Duration remaining = Duration.between(Instant.now(), theDeadline);
+		long timeout = remaining.isNegative() ? 0 :
+					   remaining.compareTo(Duration.ofNanos(MAX_TIMEOUT_NANOS))>0 ?
+							MAX_TIMEOUT_NANOS :
+							remaining.toNanos();
+		return callBy(theSupplier, System.nanoTime() + timeout);
+	}
+
+
+	/**
+	 * Returns a supplier whose calls wait no longer than the timeout.
+	 *
+	 * @param <T> the type returned by the supplier.
+	 * @param theSupplier the supplier.
+	 * @param theTimeout the timeout of each call.
+	 * @param theUnit the unit of the timeout.
+	 *
+	 * @return the limited supplier.
+	 *
+	 * @throws NullPointerException if the supplier or unit supplied is null.
+	**/
+	public <T> SupplierWithException<T> withTimeout(
+							SupplierWithException<? extends T> theSupplier,
+							long theTimeout,
+							TimeUnit theUnit) {
+		Objects.requireNonNull(theSupplier);
+		Objects.requireNonNull(theUnit);
+		return () -> call(theSupplier, theTimeout, theUnit);
+	}
+
+
+	/**
+	 * Returns a function whose calls wait no longer than the timeout.
+	 *
+	 * @param <T> the type of the function's argument.
+	 * @param <R> the type returned by the function.
+	 * @param theFunction the function.
+	 * @param theTimeout the timeout of each call.
+	 * @param theUnit the unit of the timeout.
+	 *
+	 * @return the limited function.
+	 *
+	 * @throws NullPointerException if the function or unit supplied is null.
+	**/
+	public <T, R> FunctionWithException<T, R> withTimeout(
+						FunctionWithException<? super T, ? extends R> theFunction,
+						long theTimeout,
+						TimeUnit theUnit) {
+		Objects.requireNonNull(theFunction);
+		Objects.requireNonNull(theUnit);
+		return theValue -> call(() -> theFunction.apply(theValue),
+								theTimeout,
+								theUnit);
+	}
+
+
+	/**
+	 * Returns a function whose calls wait no longer than the timeout.
+	 *
+	 * @param <T> the type of the function's first argument.
+	 * @param <U> the type of the function's second argument.
+	 * @param <R> the type returned by the function.
+	 * @param theFunction the function.
+	 * @param theTimeout the timeout of each call.
+	 * @param theUnit the unit of the timeout.
+	 *
+	 * @return the limited function.
+	 *
+	 * @throws NullPointerException if the function or unit supplied is null.
+	**/
+	public <T, U, R> BiFunctionWithException<T, U, R> withTimeout(
+					BiFunctionWithException<? super T, ? super U,
+											? extends R> theFunction,
+					long theTimeout,
+					TimeUnit theUnit) {
+		Objects.requireNonNull(theFunction);
+		Objects.requireNonNull(theUnit);
+		return (theFirst, theSecond) ->
+						call(() -> theFunction.apply(theFirst, theSecond),
+							 theTimeout,
+							 theUnit);
+	}
+
+
+	/**
+	 * Returns a supplier whose calls wait no later than the deadline.
+	 *
+	 * @param <T> the type returned by the supplier.
+	 * @param theSupplier the supplier.
+	 * @param theDeadline the deadline of every call.
+	 *
+	 * @return the limited supplier.
+	 *
+	 * @throws NullPointerException if the supplier or deadline supplied is
+	 *                              null.
+	**/
+	public <T> SupplierWithException<T> withDeadline(
+							SupplierWithException<? extends T> theSupplier,
+							Instant theDeadline) {
+		Objects.requireNonNull(theSupplier);
+		Objects.requireNonNull(theDeadline);
+		return () -> call(theSupplier, theDeadline);
+	}
+
+
+	/**
+	 * Returns a function whose calls wait no later than the deadline.
+	 *
+	 * @param <T> the type of the function's argument.
+	 * @param <R> the type returned by the function.
+	 * @param theFunction the function.
+	 * @param theDeadline the deadline of every call.
+	 *
+	 * @return the limited function.
+	 *
+	 * @throws NullPointerException if the function or deadline supplied is
+	 *                              null.
+	**/
+	public <T, R> FunctionWithException<T, R> withDeadline(
+						FunctionWithException<? super T, ? extends R> theFunction,
+						Instant theDeadline) {
+		Objects.requireNonNull(theFunction);
+		Objects.requireNonNull(theDeadline);
+		return theValue -> call(() -> theFunction.apply(theValue), theDeadline);
+	}
+
+
+	/**
+	 * Returns a function whose calls wait no later than the deadline.
+	 *
+	 * @param <T> the type of the function's first argument.
+	 * @param <U> the type of the function's second argument.
+	 * @param <R> the type returned by the function.
+	 * @param theFunction the function.
+	 * @param theDeadline the deadline of every call.
+	 *
+	 * @return the limited function.
+	 *
+	 * @throws NullPointerException if the function or deadline supplied is
+	 *                              null.
+	**/
+	public <T, U, R> BiFunctionWithException<T, U, R> withDeadline(
+					BiFunctionWithException<? super T, ? super U,
+											? extends R> theFunction,
+					Instant theDeadline) {
+		Objects.requireNonNull(theFunction);
+		Objects.requireNonNull(theDeadline);
+		return (theFirst, theSecond) ->
+						call(() -> theFunction.apply(theFirst, theSecond),
+							 theDeadline);
+	}
+
+
+	/**
+	 * Returns the policy for calls which time out.
+	**/
+	public Policy getPolicy() {
+		return this.myPolicy;
+	}
+
+
+	/**
+	 * Returns the number of calls made.
+	**/
+	public long getCalls() {
+		return this.myCalls.sum();
+	}
+
+
+	/**
+	 * Returns the number of calls which timed out.
+	**/
+	public long getTimeouts() {
+		return this.myTimeouts.sum();
+	}
+
+
+	/**
+	 * Returns the number of calls which timed out and are still running, and
+	 * so the number of threads stuck in them.
+	**/
+	public int getAbandoned() {
+		return this.myAbandoned.get();
+	}
+
+
+	@Override
+	public String toString() {
+		return "TimeLimiter[policy=" + this.myPolicy +
+			   ", calls=" + getCalls() +
+			   ", timeouts=" + getTimeouts() +
+			   ", abandoned=" + getAbandoned() + "]";
+	}
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+	/**
+	 * Runs the call on the executor and waits for it until the deadline, or
+	 * the deadline in force if sooner.
+	**/
+	private <T> T callBy(SupplierWithException<? extends T> theSupplier,
+						 long theDeadline)
+			throws Exception {
+		this.myCalls.increment();
+		long deadline = theDeadline;
+		Long inherited = DEADLINE.get();
+		if (inherited!=null && inherited - deadline<0) {
+			deadline = inherited;
+		}
+		long remaining = deadline - System.nanoTime();
+		if (remaining<=0) {
+			this.myTimeouts.increment();
+			throw timeout();
+		}
+		Call<T> call = new Call<>(theSupplier, deadline);
+		this.myExecutor.execute(call);
+		try {
+			return call.get(remaining, TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException te) {
+			this.myTimeouts.increment();
+			abandon(call);
+			throw timeout();
+		}
+		catch (InterruptedException ie) {
+			abandon(call);
+			throw ie;
+		}
+		catch (ExecutionException ee) {
+			Throwable cause = ee.getCause();
+			if (cause instanceof Error) {
+				throw (Error)cause;
+			}
+			throw (Exception)cause;
+		}
+	}
+
+
+	/**
+	 * Gives up on a call, interrupting it if that is the policy, and counts
+	 * it as abandoned if it is still running.
+	**/
+	private void abandon(Call<?> theCall) {
+		if (theCall.myState.compareAndSet(RUNNING, ABANDONED)) {
+			this.myAbandoned.incrementAndGet();
+		}
+		else {
+			theCall.myState.compareAndSet(NEW, ABANDONED);
+		}
+		theCall.cancel(this.myPolicy==Policy.INTERRUPT);
+	}
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+	/**
+	 * A call run on the executor with its deadline in force, which does not
+	 * start if abandoned first and which marks itself no longer abandoned
+	 * when it finishes.
+	**/
+	private final class Call<T> extends FutureTask<T> {
+
+		private final long myDeadline;
+		private final AtomicInteger myState = new AtomicInteger(NEW);
+
+		private Call(SupplierWithException<? extends T> theSupplier,
+					 long theDeadline) {
+			super(theSupplier::get);
+			this.myDeadline = theDeadline;
+		}
+
+
+		@Override
+		public void run() {
+			if (!this.myState.compareAndSet(NEW, RUNNING)) {
+				return;
+			}
+			Long previous = DEADLINE.get();
+			DEADLINE.set(this.myDeadline);
+			try {
+				super.run();
+			}
+			finally {
+				if (previous==null) {
+					DEADLINE.remove();
+				}
+				else {
+					DEADLINE.set(previous);
+				}
+				if (this.myState.getAndSet(DONE)==ABANDONED) {
+					TimeLimiter.this.myAbandoned.decrementAndGet();
+				}
+			}
+		}
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns a limiter running calls on a pool of its own, of at most the
+	 * number of threads given, each a daemon so that abandoned calls do not
+	 * keep the JVM running. Calls made while every thread is busy, or stuck,
+	 * are rejected.
+	 *
+	 * @param thePolicy what to do with calls which time out.
+	 * @param theMaxThreads the most threads the pool may have.
+	 *
+	 * @return the limiter.
+	 *
+	 * @throws NullPointerException if the policy supplied is null.
+	 * @throws IllegalArgumentException if the number of threads is not
+	 *                                  positive.
+	**/
+	public static TimeLimiter create(Policy thePolicy, int theMaxThreads) {
+		if (theMaxThreads<1) {
+			throw new IllegalArgumentException("Threads must be positive");
+		}
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+									0, theMaxThreads,
+									60, TimeUnit.SECONDS,
+									new SynchronousQueue<>(),
+									TimeLimiter::newThread);
+		return new TimeLimiter(executor, thePolicy);
+	}
+
+
+	/**
+	 * Returns a limiter running calls on the executor supplied, which must be
+	 * able to run them concurrently with the callers.
+	 *
+	 * @param thePolicy what to do with calls which time out.
+	 * @param theExecutor the executor.
+	 *
+	 * @return the limiter.
+	 *
+	 * @throws NullPointerException if the policy or executor supplied is
+	 *                              null.
+	**/
+	public static TimeLimiter create(Policy thePolicy, Executor theExecutor) {
+		return new TimeLimiter(theExecutor, thePolicy);
+	}
+
+
+	/**
+	 * Returns the time remaining before the deadline in force on the current
+	 * thread, which is negative once it has passed, or Long.MAX_VALUE if
+	 * there is none.
+	 *
+	 * @param theUnit the unit to return the time in.
+	 *
+	 * @return the time remaining.
+	 *
+	 * @throws NullPointerException if the unit supplied is null.
+	**/
+	public static long getRemaining(TimeUnit theUnit) {
+		Objects.requireNonNull(theUnit);
+		Long deadline = DEADLINE.get();
+		if (deadline==null) {
+			return Long.MAX_VALUE;
+		}
+		return theUnit.convert(deadline - System.nanoTime(),
+							   TimeUnit.NANOSECONDS);
+	}
+
+
+	private static Thread newThread(Runnable theRunnable) {
+		Thread thread = new Thread(
+							theRunnable,
+							"time-limiter-" + THREAD_NUMBER.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	}
+
+
+	private static TimeoutException timeout() {
+		return new TimeoutException("Call did not complete before its deadline");
+	}
+}
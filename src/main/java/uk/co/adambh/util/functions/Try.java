@@ -1,85 +1,354 @@
-/*
- * To change this license header, choose License Headers in Project Properties.
- * To change this template file, choose Tools | Templates
- * and open the template in the editor.
- */
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
 package uk.co.adambh.util.functions;
 
-import java.util.Optional;
-import java.util.function.Function;
+
+
+import java.util.*;
+import java.util.function.*;
+
+
 
 /**
+ * <p>The result of a computation which may have failed with an exception,
+ * holding either the computed value (a success) or the exception (a
+ * failure).</p>
+ *
+ * <p>Operations on a failure return the failure itself rather than a new
+ * instance, so a failure flows through {@link #map(TryFunction)},
+ * {@link #flatMap(TryFunction)} and {@link #filter(TryPredicate)} without
+ * allocation. Successful results of null share a single instance, which is
+ * also returned by {@link #unit()}.</p>
  *
- * @author adam
- */
+ * <p>Fatal errors ({@link VirtualMachineError}, {@link ThreadDeath} and
+ * {@link LinkageError}) are never captured and are rethrown to the caller.
+ * An {@link InterruptedException} is captured, but the thread's interrupt
+ * status is restored.</p>
+ *
+ * <p>A failed {@link #filter(TryPredicate)} holds a
+ * {@link PredicateFailedException}. Where filtering is used for control flow
+ * the cost of capturing its stack trace can be avoided; see
+ * {@link ControlFlowException}.</p>
+ *
+ * @param <T> the type of the value.
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
 public interface Try<T> {
-    
-    
-    public default <T> Try<T> of(TrySupplier<T> theSupplier) {
-        
+
+
+    // ************************************************************************\
+    // Inner Classes                                                           *
+    // ************************************************************************/
+
+    /**
+     * Functional interface with a single method signature matching
+     * {@link Supplier#get()} but which additionally throws any throwable.
+    **/
+    @FunctionalInterface
+    public interface TrySupplier<T> {
+        public T get()
+                throws Throwable;
     }
-    
-    public default <T> Try<T> success(T theValue) {
-        
-    } 
-    
-    public default <T> Try<T> failure(Throwable theThrowable) {
-        
+
+
+    /**
+     * Functional interface with a single method signature matching
+     * {@link Function#apply(Object)} but which additionally throws any
+     * throwable.
+    **/
+    @FunctionalInterface
+    public interface TryFunction<T, R> {
+        public R apply(T theValue)
+                throws Throwable;
+    }
+
+
+    /**
+     * Functional interface with a single method signature matching
+     * {@link Predicate#test(Object)} but which additionally throws any
+     * throwable.
+    **/
+    @FunctionalInterface
+    public interface TryPredicate<T> {
+        public boolean test(T theValue)
+                throws Throwable;
     }
-    
-    
+
+
+    /**
+     * Functional interface with a single method signature matching
+     * {@link Consumer#accept(Object)} but which additionally throws the
+     * throwable type given.
+    **/
+    @FunctionalInterface
+    public interface TryConsumer<T, E extends Throwable> {
+        public void accept(T theValue)
+                throws E;
+    }
+
+
+    // ************************************************************************\
+    // Static Methods                                                          *
+    // ************************************************************************/
+
+    /**
+     * Returns the result of calling the supplier: a success holding the value
+     * supplied, or a failure holding the throwable thrown.
+     *
+     * @param <T> the type of the try.
+     * @param theSupplier the supplier.
+     *
+     * @return the try.
+     *
+     * @throws NullPointerException if the supplier supplied is null.
+    **/
+    public static <T> Try<T> of(TrySupplier<? extends T> theSupplier) {
+        Objects.requireNonNull(theSupplier);
+        try {
+            return success(theSupplier.get());
+        }
+        catch (Throwable t) {
+            return TryFailure.of(t);
+        }
+    }
+
+
+    /**
+     * Returns a successful try holding the value supplied.
+     *
+     * @param <T> the type of the try.
+     * @param theValue the value, which may be null.
+     *
+     * @return the try.
+    **/
+    public static <T> Try<T> success(T theValue) {
+        return theValue==null ? unit() : new TrySuccess<>(theValue);
+    }
+
+
+    /**
+     * Returns a failed try holding the throwable supplied.
+     *
+     * @param <T> the type of the try.
+     * @param theThrowable the throwable.
+     *
+     * @return the try.
+     *
+     * @throws NullPointerException if the throwable supplied is null.
+    **/
+    public static <T> Try<T> failure(Throwable theThrowable) {
+        Objects.requireNonNull(theThrowable);
+        return new TryFailure<>(theThrowable);
+    }
+
+
+    /**
+     * Returns the shared successful try holding null, for computations which
+     * succeed without a value.
+     *
+     * @param <T> the type of the try.
+     *
+     * @return the try.
+    **/
+    @SuppressWarnings("unchecked")
+    public static <T> Try<T> unit() {
+        return (Try<T>)TrySuccess.UNIT;
+    }
+
+
+    // ************************************************************************\
+    // Public Methods                                                          *
+    // ************************************************************************/
+
     /**
      * If the try is currently successful, applies the predicate to the value
      * held within the try, returning a successful try on true, or a failure try
-     * on false with a PredicateFailedException. If the try is currently 
-     * failure, returns the existing failure. If the predicate throws an 
+     * on false with a PredicateFailedException. If the try is currently
+     * failure, returns the existing failure. If the predicate throws an
      * exception, the failure try holds that specific exception.
-     * 
-     * @param <T> the type of the try
+     *
      * @param thePredicate the predicate to apply
-     * @return successful try if currently successful and the predicate holds, 
+     * @return successful try if currently successful and the predicate holds,
      *         otherwise a failure try.
+     *
+     * @throws NullPointerException if the predicate supplied is null.
+    **/
+    public Try<T> filter(TryPredicate<? super T> thePredicate);
+
+
+    /**
+     * If the try is currently successful, returns a try holding the result of
+     * applying the function to the value, or a failure holding the throwable
+     * the function throws. If the try is currently failure, returns the
+     * existing failure.
+     *
+     * @param <U> the type returned by the function.
+     * @param theFunction the function to apply.
+     *
+     * @return the mapped try.
+     *
+     * @throws NullPointerException if the function supplied is null.
     **/
-    public <T> Try<T> filter(TryPredicate<T> thePredicate);
-    
-    
     public <U> Try<U> map(TryFunction<? super T, ? extends U> theFunction);
-    
-    
+
+
+    /**
+     * If the try is currently successful, returns the try returned by
+     * applying the function to the value, or a failure holding the throwable
+     * the function throws. If the try is currently failure, returns the
+     * existing failure.
+     *
+     * @param <U> the type of the try returned by the function.
+     * @param theFunction the function to apply.
+     *
+     * @return the mapped try.
+     *
+     * @throws NullPointerException if the function supplied is null, or
+     *                              returns null.
+    **/
     public <U> Try<U> flatMap(TryFunction<? super T, Try<U>> theFunction);
-    
-    
-    public T recover(Function<? super Throwable, T> theFunction);
-    
-    
-    public Try<T> recoverWith(TryFunction<? super Throwable, Try<T>> theFunction);
-    
 
+
+    /**
+     * Returns the value if the try is currently successful, otherwise the
+     * result of applying the function to the failure's throwable.
+     *
+     * @param theFunction the function to apply to the throwable.
+     *
+     * @return the value or the recovered value.
+     *
+     * @throws NullPointerException if the function supplied is null.
+    **/
+    public T recover(Function<? super Throwable, ? extends T> theFunction);
+
+
+    /**
+     * Returns this try if it is currently successful, otherwise the try
+     * returned by applying the function to the failure's throwable, or a
+     * failure holding the throwable the function throws.
+     *
+     * @param theFunction the function to apply to the throwable.
+     *
+     * @return this try or the recovered try.
+     *
+     * @throws NullPointerException if the function supplied is null, or
+     *                              returns null.
+    **/
+    public Try<T> recoverWith(
+                        TryFunction<? super Throwable, Try<T>> theFunction);
+
+
+    /**
+     * Returns an optional holding the value if the try is currently
+     * successful and the value is not null, otherwise an empty optional.
+    **/
     public Optional<T> toOptional();
-    
-    
+
+
+    /**
+     * Returns the value if the try is currently successful, otherwise throws
+     * the failure's throwable.
+     *
+     * @return the value.
+     *
+     * @throws Throwable the failure's throwable.
+    **/
     public T get()
             throws Throwable;
-    
-    
+
+
+    /**
+     * Returns the throwable if the try is currently failure.
+     *
+     * @return the throwable.
+     *
+     * @throws NoSuchElementException if the try is currently successful.
+    **/
+    public Throwable getFailure();
+
+
+    /**
+     * Returns the value if the try is currently successful, otherwise the
+     * value supplied.
+    **/
     public T orElse(T theValue);
-    
-    
-    public Try<T> orElseTry(TrySupplier<T> theSupplier);
-    
-    
+
+
+    /**
+     * Returns this try if it is currently successful, otherwise the result of
+     * calling the supplier as for {@link #of(TrySupplier)}.
+     *
+     * @param theSupplier the supplier.
+     *
+     * @return this try or the supplied try.
+     *
+     * @throws NullPointerException if the supplier supplied is null.
+    **/
+    public Try<T> orElseTry(TrySupplier<? extends T> theSupplier);
+
+
+    /**
+     * Returns true if the try is currently successful.
+    **/
     public boolean isSuccess();
-    
-    
-    public <E extends Throwable> Try<T> onSuccess(TryConsumer<T,E> theConsumer)
-            throws E;
-    
-    
-    public Try<T> onSuccessTry(TryConsumer<T> theConsumer);
-    
-    
-    public <E extends Throwable> Try<T> onFailure(TryConsumer<Throwable,E> theConsumer)
+
+
+    /**
+     * Returns true if the try is currently failure.
+    **/
+    public default boolean isFailure() {
+        return !isSuccess();
+    }
+
+
+    /**
+     * If the try is currently successful, passes the value to the consumer.
+     * Any throwable thrown by the consumer propagates to the caller.
+     *
+     * @param <E> the type of throwable thrown by the consumer.
+     * @param theConsumer the consumer.
+     *
+     * @return this try.
+     *
+     * @throws E if the consumer throws it.
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+    public <E extends Throwable> Try<T> onSuccess(
+                                    TryConsumer<? super T, E> theConsumer)
             throws E;
 
 
+    /**
+     * If the try is currently successful, passes the value to the consumer,
+     * returning a failure holding any throwable the consumer throws.
+     *
+     * @param theConsumer the consumer.
+     *
+     * @return this try, or a failure if the consumer throws.
+     *
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+    public Try<T> onSuccessTry(
+                    TryConsumer<? super T, ? extends Throwable> theConsumer);
+
+
+    /**
+     * If the try is currently failure, passes the throwable to the consumer.
+     * Any throwable thrown by the consumer propagates to the caller.
+     *
+     * @param <E> the type of throwable thrown by the consumer.
+     * @param theConsumer the consumer.
+     *
+     * @return this try.
+     *
+     * @throws E if the consumer throws it.
+     * @throws NullPointerException if the consumer supplied is null.
+    **/
+    public <E extends Throwable> Try<T> onFailure(
+                            TryConsumer<? super Throwable, E> theConsumer)
+            throws E;
 }
@@ -0,0 +1,247 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.*;
+import java.util.function.*;
+
+
+
+/**
+ * A failed {@link Try}. Every operation which would carry the failure forward
+ * returns this instance, so the failure path does not allocate.
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+final class TryFailure<T> implements Try<T> {
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	/**
+	 * The shared failure for filters which do not hold, used when control flow
+	 * failures are stackless and so carry no per-failure state.
+	**/
+	private static final TryFailure<Object> PREDICATE_FAILED =
+						new TryFailure<>(PredicateFailedException.SHARED);
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final Throwable myThrowable;
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	TryFailure(Throwable theThrowable) {
+		this.myThrowable = theThrowable;
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	@Override
+	public Try<T> filter(Try.TryPredicate<? super T> thePredicate) {
+		Objects.requireNonNull(thePredicate);
+		return this;
+	}
+
+
+	@Override
+	public <U> Try<U> map(Try.TryFunction<? super T, ? extends U> theFunction) {
+		Objects.requireNonNull(theFunction);
+		return cast();
+	}
+
+
+	@Override
+	public <U> Try<U> flatMap(Try.TryFunction<? super T, Try<U>> theFunction) {
+		Objects.requireNonNull(theFunction);
+		return cast();
+	}
+
+
+	@Override
+	public T recover(Function<? super Throwable, ? extends T> theFunction) {
+		Objects.requireNonNull(theFunction);
+		return theFunction.apply(this.myThrowable);
+	}
+
+
+	@Override
+	public Try<T> recoverWith(
+					Try.TryFunction<? super Throwable, Try<T>> theFunction) {
+		Objects.requireNonNull(theFunction);
+		Try<T> result;
+		try {
+			result = theFunction.apply(this.myThrowable);
+		}
+		catch (Throwable t) {
+			return of(t);
+		}
+		return Objects.requireNonNull(result);
+	}
+
+
+	@Override
+	public Optional<T> toOptional() {
+		return Optional.empty();
+	}
+
+
+	@Override
+	public T get()
+			throws Throwable {
+		throw this.myThrowable;
+	}
+
+
+	@Override
+	public Throwable getFailure() {
+		return this.myThrowable;
+	}
+
+
+	@Override
+	public T orElse(T theValue) {
+		return theValue;
+	}
+
+
+	@Override
+	public Try<T> orElseTry(Try.TrySupplier<? extends T> theSupplier) {
+		return Try.of(theSupplier);
+	}
+
+
+	@Override
+	public boolean isSuccess() {
+		return false;
+	}
+
+
+	@Override
+	public <E extends Throwable> Try<T> onSuccess(
+								Try.TryConsumer<? super T, E> theConsumer)
+			throws E {
+		Objects.requireNonNull(theConsumer);
+		return this;
+	}
+
+
+	@Override
+	public Try<T> onSuccessTry(
+				Try.TryConsumer<? super T, ? extends Throwable> theConsumer) {
+		Objects.requireNonNull(theConsumer);
+		return this;
+	}
+
+
+	@Override
+	public <E extends Throwable> Try<T> onFailure(
+						Try.TryConsumer<? super Throwable, E> theConsumer)
+			throws E {
+		Objects.requireNonNull(theConsumer);
+		theConsumer.accept(this.myThrowable);
+		return this;
+	}
+
+
+	@Override
+	public boolean equals(Object theObject) {
+		return theObject instanceof TryFailure &&
+			   this.myThrowable==((TryFailure<?>)theObject).myThrowable;
+	}
+
+
+	@Override
+	public int hashCode() {
+		return System.identityHashCode(this.myThrowable);
+	}
+
+
+	@Override
+	public String toString() {
+		return "Failure[" + this.myThrowable + "]";
+	}
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+	@SuppressWarnings("unchecked")
+	private <U> Try<U> cast() {
+		return (Try<U>)this;
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns a failure holding the throwable supplied, unless it is fatal in
+	 * which case it is rethrown.
+	**/
+	static <T> Try<T> of(Throwable theThrowable) {
+		return new TryFailure<>(capture(theThrowable));
+	}
+
+
+	/**
+	 * Returns the throwable supplied for holding in a failure, unless it is
+	 * fatal in which case it is rethrown, restoring the interrupt status of
+	 * the current thread should it be an InterruptedException.
+	**/
+	static Throwable capture(Throwable theThrowable) {
+		if (theThrowable instanceof VirtualMachineError ||
+			theThrowable instanceof ThreadDeath ||
+			theThrowable instanceof LinkageError) {
+			throw (Error)theThrowable;
+		}
+		if (theThrowable instanceof InterruptedException) {
+			Thread.currentThread().interrupt();
+		}
+		return theThrowable;
+	}
+
+
+	/**
+	 * Returns a failure for a filter which did not hold for the value
+	 * supplied.
+	**/
+	@SuppressWarnings("unchecked")
+	static <T> Try<T> predicateFailed(Object theValue) {
+		if (ControlFlowException.STACKLESS) {
+			return (Try<T>)PREDICATE_FAILED;
+		}
+		return new TryFailure<>(predicateFailure(theValue));
+	}
+
+
+	/**
+	 * Returns the throwable for a filter which did not hold for the value
+	 * supplied, shared when control flow failures are stackless.
+	**/
+	static PredicateFailedException predicateFailure(Object theValue) {
+		if (ControlFlowException.STACKLESS) {
+			return PredicateFailedException.SHARED;
+		}
+		return new PredicateFailedException(
+							"Predicate does not hold for " + theValue);
+	}
+}
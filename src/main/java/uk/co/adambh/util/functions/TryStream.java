@@ -0,0 +1,470 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import uk.co.adambh.util.functions.MethodReferences.*;
+
+
+
+/**
+ * <p>A lazy stream whose stages may throw checked exceptions, in which an
+ * element whose stage throws becomes a failure that flows on through the
+ * later stages, rather than ending the stream. Elements are held as
+ * {@link Try}s, so a failure passes through later stages without further
+ * allocation.</p>
+ *
+ * <p>A try stream is built on a {@link Spliterator}, and so splits for
+ * parallel processing as well as its source does; sources such as array
+ * backed lists split evenly. As with {@link Stream}, a try stream may only be
+ * used once.</p>
+ *
+ * <p>{@link #failFast()} stops the stream drawing further elements from its
+ * source once any element has failed, across every split of a parallel
+ * stream; elements already drawn complete their stages.</p>
+ *
+ * @param <T> the type of the elements.
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class TryStream<T> {
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final Stream<Try<T>> myStream;
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private TryStream(Stream<Try<T>> theStream) {
+		this.myStream = theStream;
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns a stream of the results of applying the function to each
+	 * successful element, failing those for which it throws.
+	 *
+	 * @throws NullPointerException if the function supplied is null.
+	**/
+	public <R> TryStream<R> map(
+						FunctionWithException<? super T, ? extends R> theFunction) {
+		Objects.requireNonNull(theFunction);
+		Try.TryFunction<T, R> function = theFunction::apply;
+		return new TryStream<>(this.myStream.map(theTry -> theTry.map(function)));
+	}
+
+
+	/**
+	 * Returns a stream of the elements of the streams returned by applying
+	 * the function to each successful element, failing those for which it
+	 * throws.
+	 *
+	 * @throws NullPointerException if the function supplied is null.
+	**/
+	public <R> TryStream<R> flatMap(
+			FunctionWithException<? super T,
+								  ? extends Stream<? extends R>> theFunction) {
+		Objects.requireNonNull(theFunction);
+		return new TryStream<>(this.myStream.flatMap(theTry -> {
+			if (theTry.isFailure()) {
+				return Stream.of(TryStream.<T, R>cast(theTry));
+			}
+			try {
+				Stream<? extends R> stream = theFunction.apply(get(theTry));
+				return stream==null ?
+							Stream.empty() :
+							stream.map(Try::<R>success);
+			}
+			catch (Exception e) {
+				return Stream.of(TryFailure.<R>of(e));
+			}
+		}));
+	}
+
+
+	/**
+	 * Returns a stream of the successful elements which match the predicate,
+	 * failing those for which it throws, and of every failed element.
+	 *
+	 * @throws NullPointerException if the predicate supplied is null.
+	**/
+	public TryStream<T> filter(PredicateWithException<? super T> thePredicate) {
+		Objects.requireNonNull(thePredicate);
+		return new TryStream<>(this.myStream.map(theTry -> {
+			if (theTry.isFailure()) {
+				return theTry;
+			}
+			try {
+				return thePredicate.test(get(theTry)) ? theTry : null;
+			}
+			catch (Exception e) {
+				return TryFailure.<T>of(e);
+			}
+		}).filter(Objects::nonNull));
+	}
+
+
+	/**
+	 * Returns a stream which passes each successful element to the consumer
+	 * as it is drawn, failing those for which it throws.
+	 *
+	 * @throws NullPointerException if the consumer supplied is null.
+	**/
+	public TryStream<T> peek(ConsumerWithException<? super T> theConsumer) {
+		Objects.requireNonNull(theConsumer);
+		Try.TryConsumer<T, Exception> consumer = theConsumer::accept;
+		return new TryStream<>(this.myStream.map(theTry ->
+											theTry.onSuccessTry(consumer)));
+	}
+
+
+	/**
+	 * Returns a stream in which each failed element is replaced by the result
+	 * of applying the function to its throwable.
+	 *
+	 * @throws NullPointerException if the function supplied is null.
+	**/
+	public TryStream<T> recover(
+						Function<? super Throwable, ? extends T> theFunction) {
+		Objects.requireNonNull(theFunction);
+		return new TryStream<>(this.myStream.map(theTry ->
+							theTry.isSuccess() ?
+								theTry :
+								Try.success(theTry.recover(theFunction))));
+	}
+
+
+	/**
+	 * Returns a stream which stops drawing elements from its source once any
+	 * element has failed.
+	**/
+	public TryStream<T> failFast() {
+		Stream<Try<T>> stream = StreamSupport.stream(
+						new FailFastSpliterator<>(this.myStream.spliterator(),
+												  new AtomicBoolean()),
+						this.myStream.isParallel());
+		return new TryStream<>(stream.onClose(this.myStream::close));
+	}
+
+
+	/**
+	 * Returns a stream of no more than the number of elements given,
+	 * successful or not.
+	**/
+	public TryStream<T> limit(long theMaximumSize) {
+		return new TryStream<>(this.myStream.limit(theMaximumSize));
+	}
+
+
+	public TryStream<T> parallel() {
+		return new TryStream<>(this.myStream.parallel());
+	}
+
+
+	public TryStream<T> sequential() {
+		return new TryStream<>(this.myStream.sequential());
+	}
+
+
+	public TryStream<T> unordered() {
+		return new TryStream<>(this.myStream.unordered());
+	}
+
+
+	public boolean isParallel() {
+		return this.myStream.isParallel();
+	}
+
+
+	/**
+	 * Returns the elements, successful or not, as a stream of tries.
+	**/
+	public Stream<Try<T>> stream() {
+		return this.myStream;
+	}
+
+
+	/**
+	 * Returns a stream of the successful elements, dropping the failures.
+	**/
+	public Stream<T> successes() {
+		return this.myStream.filter(Try::isSuccess).map(TryStream::get);
+	}
+
+
+	/**
+	 * Returns a stream of the throwables of the failed elements, dropping the
+	 * successes.
+	**/
+	public Stream<Throwable> failures() {
+		return this.myStream.filter(Try::isFailure).map(Try::getFailure);
+	}
+
+
+	/**
+	 * Returns the successful elements and the throwables of the failed
+	 * elements, each in encounter order. In a parallel stream each split
+	 * gathers its own partition, and the partitions are merged.
+	**/
+	public Partition<T> partition() {
+		return this.myStream.collect(Collector.of(
+								Partition<T>::new,
+								Partition::add,
+								Partition::merge,
+								Partition::finish));
+	}
+
+
+	/**
+	 * Passes each successful element to the first consumer and the throwable
+	 * of each failed element to the second.
+	 *
+	 * @throws NullPointerException if either consumer supplied is null.
+	**/
+	public void forEach(Consumer<? super T> theSuccessConsumer,
+						Consumer<? super Throwable> theFailureConsumer) {
+		Objects.requireNonNull(theSuccessConsumer);
+		Objects.requireNonNull(theFailureConsumer);
+		this.myStream.forEach(theTry -> {
+			if (theTry.isSuccess()) {
+				theSuccessConsumer.accept(get(theTry));
+			}
+			else {
+				theFailureConsumer.accept(theTry.getFailure());
+			}
+		});
+	}
+
+
+	/**
+	 * Returns the successful elements collected with the collector supplied,
+	 * or throws the throwable of the first failed element in encounter order.
+	 *
+	 * @throws Throwable the throwable of the first failed element.
+	 * @throws NullPointerException if the collector supplied is null.
+	**/
+	public <A, R> R collect(Collector<? super T, A, R> theCollector)
+			throws Throwable {
+		Objects.requireNonNull(theCollector);
+		Partition<T> partition = partition();
+		if (partition.hasFailures()) {
+			throw partition.myFailures.get(0);
+		}
+		return partition.mySuccesses.stream().collect(theCollector);
+	}
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+	/**
+	 * The successful elements and failures of a try stream.
+	**/
+	public static final class Partition<T> {
+
+		private List<T> mySuccesses = new ArrayList<>();
+		private List<Throwable> myFailures = new ArrayList<>();
+
+		private Partition() {}
+
+
+		/**
+		 * Returns the successful elements in encounter order.
+		**/
+		public List<T> getSuccesses() {
+			return this.mySuccesses;
+		}
+
+
+		/**
+		 * Returns the throwables of the failed elements in encounter order.
+		**/
+		public List<Throwable> getFailures() {
+			return this.myFailures;
+		}
+
+
+		public int getSuccessCount() {
+			return this.mySuccesses.size();
+		}
+
+
+		public int getFailureCount() {
+			return this.myFailures.size();
+		}
+
+
+		public boolean hasFailures() {
+			return !this.myFailures.isEmpty();
+		}
+
+
+		@Override
+		public String toString() {
+			return "Partition[successes=" + getSuccessCount() +
+				   ", failures=" + getFailureCount() + "]";
+		}
+
+
+		private void add(Try<T> theTry) {
+			if (theTry.isSuccess()) {
+				this.mySuccesses.add(get(theTry));
+			}
+			else {
+				this.myFailures.add(theTry.getFailure());
+			}
+		}
+
+
+		private Partition<T> merge(Partition<T> theOther) {
+			this.mySuccesses.addAll(theOther.mySuccesses);
+			this.myFailures.addAll(theOther.myFailures);
+			return this;
+		}
+
+
+		private Partition<T> finish() {
+			this.mySuccesses = Collections.unmodifiableList(this.mySuccesses);
+			this.myFailures = Collections.unmodifiableList(this.myFailures);
+			return this;
+		}
+	}
+
+
+	/**
+	 * A spliterator which stops advancing once any element drawn from any of
+	 * the splits sharing its flag has failed.
+	**/
+	private static final class FailFastSpliterator<T>
+											implements Spliterator<Try<T>> {
+
+		private final Spliterator<Try<T>> mySource;
+		private final AtomicBoolean myFailed;
+
+		private FailFastSpliterator(Spliterator<Try<T>> theSource,
+									AtomicBoolean theFailed) {
+			this.mySource = theSource;
+			this.myFailed = theFailed;
+		}
+
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Try<T>> theAction) {
+			if (this.myFailed.get()) {
+				return false;
+			}
+			return this.mySource.tryAdvance(theTry -> {
+				if (theTry.isFailure()) {
+					this.myFailed.set(true);
+				}
+				theAction.accept(theTry);
+			});
+		}
+
+
+		@Override
+		public Spliterator<Try<T>> trySplit() {
+			Spliterator<Try<T>> split = this.mySource.trySplit();
+			return split==null ?
+						null :
+						new FailFastSpliterator<>(split, this.myFailed);
+		}
+
+
+		@Override
+		public long estimateSize() {
+			return this.mySource.estimateSize();
+		}
+
+
+		@Override
+		public int characteristics() {
+			return this.mySource.characteristics() &
+				   ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+		}
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns a try stream of the elements of the stream supplied.
+	 *
+	 * @throws NullPointerException if the stream supplied is null.
+	**/
+	public static <T> TryStream<T> of(Stream<? extends T> theStream) {
+		Objects.requireNonNull(theStream);
+		return new TryStream<>(theStream.map(Try::<T>success));
+	}
+
+
+	/**
+	 * Returns a sequential try stream of the elements of the collection
+	 * supplied, split as the collection's own spliterator splits.
+	 *
+	 * @throws NullPointerException if the collection supplied is null.
+	**/
+	public static <T> TryStream<T> of(Collection<? extends T> theCollection) {
+		Objects.requireNonNull(theCollection);
+		return of(theCollection.stream());
+	}
+
+
+	/**
+	 * Returns a try stream of the elements of the spliterator supplied.
+	 *
+	 * @throws NullPointerException if the spliterator supplied is null.
+	**/
+	public static <T> TryStream<T> of(Spliterator<? extends T> theSpliterator,
+									  boolean theParallel) {
+		Objects.requireNonNull(theSpliterator);
+		return of(StreamSupport.stream(theSpliterator, theParallel));
+	}
+
+
+	/**
+	 * Returns a try stream of the tries of the stream supplied.
+	 *
+	 * @throws NullPointerException if the stream supplied is null.
+	**/
+	public static <T> TryStream<T> ofTries(Stream<Try<T>> theStream) {
+		Objects.requireNonNull(theStream);
+		return new TryStream<>(theStream);
+	}
+
+
+	/**
+	 * Returns the value of a successful try, which can not throw.
+	**/
+	private static <T> T get(Try<T> theTry) {
+		return theTry.orElse(null);
+	}
+
+
+	@SuppressWarnings("unchecked")
+	private static <T, R> Try<R> cast(Try<T> theFailure) {
+		return (Try<R>)theFailure;
+	}
+}
@@ -0,0 +1,195 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.functions;
+
+
+
+import java.util.*;
+import java.util.function.*;
+
+
+
+/**
+ * A successful {@link Try}.
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+final class TrySuccess<T> implements Try<T> {
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	/**
+	 * The shared success holding null.
+	**/
+	static final TrySuccess<Object> UNIT = new TrySuccess<>(null);
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final T myValue;
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	TrySuccess(T theValue) {
+		this.myValue = theValue;
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	@Override
+	public Try<T> filter(Try.TryPredicate<? super T> thePredicate) {
+		Objects.requireNonNull(thePredicate);
+		try {
+			return thePredicate.test(this.myValue) ?
+						this :
+						TryFailure.predicateFailed(this.myValue);
+		}
+		catch (Throwable t) {
+			return TryFailure.of(t);
+		}
+	}
+
+
+	@Override
+	public <U> Try<U> map(Try.TryFunction<? super T, ? extends U> theFunction) {
+		Objects.requireNonNull(theFunction);
+		try {
+			return Try.success(theFunction.apply(this.myValue));
+		}
+		catch (Throwable t) {
+			return TryFailure.of(t);
+		}
+	}
+
+
+	@Override
+	public <U> Try<U> flatMap(Try.TryFunction<? super T, Try<U>> theFunction) {
+		Objects.requireNonNull(theFunction);
+		Try<U> result;
+		try {
+			result = theFunction.apply(this.myValue);
+		}
+		catch (Throwable t) {
+			return TryFailure.of(t);
+		}
+		return Objects.requireNonNull(result);
+	}
+
+
+	@Override
+	public T recover(Function<? super Throwable, ? extends T> theFunction) {
+		Objects.requireNonNull(theFunction);
+		return this.myValue;
+	}
+
+
+	@Override
+	public Try<T> recoverWith(
+					Try.TryFunction<? super Throwable, Try<T>> theFunction) {
+		Objects.requireNonNull(theFunction);
+		return this;
+	}
+
+
+	@Override
+	public Optional<T> toOptional() {
+		return Optional.ofNullable(this.myValue);
+	}
+
+
+	@Override
+	public T get() {
+		return this.myValue;
+	}
+
+
+	@Override
+	public Throwable getFailure() {
+		throw new NoSuchElementException("Can not get failure of a success");
+	}
+
+
+	@Override
+	public T orElse(T theValue) {
+		return this.myValue;
+	}
+
+
+	@Override
+	public Try<T> orElseTry(Try.TrySupplier<? extends T> theSupplier) {
+		Objects.requireNonNull(theSupplier);
+		return this;
+	}
+
+
+	@Override
+	public boolean isSuccess() {
+		return true;
+	}
+
+
+	@Override
+	public <E extends Throwable> Try<T> onSuccess(
+								Try.TryConsumer<? super T, E> theConsumer)
+			throws E {
+		Objects.requireNonNull(theConsumer);
+		theConsumer.accept(this.myValue);
+		return this;
+	}
+
+
+	@Override
+	public Try<T> onSuccessTry(
+				Try.TryConsumer<? super T, ? extends Throwable> theConsumer) {
+		Objects.requireNonNull(theConsumer);
+		try {
+			theConsumer.accept(this.myValue);
+			return this;
+		}
+		catch (Throwable t) {
+			return TryFailure.of(t);
+		}
+	}
+
+
+	@Override
+	public <E extends Throwable> Try<T> onFailure(
+						Try.TryConsumer<? super Throwable, E> theConsumer)
+			throws E {
+		Objects.requireNonNull(theConsumer);
+		return this;
+	}
+
+
+	@Override
+	public boolean equals(Object theObject) {
+		return theObject instanceof TrySuccess &&
+			   Objects.equals(this.myValue, ((TrySuccess<?>)theObject).myValue);
+	}
+
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode(this.myValue);
+	}
+
+
+	@Override
+	public String toString() {
+		return "Success[" + this.myValue + "]";
+	}
+}
@@ -0,0 +1,135 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.unixpermissions;
+
+
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+
+
+/**
+ * <p>Provides the executor used by the bulk and asynchronous operations in
+ * {@link UnixFiles}.</p>
+ *
+ * <p>This version, used on Java 8 to 20, runs operations on a bounded pool of
+ * daemon threads. Metadata operations spend most of their time waiting on the
+ * file system, so the pool is sized well above the number of processors; the
+ * size may be set with the {@code uk.co.adambh.util.unixpermissions.threads}
+ * system property. The pool's queue is bounded too, and once it is full an
+ * operation runs on the thread submitting it, which slows submitters down to
+ * the rate the pool can keep up with. The multi-release jar holds a Java 21
+ * version of this class which runs each operation on its own virtual thread
+ * instead.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+final class BulkExecutors {
+
+
+	// ************************************************************************\
+	// Enums                                                                   *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	private static final String THREADS_PROPERTY =
+									"uk.co.adambh.util.unixpermissions.threads";
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private BulkExecutors() {}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Protected Methods                                                       *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+	/**
+	 * Holder so the pool is only created on first use.
+	**/
+	private static final class Holder {
+
+		private static final int THREADS =
+						Integer.getInteger(
+							THREADS_PROPERTY,
+							Math.max(16, Runtime.getRuntime()
+												.availableProcessors() * 8));
+
+		private static final ExecutorService EXECUTOR =
+						new ThreadPoolExecutor(
+							THREADS,
+							THREADS,
+							0,
+							TimeUnit.MILLISECONDS,
+							new ArrayBlockingQueue<>(THREADS * 4),
+							new BulkThreadFactory(),
+							new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+
+	private static final class BulkThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger myCount = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable theRunnable) {
+			Thread thread = new Thread(theRunnable,
+									   "unix-files-" +
+											this.myCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns the executor for bulk and asynchronous operations.
+	**/
+	static Executor executor() {
+		return Holder.EXECUTOR;
+	}
+
+
+	/**
+	 * Returns the most operations a bulk operation should have in flight at
+	 * once, which is the size of the pool.
+	**/
+	static int window() {
+		return Holder.THREADS;
+	}
+}
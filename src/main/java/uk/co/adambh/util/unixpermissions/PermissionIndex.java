@@ -0,0 +1,1026 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.unixpermissions;
+
+
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+
+
+
+/**
+ * <p>A queryable index of the UNIX permissions, file types and owners of every
+ * file beneath a directory.</p>
+ *
+ * <p>Each file is given a dense integer id, and the index holds one bitmap per
+ * {@link UnixFilePermission} (covering both the permission bits and the file
+ * types) along with one bitmap per owner and per group. Queries return
+ * {@link BitSet}s which may be combined with {@link BitSet#and(BitSet)},
+ * {@link BitSet#or(BitSet)} and {@link BitSet#andNot(BitSet)}. For example,
+ * all setgid directories writable by their group under /srv:</p>
+ *
+ * <pre>
+ *     BitSet result = index.under(Paths.get("/srv"));
+ *     result.and(index.with(UnixFilePermission.DIRECTORY));
+ *     result.and(index.with(UnixFilePermission.SET_GID_BIT));
+ *     result.and(index.with(UnixFilePermission.GROUP_WRITE));
+ *     List&lt;String&gt; paths = index.getPaths(result);
+ * </pre>
+ *
+ * <p>An index is built with {@link #scan(Path)}, persisted with
+ * {@link #write(Path)} and memory mapped with {@link #load(Path)}. Bitmaps
+ * are run length compressed on disk and only decoded when first queried;
+ * paths are read straight from the mapped file. Ids are assigned in path
+ * order, with a directory's contents following the directory itself, so
+ * that {@link #under(Path)} is a binary search.</p>
+ *
+ * <p>An index may be refreshed incrementally with {@link #rescan(Path)} or
+ * {@link #update(Collection)}, after which it should be written out again.
+ * Writing compacts away removed files, so ids are only stable between
+ * writes. Queries are thread safe; refreshing is not, and must not run
+ * concurrently with queries. Persisted indexes are limited to 2GB.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class PermissionIndex {
+
+
+	// ************************************************************************\
+	// Enums                                                                   *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	private static final int MAGIC = 0x55504958;
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 24;
+	private static final String UNIX_ATTRIBS = "unix:mode,owner,group";
+	private static final UnixFilePermission[] PERMISSIONS =
+												UnixFilePermission.values();
+	private static final long FILL_MASK = 0x7fffffffL;
+	private static final long FILL_BIT = 1L<<31;
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final char mySeparator;
+	private final boolean myUnixView;
+
+	// In memory state, populated by a scan or materialised from the mapped
+	// file before a refresh.
+	private List<byte[]> myPaths;
+	private Map<String, Integer> myIds;
+	private int mySortedCount;
+
+	// Mapped state.
+	private final ByteBuffer myBuffer;
+	private final int myMappedCount;
+	private final int myPathIndexOffset;
+	private int myLiveOffset;
+	private final int[] myPermOffsets = new int[PERMISSIONS.length];
+	private final Map<String, Integer> myOwnerOffsets = new HashMap<>();
+	private final Map<String, Integer> myGroupOffsets = new HashMap<>();
+
+	// Bitmaps, decoded lazily when mapped.
+	private BitSet myLive;
+	private final BitSet[] myPerms = new BitSet[PERMISSIONS.length];
+	private final Map<String, BitSet> myOwners = new HashMap<>();
+	private final Map<String, BitSet> myGroups = new HashMap<>();
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private PermissionIndex(char theSeparator, boolean theUnixView) {
+		this.mySeparator = theSeparator;
+		this.myUnixView = theUnixView;
+		this.myPaths = new ArrayList<>();
+		this.myLive = new BitSet();
+		for (int i = 0; i<PERMISSIONS.length; i++) {
+			this.myPerms[i] = new BitSet();
+		}
+		this.myBuffer = null;
+		this.myMappedCount = 0;
+		this.myPathIndexOffset = 0;
+	}
+
+
+	private PermissionIndex(ByteBuffer theBuffer, Path thePath)
+			throws IOException {
+		if (theBuffer.remaining()<HEADER_SIZE ||
+			theBuffer.getInt(0)!=MAGIC) {
+			throw new IOException(
+						"Can not load '" + thePath + "' as it is not a " +
+						"permission index");
+		}
+		if (theBuffer.getInt(4)!=VERSION) {
+			throw new IOException(
+						"Can not load '" + thePath + "' as its version " +
+						theBuffer.getInt(4) + " is not supported");
+		}
+		this.myBuffer = theBuffer;
+		this.myMappedCount = theBuffer.getInt(8);
+		this.mySeparator = (char)theBuffer.getInt(12);
+		this.myPathIndexOffset = theBuffer.getInt(16);
+		this.myUnixView = FileSystems.getDefault()
+									 .supportedFileAttributeViews()
+									 .contains("unix");
+		this.mySortedCount = this.myMappedCount;
+
+		// Read the bitmap directory, leaving the bitmaps themselves encoded.
+		ByteBuffer dir = theBuffer.duplicate();
+		dir.position(theBuffer.getInt(20));
+		this.myLiveOffset = dir.getInt();
+		for (int i = 0; i<PERMISSIONS.length; i++) {
+			this.myPermOffsets[i] = dir.getInt();
+		}
+		readNames(dir, this.myOwnerOffsets);
+		readNames(dir, this.myGroupOffsets);
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns the number of ids in the index, including those of files which
+	 * have been removed by a refresh since the index was last written. Ids
+	 * range from zero to one less than this.
+	**/
+	public int size() {
+		return this.myPaths==null ? this.myMappedCount : this.myPaths.size();
+	}
+
+
+	/**
+	 * Returns the ids of all files currently in the index.
+	**/
+	public BitSet all() {
+		return (BitSet)live().clone();
+	}
+
+
+	/**
+	 * Returns the ids of all files which have the permission or file type
+	 * supplied.
+	 *
+	 * @param thePermission the permission or file type.
+	 *
+	 * @return the ids.
+	 *
+	 * @throws NullPointerException if the permission supplied is null.
+	**/
+	public BitSet with(UnixFilePermission thePermission) {
+		if (thePermission==null) {
+            throw new NullPointerException("Can not accept a null permission");
+        }
+		BitSet result = (BitSet)perm(thePermission.ordinal()).clone();
+		result.and(live());
+		return result;
+	}
+
+
+	/**
+	 * Returns the ids of all files owned by the user supplied.
+	 *
+	 * @param theOwner the name of the owner.
+	 *
+	 * @return the ids, which are empty if the owner is not known.
+	 *
+	 * @throws NullPointerException if the owner supplied is null.
+	**/
+	public BitSet ownedBy(String theOwner) {
+		if (theOwner==null) {
+            throw new NullPointerException("Can not accept a null owner");
+        }
+		return named(theOwner, this.myOwners, this.myOwnerOffsets);
+	}
+
+
+	/**
+	 * Returns the ids of all files whose group is the group supplied.
+	 *
+	 * @param theGroup the name of the group.
+	 *
+	 * @return the ids, which are empty if the group is not known.
+	 *
+	 * @throws NullPointerException if the group supplied is null.
+	**/
+	public BitSet inGroup(String theGroup) {
+		if (theGroup==null) {
+            throw new NullPointerException("Can not accept a null group");
+        }
+		return named(theGroup, this.myGroups, this.myGroupOffsets);
+	}
+
+
+	/**
+	 * Returns the names of all owners known to the index.
+	**/
+	public synchronized Set<String> getOwners() {
+		Set<String> owners = new TreeSet<>(this.myOwners.keySet());
+		owners.addAll(this.myOwnerOffsets.keySet());
+		return owners;
+	}
+
+
+	/**
+	 * Returns the names of all groups known to the index.
+	**/
+	public synchronized Set<String> getGroups() {
+		Set<String> groups = new TreeSet<>(this.myGroups.keySet());
+		groups.addAll(this.myGroupOffsets.keySet());
+		return groups;
+	}
+
+
+	/**
+	 * Returns the ids of the path supplied and every file beneath it.
+	 *
+	 * @param thePath the path.
+	 *
+	 * @return the ids.
+	 *
+	 * @throws NullPointerException if the path supplied is null.
+	**/
+	public BitSet under(Path thePath) {
+		if (thePath==null) {
+            throw new NullPointerException("Can not accept a null path");
+        }
+		byte[] prefix = encode(thePath);
+		BitSet result = new BitSet();
+		int from = lowerBound(prefix);
+		int to = from;
+		while (to<this.mySortedCount && startsWith(to, prefix)) {
+			to++;
+		}
+		result.set(from, to);
+		// Files added since the index was last written are not in order.
+		for (int id = this.mySortedCount; id<size(); id++) {
+			if (startsWith(id, prefix)) {
+				result.set(id);
+			}
+		}
+		result.and(live());
+		return result;
+	}
+
+
+	/**
+	 * Returns the path of the id supplied.
+	 *
+	 * @param theId the id.
+	 *
+	 * @return the path.
+	 *
+	 * @throws IndexOutOfBoundsException if the id is not in the index.
+	**/
+	public String getPath(int theId) {
+		if (theId<0 || theId>=size()) {
+			throw new IndexOutOfBoundsException(
+							"Can not accept id " + theId + " as the index " +
+							"has " + size() + " ids");
+		}
+		return new String(pathBytes(theId), StandardCharsets.UTF_8);
+	}
+
+
+	/**
+	 * Returns the paths of the ids supplied, in id order.
+	 *
+	 * @param theIds the ids.
+	 *
+	 * @return the paths.
+	 *
+	 * @throws NullPointerException if the ids supplied are null.
+	 * @throws IndexOutOfBoundsException if an id is not in the index.
+	**/
+	public List<String> getPaths(BitSet theIds) {
+		if (theIds==null) {
+            throw new NullPointerException("Can not accept null ids");
+        }
+		List<String> paths = new ArrayList<>(theIds.cardinality());
+		for (int id = theIds.nextSetBit(0); id>=0;
+			 id = theIds.nextSetBit(id + 1)) {
+			paths.add(getPath(id));
+		}
+		return paths;
+	}
+
+
+	/**
+	 * Rescans the directory supplied, adding new files, updating changed
+	 * files and removing files which no longer exist beneath it.
+	 *
+	 * @param theDir the directory to rescan.
+	 *
+	 * @throws IOException if an I/O error occurs.
+	 * @throws NullPointerException if the directory supplied is null.
+	**/
+	public void rescan(Path theDir)
+			throws IOException {
+		if (theDir==null) {
+            throw new NullPointerException("Can not accept a null path");
+        }
+		materialise();
+		BitSet stale = under(theDir);
+		Deque<Path> stack = new ArrayDeque<>();
+		stack.push(theDir.toAbsolutePath().normalize());
+		while (!stack.isEmpty()) {
+			Path path = stack.pop();
+			int id = index(path);
+			if (id>=0) {
+				stale.clear(id);
+				if (isDirectory(id)) {
+					pushChildren(path, stack);
+				}
+			}
+		}
+		for (int id = stale.nextSetBit(0); id>=0;
+			 id = stale.nextSetBit(id + 1)) {
+			remove(id);
+		}
+	}
+
+
+	/**
+	 * Updates the paths supplied, for example as reported by a
+	 * {@link WatchService}. Paths which no longer exist are removed and new
+	 * paths are added. Directories are not descended into.
+	 *
+	 * @param thePaths the paths which have changed.
+	 *
+	 * @throws IOException if an I/O error occurs.
+	 * @throws NullPointerException if the paths supplied are null.
+	**/
+	public void update(Collection<Path> thePaths)
+			throws IOException {
+		if (thePaths==null) {
+            throw new NullPointerException("Can not accept null paths");
+        }
+		materialise();
+		for (Path aPath: thePaths) {
+			Path path = aPath.toAbsolutePath().normalize();
+			if (Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+				index(path);
+			}
+			else {
+				Integer id = this.myIds.get(new String(encode(path),
+													   StandardCharsets.UTF_8));
+				if (id!=null) {
+					remove(id);
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Writes the index to the path supplied, compacting away removed files
+	 * and renumbering ids into path order. Ids obtained before the write
+	 * should not be used afterwards.
+	 *
+	 * @param thePath the path to write the index to.
+	 *
+	 * @throws IOException if an I/O error occurs, or if the index is larger
+	 *					   than 2GB.
+	 * @throws NullPointerException if the path supplied is null.
+	**/
+	public synchronized void write(Path thePath)
+			throws IOException {
+		if (thePath==null) {
+            throw new NullPointerException("Can not accept a null path");
+        }
+		materialise();
+		compact();
+
+		try (FileChannel channel = FileChannel.open(
+										thePath,
+										StandardOpenOption.CREATE,
+										StandardOpenOption.TRUNCATE_EXISTING,
+										StandardOpenOption.WRITE)) {
+			DataOutputStream out = new DataOutputStream(
+						new BufferedOutputStream(
+								Channels.newOutputStream(channel), 1<<16));
+			out.write(new byte[HEADER_SIZE]);
+			int count = this.myPaths.size();
+			int[] pathOffsets = new int[count + 1];
+			for (int id = 0; id<count; id++) {
+				pathOffsets[id] = checkSize(out);
+				out.write(this.myPaths.get(id));
+			}
+			pathOffsets[count] = checkSize(out);
+			int pathIndexOffset = checkSize(out);
+			for (int anOffset: pathOffsets) {
+				out.writeInt(anOffset);
+			}
+			int liveOffset = writeBitmap(out, this.myLive);
+			int[] permOffsets = new int[PERMISSIONS.length];
+			for (int i = 0; i<PERMISSIONS.length; i++) {
+				permOffsets[i] = writeBitmap(out, this.myPerms[i]);
+			}
+			Map<String, Integer> ownerOffsets = writeBitmaps(out,
+															 this.myOwners);
+			Map<String, Integer> groupOffsets = writeBitmaps(out,
+															 this.myGroups);
+			int directoryOffset = checkSize(out);
+			out.writeInt(liveOffset);
+			for (int anOffset: permOffsets) {
+				out.writeInt(anOffset);
+			}
+			writeNames(out, ownerOffsets);
+			writeNames(out, groupOffsets);
+			checkSize(out);
+			out.flush();
+
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			header.putInt(MAGIC)
+				  .putInt(VERSION)
+				  .putInt(count)
+				  .putInt(this.mySeparator)
+				  .putInt(pathIndexOffset)
+				  .putInt(directoryOffset)
+				  .flip();
+			channel.position(0);
+			while (header.hasRemaining()) {
+				channel.write(header);
+			}
+		}
+	}
+
+
+	// ************************************************************************\
+	// Protected Methods                                                       *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+	private synchronized BitSet live() {
+		if (this.myLive==null) {
+			this.myLive = readBitmap(this.myLiveOffset);
+		}
+		return this.myLive;
+	}
+
+
+	private synchronized BitSet perm(int theOrdinal) {
+		if (this.myPerms[theOrdinal]==null) {
+			this.myPerms[theOrdinal] =
+						readBitmap(this.myPermOffsets[theOrdinal]);
+		}
+		return this.myPerms[theOrdinal];
+	}
+
+
+	private synchronized BitSet named(String theName,
+									  Map<String, BitSet> theBitmaps,
+									  Map<String, Integer> theOffsets) {
+		BitSet bitmap = theBitmaps.get(theName);
+		if (bitmap==null) {
+			Integer offset = theOffsets.remove(theName);
+			if (offset==null) {
+				return new BitSet();
+			}
+			bitmap = readBitmap(offset);
+			theBitmaps.put(theName, bitmap);
+		}
+		BitSet result = (BitSet)bitmap.clone();
+		result.and(live());
+		return result;
+	}
+
+
+	private byte[] pathBytes(int theId) {
+		if (this.myPaths!=null) {
+			return this.myPaths.get(theId);
+		}
+		int start = this.myBuffer.getInt(this.myPathIndexOffset + 4 * theId);
+		int end = this.myBuffer.getInt(this.myPathIndexOffset +
+									   4 * (theId + 1));
+		byte[] bytes = new byte[end - start];
+		ByteBuffer dup = this.myBuffer.duplicate();
+		dup.position(start);
+		dup.get(bytes);
+		return bytes;
+	}
+
+
+	/**
+	 * Compares the path of the id supplied against the path bytes supplied
+	 * without copying the former out of the mapped file.
+	**/
+	private int compare(int theId, byte[] thePath) {
+		if (this.myPaths!=null) {
+			return comparePaths(this.myPaths.get(theId), thePath);
+		}
+		int start = this.myBuffer.getInt(this.myPathIndexOffset + 4 * theId);
+		int end = this.myBuffer.getInt(this.myPathIndexOffset +
+									   4 * (theId + 1));
+		int length = Math.min(end - start, thePath.length);
+		for (int i = 0; i<length; i++) {
+			int cmp = Integer.compare(order(this.myBuffer.get(start + i)),
+									  order(thePath[i]));
+			if (cmp!=0) {
+				return cmp;
+			}
+		}
+		return Integer.compare(end - start, thePath.length);
+	}
+
+
+	private boolean startsWith(int theId, byte[] thePrefix) {
+		byte[] path = pathBytes(theId);
+		if (path.length<thePrefix.length) {
+			return false;
+		}
+		for (int i = 0; i<thePrefix.length; i++) {
+			if (path[i]!=thePrefix[i]) {
+				return false;
+			}
+		}
+		return path.length==thePrefix.length ||
+			   path[thePrefix.length]==this.mySeparator ||
+			   thePrefix[thePrefix.length - 1]==this.mySeparator;
+	}
+
+
+	private int lowerBound(byte[] thePath) {
+		int low = 0;
+		int high = this.mySortedCount;
+		while (low<high) {
+			int mid = (low + high)>>>1;
+			if (compare(mid, thePath)<0) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+
+	private int order(byte theByte) {
+		// The separator sorts before every other byte so that a directory's
+		// contents immediately follow it.
+		return theByte==this.mySeparator ? -1 : theByte & 0xff;
+	}
+
+
+	private int comparePaths(byte[] theFirst, byte[] theSecond) {
+		int length = Math.min(theFirst.length, theSecond.length);
+		for (int i = 0; i<length; i++) {
+			int cmp = Integer.compare(order(theFirst[i]), order(theSecond[i]));
+			if (cmp!=0) {
+				return cmp;
+			}
+		}
+		return Integer.compare(theFirst.length, theSecond.length);
+	}
+
+
+	private byte[] encode(Path thePath) {
+		return thePath.toAbsolutePath()
+					  .normalize()
+					  .toString()
+					  .getBytes(StandardCharsets.UTF_8);
+	}
+
+
+	private boolean isDirectory(int theId) {
+		return perm(UnixFilePermission.DIRECTORY.ordinal()).get(theId);
+	}
+
+
+	/**
+	 * Reads the attributes of the path supplied and records them against its
+	 * existing id, or a new id if it is not yet indexed.
+	 *
+	 * @return the id, or -1 if the path no longer exists.
+	**/
+	private int index(Path thePath)
+			throws IOException {
+		int mode;
+		String owner;
+		String group;
+		try {
+			if (this.myUnixView) {
+				Map<String, Object> attrs = Files.readAttributes(
+												thePath,
+												UNIX_ATTRIBS,
+												LinkOption.NOFOLLOW_LINKS);
+				mode = ((Number)attrs.get("mode")).intValue();
+				owner = ((UserPrincipal)attrs.get("owner")).getName();
+				group = ((UserPrincipal)attrs.get("group")).getName();
+			}
+			else {
+				PosixFileAttributes attrs = Files.readAttributes(
+												thePath,
+												PosixFileAttributes.class,
+												LinkOption.NOFOLLOW_LINKS);
+				mode = UnixFiles.getUnixMode(thePath,
+											 LinkOption.NOFOLLOW_LINKS);
+				owner = attrs.owner().getName();
+				group = attrs.group().getName();
+			}
+		}
+		catch (NoSuchFileException e) {
+			return -1;
+		}
+
+		byte[] path = encode(thePath);
+		Integer existing = this.myIds==null ?
+						null :
+						this.myIds.get(new String(path, StandardCharsets.UTF_8));
+		int id;
+		if (existing==null) {
+			id = this.myPaths.size();
+			this.myPaths.add(path);
+			if (this.myIds!=null) {
+				this.myIds.put(new String(path, StandardCharsets.UTF_8), id);
+			}
+		}
+		else {
+			id = existing;
+			clear(id);
+		}
+		this.myLive.set(id);
+		for (UnixFilePermission aPermission:
+							UnixFilePermissions.fromMask(mode)) {
+			this.myPerms[aPermission.ordinal()].set(id);
+		}
+		bitmap(this.myOwners, owner).set(id);
+		bitmap(this.myGroups, group).set(id);
+		return id;
+	}
+
+
+	private void pushChildren(Path theDir, Deque<Path> theStack)
+			throws IOException {
+		List<Path> children = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(theDir)) {
+			for (Path aChild: stream) {
+				children.add(aChild);
+			}
+		}
+		catch (NoSuchFileException | NotDirectoryException e) {
+			return;
+		}
+		catch (AccessDeniedException e) {
+			// Index what we can see.
+			return;
+		}
+		// Push in reverse so that children are popped, and given ids, in
+		// path order.
+		Collections.sort(children, Collections.reverseOrder(
+				(theFirst, theSecond) -> comparePaths(
+							theFirst.getFileName().toString()
+									.getBytes(StandardCharsets.UTF_8),
+							theSecond.getFileName().toString()
+									.getBytes(StandardCharsets.UTF_8))));
+		for (Path aChild: children) {
+			theStack.push(aChild);
+		}
+	}
+
+
+	private void remove(int theId) {
+		clear(theId);
+		this.myLive.clear(theId);
+	}
+
+
+	private void clear(int theId) {
+		for (BitSet aPerm: this.myPerms) {
+			aPerm.clear(theId);
+		}
+		for (BitSet anOwner: this.myOwners.values()) {
+			anOwner.clear(theId);
+		}
+		for (BitSet aGroup: this.myGroups.values()) {
+			aGroup.clear(theId);
+		}
+	}
+
+
+	/**
+	 * Pulls all paths and bitmaps out of the mapped file so that the index
+	 * may be modified.
+	**/
+	private synchronized void materialise() {
+		if (this.myPaths==null) {
+			List<byte[]> paths = new ArrayList<>(this.myMappedCount);
+			for (int id = 0; id<this.myMappedCount; id++) {
+				paths.add(pathBytes(id));
+			}
+			live();
+			for (int i = 0; i<PERMISSIONS.length; i++) {
+				perm(i);
+			}
+			for (Map.Entry<String, Integer> anEntry:
+											this.myOwnerOffsets.entrySet()) {
+				this.myOwners.put(anEntry.getKey(),
+								  readBitmap(anEntry.getValue()));
+			}
+			this.myOwnerOffsets.clear();
+			for (Map.Entry<String, Integer> anEntry:
+											this.myGroupOffsets.entrySet()) {
+				this.myGroups.put(anEntry.getKey(),
+								  readBitmap(anEntry.getValue()));
+			}
+			this.myGroupOffsets.clear();
+			this.myPaths = paths;
+		}
+		if (this.myIds==null) {
+			this.myIds = new HashMap<>(this.myPaths.size() * 2);
+			for (int id = 0; id<this.myPaths.size(); id++) {
+				if (this.myLive.get(id)) {
+					this.myIds.put(new String(this.myPaths.get(id),
+											  StandardCharsets.UTF_8), id);
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Drops removed files and renumbers the remaining ids into path order.
+	**/
+	private void compact() {
+		List<Integer> ids = new ArrayList<>(this.myLive.cardinality());
+		for (int id = this.myLive.nextSetBit(0); id>=0;
+			 id = this.myLive.nextSetBit(id + 1)) {
+			ids.add(id);
+		}
+		// Mostly sorted already, so this is close to linear.
+		Collections.sort(ids, (theFirst, theSecond) ->
+						comparePaths(this.myPaths.get(theFirst),
+									 this.myPaths.get(theSecond)));
+		int[] newIds = new int[this.myPaths.size()];
+		List<byte[]> paths = new ArrayList<>(ids.size());
+		for (int i = 0; i<ids.size(); i++) {
+			newIds[ids.get(i)] = i;
+			paths.add(this.myPaths.get(ids.get(i)));
+		}
+		this.myLive = renumber(this.myLive, newIds);
+		for (int i = 0; i<PERMISSIONS.length; i++) {
+			this.myPerms[i] = renumber(this.myPerms[i], newIds);
+		}
+		renumber(this.myOwners, newIds);
+		renumber(this.myGroups, newIds);
+		this.myPaths = paths;
+		this.mySortedCount = paths.size();
+		this.myIds = null;
+	}
+
+
+	private BitSet renumber(BitSet theBitmap, int[] theNewIds) {
+		BitSet result = new BitSet();
+		for (int id = theBitmap.nextSetBit(0); id>=0;
+			 id = theBitmap.nextSetBit(id + 1)) {
+			if (this.myLive.get(id)) {
+				result.set(theNewIds[id]);
+			}
+		}
+		return result;
+	}
+
+
+	private void renumber(Map<String, BitSet> theBitmaps, int[] theNewIds) {
+		Iterator<Map.Entry<String, BitSet>> it =
+											theBitmaps.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<String, BitSet> entry = it.next();
+			BitSet bitmap = renumber(entry.getValue(), theNewIds);
+			if (bitmap.isEmpty()) {
+				it.remove();
+			}
+			else {
+				entry.setValue(bitmap);
+			}
+		}
+	}
+
+
+	/**
+	 * Decodes the run length compressed bitmap at the offset supplied. The
+	 * encoding is a sequence of marker words, each followed by literal words.
+	 * A marker holds a count of fill words (all zeros or all ones) in bits
+	 * 0-30, the fill value in bit 31, and the count of literal words which
+	 * follow in bits 32-62.
+	**/
+	private BitSet readBitmap(int theOffset) {
+		ByteBuffer buffer = this.myBuffer.duplicate();
+		buffer.position(theOffset);
+		long[] words = new long[buffer.getInt()];
+		int encoded = buffer.getInt();
+		int word = 0;
+		for (int i = 0; i<encoded; ) {
+			long marker = buffer.getLong();
+			i++;
+			int fill = (int)(marker & FILL_MASK);
+			if ((marker & FILL_BIT)!=0) {
+				Arrays.fill(words, word, word + fill, -1L);
+			}
+			word += fill;
+			int literals = (int)(marker>>>32);
+			for (int j = 0; j<literals; j++) {
+				words[word++] = buffer.getLong();
+			}
+			i += literals;
+		}
+		return BitSet.valueOf(words);
+	}
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Builds an index of every file beneath the directory supplied, including
+	 * the directory itself. Symbolic links are indexed but not followed, and
+	 * directories which can not be read are indexed without their contents.
+	 * Full modes, including the setuid, setgid and sticky bits, require a
+	 * file system supporting the {@code unix} file attribute view; otherwise
+	 * the {@code posix} view is used.
+	 *
+	 * @param theDir the directory to index.
+	 *
+	 * @return the index.
+	 *
+	 * @throws IOException if an I/O error occurs.
+	 * @throws NullPointerException if the directory supplied is null.
+	 * @throws UnsupportedOperationException if the file system supports
+	 *										 neither the {@code unix} nor
+	 *										 the {@code posix} view.
+	**/
+	public static PermissionIndex scan(Path theDir)
+			throws IOException {
+		if (theDir==null) {
+            throw new NullPointerException("Can not accept a null path");
+        }
+		FileSystem fs = theDir.getFileSystem();
+		Set<String> views = fs.supportedFileAttributeViews();
+		if (!views.contains("unix") && !views.contains("posix")) {
+			throw new UnsupportedOperationException(
+						"Can not accept path from file system '" + fs +
+						"' as it does not support 'unix' or 'posix' file " +
+						"attribute views");
+		}
+		String separator = fs.getSeparator();
+		PermissionIndex index = new PermissionIndex(separator.charAt(0),
+													views.contains("unix"));
+		index.rescan(theDir);
+		index.compact();
+		return index;
+	}
+
+
+	/**
+	 * Memory maps an index previously written with {@link #write(Path)}.
+	 * Loading reads only the file's header and bitmap directory; bitmaps are
+	 * decoded when first queried and paths are read from the mapping as
+	 * required.
+	 *
+	 * @param thePath the path of the index.
+	 *
+	 * @return the index.
+	 *
+	 * @throws IOException if an I/O error occurs or the file is not an index.
+	 * @throws NullPointerException if the path supplied is null.
+	**/
+	public static PermissionIndex load(Path thePath)
+			throws IOException {
+		if (thePath==null) {
+            throw new NullPointerException("Can not accept a null path");
+        }
+		try (FileChannel channel =
+						FileChannel.open(thePath, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+												  0,
+												  channel.size());
+			return new PermissionIndex(buffer, thePath);
+		}
+	}
+
+
+	private static BitSet bitmap(Map<String, BitSet> theBitmaps,
+								 String theName) {
+		BitSet bitmap = theBitmaps.get(theName);
+		if (bitmap==null) {
+			bitmap = new BitSet();
+			theBitmaps.put(theName, bitmap);
+		}
+		return bitmap;
+	}
+
+
+	private static int writeBitmap(DataOutputStream theOut, BitSet theBitmap)
+			throws IOException {
+		int offset = checkSize(theOut);
+		long[] words = theBitmap.toLongArray();
+		// At worst every word is a literal preceded by its own marker.
+		long[] encoded = new long[2 * words.length + 1];
+		int size = 0;
+		int i = 0;
+		while (i<words.length) {
+			long fillWord = words[i]==-1L ? -1L : 0L;
+			int fill = 0;
+			while (i<words.length && words[i]==fillWord && fill<FILL_MASK) {
+				fill++;
+				i++;
+			}
+			int start = i;
+			while (i<words.length && words[i]!=0L && words[i]!=-1L &&
+				   i - start<FILL_MASK) {
+				i++;
+			}
+			encoded[size++] = ((long)(i - start)<<32) |
+							  (fillWord==-1L ? FILL_BIT : 0L) |
+							  fill;
+			for (int j = start; j<i; j++) {
+				encoded[size++] = words[j];
+			}
+		}
+		theOut.writeInt(words.length);
+		theOut.writeInt(size);
+		for (int j = 0; j<size; j++) {
+			theOut.writeLong(encoded[j]);
+		}
+		return offset;
+	}
+
+
+	private static Map<String, Integer> writeBitmaps(
+									DataOutputStream theOut,
+									Map<String, BitSet> theBitmaps)
+			throws IOException {
+		Map<String, Integer> offsets = new TreeMap<>();
+		for (Map.Entry<String, BitSet> anEntry: theBitmaps.entrySet()) {
+			offsets.put(anEntry.getKey(),
+						writeBitmap(theOut, anEntry.getValue()));
+		}
+		return offsets;
+	}
+
+
+	private static void writeNames(DataOutputStream theOut,
+								   Map<String, Integer> theOffsets)
+			throws IOException {
+		theOut.writeInt(theOffsets.size());
+		for (Map.Entry<String, Integer> anEntry: theOffsets.entrySet()) {
+			byte[] name = anEntry.getKey().getBytes(StandardCharsets.UTF_8);
+			theOut.writeInt(name.length);
+			theOut.write(name);
+			theOut.writeInt(anEntry.getValue());
+		}
+	}
+
+
+	private static void readNames(ByteBuffer theBuffer,
+								  Map<String, Integer> theOffsets) {
+		int count = theBuffer.getInt();
+		for (int i = 0; i<count; i++) {
+			byte[] name = new byte[theBuffer.getInt()];
+			theBuffer.get(name);
+			theOffsets.put(new String(name, StandardCharsets.UTF_8),
+						   theBuffer.getInt());
+		}
+	}
+
+
+	private static int checkSize(DataOutputStream theOut)
+			throws IOException {
+		int size = theOut.size();
+		if (size<0 || size==Integer.MAX_VALUE) {
+			throw new IOException(
+						"Can not write an index larger than 2GB");
+		}
+		return size;
+	}
+}
@@ -0,0 +1,519 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.unixpermissions;
+
+
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+
+
+
+/**
+ * <p>A command line tool for bulk permission operations on trees of files,
+ * in place of shelling out to {@code find -exec chmod}.</p>
+ *
+ * <pre>
+ *     scan  [-r radix] [-L] path...        print the mode of every file
+ *     audit [-r radix] [-L] path...        print risky modes, exit 1 if any
+ *     set   [-r radix] [-R] mode path...   set the mode, recursively with -R
+ *     diff  [-r radix] [-L] left right     print modes differing between trees
+ * </pre>
+ *
+ * <p>Modes are printed and parsed in the radix given, one of 2, 8, 10 or 16
+ * as for {@link UnixFilePermissions#toMode(Set, int)}, octal by default. The
+ * exit status is 0 on success, 1 where an audit finds risky modes or a diff
+ * finds differences, 2 on bad usage and 3 should any file fail.</p>
+ *
+ * <p>The tool is written for a fast start, as it is run once per invocation:
+ * it uses no lambdas or streams, whose bootstrap costs more than a small
+ * tree takes to walk, and loads some fifty classes beyond the JDK's own
+ * start up, none of them creating threads or executors. Built with
+ * {@code -Pappcds} on Java 13 or later, a class data sharing archive of the
+ * classes a scan loads is written alongside the jar; see the package README
+ * for running with it.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class PermissionsTool {
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	private static final int EXIT_OK = 0;
+	private static final int EXIT_FOUND = 1;
+	private static final int EXIT_USAGE = 2;
+	private static final int EXIT_FAILED = 3;
+
+	private static final String USAGE =
+		"Usage: PermissionsTool <command> [options] <arguments>\n" +
+		"  scan  [-r radix] [-L] path...        print the mode of every file\n" +
+		"  audit [-r radix] [-L] path...        print risky modes\n" +
+		"  set   [-r radix] [-R] mode path...   set the mode\n" +
+		"  diff  [-r radix] [-L] left right     print modes which differ\n" +
+		"Options:\n" +
+		"  -r radix  mode radix: 2, 8, 10 or 16 (default 8)\n" +
+		"  -R        set recursively\n" +
+		"  -L        follow symbolic links\n";
+
+	private static final int TYPE_LINK = UnixFilePermission.SYMBOLIC_LINK.getMask();
+	private static final int TYPE_DIRECTORY = UnixFilePermission.DIRECTORY.getMask();
+	private static final int TYPE_FILE = UnixFilePermission.REGULAR_FILE.getMask();
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final Writer myOut;
+	private final PrintStream myErr;
+	private final List<String> myArguments = new ArrayList<>();
+	private int myRadix = 8;
+	private boolean myRecursive;
+	private boolean myFollowLinks;
+	private int myFailures;
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private PermissionsTool(Writer theOut, PrintStream theErr) {
+		this.myOut = theOut;
+		this.myErr = theErr;
+	}
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+	/**
+	 * Runs the command line supplied, returning the exit status.
+	**/
+	private int run(String[] theArgs)
+			throws IOException {
+		if (theArgs.length==0 || !parseOptions(theArgs)) {
+			this.myErr.print(USAGE);
+			return EXIT_USAGE;
+		}
+		int status;
+		switch (theArgs[0]) {
+			case "scan":
+				status = scan();
+				break;
+			case "audit":
+				status = audit();
+				break;
+			case "set":
+				status = set();
+				break;
+			case "diff":
+				status = diff();
+				break;
+			default:
+				this.myErr.println("Unknown command '" + theArgs[0] + "'");
+				this.myErr.print(USAGE);
+				return EXIT_USAGE;
+		}
+		this.myOut.flush();
+		return this.myFailures>0 ? EXIT_FAILED : status;
+	}
+
+
+	/**
+	 * Parses the options after the command, leaving the other arguments,
+	 * returning false should they be bad.
+	**/
+	private boolean parseOptions(String[] theArgs) {
+		for (int i = 1; i<theArgs.length; i++) {
+			String arg = theArgs[i];
+			if (arg.equals("-r") && i + 1<theArgs.length) {
+				try {
+					this.myRadix = Integer.parseInt(theArgs[++i]);
+				}
+				catch (NumberFormatException nfe) {
+					return false;
+				}
+				if (this.myRadix!=2 && this.myRadix!=8 &&
+					this.myRadix!=10 && this.myRadix!=16) {
+					return false;
+				}
+			}
+			else if (arg.equals("-R")) {
+				this.myRecursive = true;
+			}
+			else if (arg.equals("-L")) {
+				this.myFollowLinks = true;
+			}
+			else if (arg.equals("--")) {
+				this.myArguments.addAll(
+						Arrays.asList(theArgs).subList(i + 1, theArgs.length));
+				break;
+			}
+			else if (arg.startsWith("-") && arg.length()>1) {
+				return false;
+			}
+			else {
+				this.myArguments.add(arg);
+			}
+		}
+		return true;
+	}
+
+
+	private int scan()
+			throws IOException {
+		if (this.myArguments.isEmpty()) {
+			return usage();
+		}
+		ModeVisitor visitor = new ModeVisitor() {
+			@Override
+			void visit(Path thePath, int theMode)
+					throws IOException {
+				print(theMode, thePath.toString());
+			}
+		};
+		for (String anArg: this.myArguments) {
+			walk(Paths.get(anArg), Integer.MAX_VALUE, visitor);
+		}
+		return EXIT_OK;
+	}
+
+
+	private int audit()
+			throws IOException {
+		if (this.myArguments.isEmpty()) {
+			return usage();
+		}
+		AuditVisitor visitor = new AuditVisitor();
+		for (String anArg: this.myArguments) {
+			walk(Paths.get(anArg), Integer.MAX_VALUE, visitor);
+		}
+		return visitor.myFindings>0 ? EXIT_FOUND : EXIT_OK;
+	}
+
+
+	private int set()
+			throws IOException {
+		if (this.myArguments.size()<2) {
+			return usage();
+		}
+		int mode;
+		try {
+			mode = UnixFilePermissions.toMask(UnixFilePermissions.parseMode(
+											this.myArguments.get(0),
+											this.myRadix)) &
+				   UnixFilePermissions.PERMISSION_MASK;
+		}
+		catch (IllegalArgumentException iae) {
+			this.myErr.println("Can not parse mode '" +
+							   this.myArguments.get(0) + "' in radix " +
+							   this.myRadix);
+			return EXIT_USAGE;
+		}
+		SetVisitor visitor = new SetVisitor(mode);
+		int depth = this.myRecursive ? Integer.MAX_VALUE : 0;
+		for (String anArg: this.myArguments.subList(1, this.myArguments.size())) {
+			walk(Paths.get(anArg), depth, visitor);
+		}
+		return EXIT_OK;
+	}
+
+
+	private int diff()
+			throws IOException {
+		if (this.myArguments.size()!=2) {
+			return usage();
+		}
+		Map<String, Integer> left = collect(Paths.get(this.myArguments.get(0)));
+		Map<String, Integer> right = collect(Paths.get(this.myArguments.get(1)));
+		SortedSet<String> names = new TreeSet<>(left.keySet());
+		names.addAll(right.keySet());
+		int differences = 0;
+		StringBuilder line = new StringBuilder();
+		for (String aName: names) {
+			Integer leftMode = left.get(aName);
+			Integer rightMode = right.get(aName);
+			if (leftMode==null || !leftMode.equals(rightMode)) {
+				line.setLength(0);
+				line.append(leftMode==null ? "-" : format(leftMode))
+					.append(' ')
+					.append(rightMode==null ? "-" : format(rightMode))
+					.append(' ')
+					.append(aName.isEmpty() ? "." : aName)
+					.append('\n');
+				this.myOut.write(line.toString());
+				differences++;
+			}
+		}
+		return differences>0 ? EXIT_FOUND : EXIT_OK;
+	}
+
+
+	/**
+	 * Returns the modes of every file in the tree, keyed by path relative to
+	 * its root.
+	**/
+	private Map<String, Integer> collect(final Path theRoot)
+			throws IOException {
+		final Map<String, Integer> modes = new HashMap<>();
+		walk(theRoot, Integer.MAX_VALUE, new ModeVisitor() {
+			@Override
+			void visit(Path thePath, int theMode) {
+				modes.put(theRoot.relativize(thePath).toString(), theMode);
+			}
+		});
+		return modes;
+	}
+
+
+	private void walk(Path theStart, int theDepth, ModeVisitor theVisitor)
+			throws IOException {
+		Set<FileVisitOption> options = this.myFollowLinks ?
+								EnumSet.of(FileVisitOption.FOLLOW_LINKS) :
+								EnumSet.noneOf(FileVisitOption.class);
+		Files.walkFileTree(theStart, options, theDepth, theVisitor);
+	}
+
+
+	/**
+	 * Returns the mode of the file, or -1 having reported the failure.
+	**/
+	private int mode(Path thePath) {
+		try {
+			return this.myFollowLinks ?
+						UnixFiles.getUnixMode(thePath) :
+						UnixFiles.getUnixMode(thePath, LinkOption.NOFOLLOW_LINKS);
+		}
+		catch (IOException | UnsupportedOperationException e) {
+			fail(thePath, e);
+			return -1;
+		}
+	}
+
+
+	private String format(int theMode) {
+		return UnixFilePermissions.toMode(
+						UnixFilePermissions.fromMask(
+								theMode & UnixFilePermissions.PERMISSION_MASK),
+						this.myRadix);
+	}
+
+
+	private void print(int theMode, String theText)
+			throws IOException {
+		this.myOut.write(type(theMode));
+		this.myOut.write(' ');
+		this.myOut.write(format(theMode));
+		this.myOut.write(' ');
+		this.myOut.write(theText);
+		this.myOut.write('\n');
+	}
+
+
+	private void fail(Path thePath, Exception theException) {
+		this.myFailures++;
+		this.myErr.println(thePath + ": " + theException);
+	}
+
+
+	private int usage() {
+		this.myErr.print(USAGE);
+		return EXIT_USAGE;
+	}
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+	/**
+	 * Visits every file and directory in a tree with its mode, reporting
+	 * those which can not be read and carrying on.
+	**/
+	private abstract class ModeVisitor extends SimpleFileVisitor<Path> {
+
+		@Override
+		public FileVisitResult preVisitDirectory(Path theDir,
+												 BasicFileAttributes theAttrs)
+				throws IOException {
+			int mode = mode(theDir);
+			if (mode!=-1) {
+				visit(theDir, mode);
+			}
+			return FileVisitResult.CONTINUE;
+		}
+
+
+		@Override
+		public FileVisitResult visitFile(Path theFile,
+										 BasicFileAttributes theAttrs)
+				throws IOException {
+			int mode = mode(theFile);
+			if (mode!=-1) {
+				visit(theFile, mode);
+			}
+			return FileVisitResult.CONTINUE;
+		}
+
+
+		@Override
+		public FileVisitResult visitFileFailed(Path theFile,
+											   IOException theException) {
+			fail(theFile, theException);
+			return FileVisitResult.CONTINUE;
+		}
+
+
+		abstract void visit(Path thePath, int theMode)
+				throws IOException;
+	}
+
+
+	/**
+	 * Prints world writable files, world writable directories without the
+	 * sticky bit, and setuid and setgid files.
+	**/
+	private final class AuditVisitor extends ModeVisitor {
+
+		private int myFindings;
+
+		@Override
+		void visit(Path thePath, int theMode)
+				throws IOException {
+			int type = theMode & UnixFilePermissions.FILE_TYPE_MASK;
+			if (type==TYPE_LINK) {
+				return;
+			}
+			boolean worldWritable =
+						(theMode & UnixFilePermission.OTHERS_WRITE.getMask())!=0;
+			if (type==TYPE_DIRECTORY) {
+				if (worldWritable &&
+					(theMode & UnixFilePermission.STICKY_BIT.getMask())==0) {
+					report(thePath, theMode, "world-writable-dir");
+				}
+				return;
+			}
+			if (worldWritable) {
+				report(thePath, theMode, "world-writable");
+			}
+			if (type==TYPE_FILE &&
+				(theMode & UnixFilePermission.SET_UID_BIT.getMask())!=0) {
+				report(thePath, theMode, "setuid");
+			}
+			if (type==TYPE_FILE &&
+				(theMode & UnixFilePermission.SET_GID_BIT.getMask())!=0) {
+				report(thePath, theMode, "setgid");
+			}
+		}
+
+
+		private void report(Path thePath, int theMode, String theFinding)
+				throws IOException {
+			this.myFindings++;
+			print(theMode, theFinding + " " + thePath);
+		}
+	}
+
+
+	/**
+	 * Sets the mode of every file and directory visited, skipping symbolic
+	 * links as chmod -R does. Directories are set before their contents.
+	**/
+	private final class SetVisitor extends ModeVisitor {
+
+		private final int myMode;
+
+		private SetVisitor(int theMode) {
+			this.myMode = theMode;
+		}
+
+
+		@Override
+		void visit(Path thePath, int theMode) {
+			if ((theMode & UnixFilePermissions.FILE_TYPE_MASK)==TYPE_LINK ||
+				(theMode & UnixFilePermissions.PERMISSION_MASK)==this.myMode) {
+				return;
+			}
+			try {
+				UnixFiles.setUnixMode(thePath, this.myMode);
+			}
+			catch (IOException | UnsupportedOperationException e) {
+				fail(thePath, e);
+			}
+		}
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Runs the tool, exiting with its status.
+	 *
+	 * @param theArgs the command and its arguments.
+	**/
+	public static void main(String[] theArgs) {
+		Writer out = new BufferedWriter(new OutputStreamWriter(
+							new FileOutputStream(FileDescriptor.out),
+							Charset.defaultCharset()), 1 << 16);
+		int status;
+		try {
+			status = new PermissionsTool(out, System.err).run(theArgs);
+		}
+		catch (IOException | RuntimeException e) {
+			System.err.println(e);
+			status = EXIT_FAILED;
+		}
+		finally {
+			try {
+				out.flush();
+			}
+			catch (IOException e) {
+				System.err.println(e);
+				status = EXIT_FAILED;
+			}
+		}
+		System.exit(status);
+	}
+
+
+	/**
+	 * Returns the character ls uses for the file type of the mode.
+	**/
+	private static char type(int theMode) {
+		int type = theMode & UnixFilePermissions.FILE_TYPE_MASK;
+		if (type==TYPE_FILE) {
+			return '-';
+		}
+		if (type==TYPE_DIRECTORY) {
+			return 'd';
+		}
+		if (type==TYPE_LINK) {
+			return 'l';
+		}
+		if (type==UnixFilePermission.FIFO.getMask()) {
+			return 'p';
+		}
+		if (type==UnixFilePermission.SOCKET.getMask()) {
+			return 's';
+		}
+		if (type==UnixFilePermission.CHARACTER_DEVICE.getMask()) {
+			return 'c';
+		}
+		if (type==UnixFilePermission.BLOCK_DEVICE.getMask()) {
+			return 'b';
+		}
+		return '?';
+	}
+}
@@ -31,16 +31,16 @@ public enum UnixFilePermission {
 	CHARACTER_DEVICE(20000),
 	FIFO(10000),
 	SET_UID_BIT(4000, 5000, 6000, 7000),
-	SET_GID_BIT(2000, 6000, 7000),
+	SET_GID_BIT(2000, 3000, 6000, 7000),
 	STICKY_BIT(1000, 3000, 5000, 7000),
 	OWNER_READ(400, 500, 600, 700),
-	OWNER_WRITE(200, 600, 700),
+	OWNER_WRITE(200, 300, 600, 700),
 	OWNER_EXECUTE(100, 300, 500, 700),
 	GROUP_READ(40, 50, 60, 70),
-	GROUP_WRITE(20, 60, 70),
+	GROUP_WRITE(20, 30, 60, 70),
 	GROUP_EXECUTE(10, 30, 50, 70),
 	OTHERS_READ(4, 5, 6, 7),
-	OTHERS_WRITE(2, 6, 7),
+	OTHERS_WRITE(2, 3, 6, 7),
 	OTHERS_EXECUTE(1, 3, 5, 7);
 
 
@@ -54,6 +54,7 @@ public enum UnixFilePermission {
 	// ************************************************************************/
 	
 	private final int myOctal;
+	private final int myMask;
 	private final Set<Integer> myOctals = new HashSet<>();
 
 
@@ -73,6 +74,7 @@ public enum UnixFilePermission {
 	**/ 
 	private UnixFilePermission(int theOctal, Integer... theOctals) {
 		this.myOctal = theOctal;
+		this.myMask = Integer.parseInt(Integer.toString(theOctal), 8);
 		this.myOctals.add(theOctal);
 		this.myOctals.addAll(Arrays.asList(theOctals));
 	}
@@ -89,6 +91,23 @@ public enum UnixFilePermission {
 	public int getOctal() {
 		return this.myOctal;
 	}
+	
+	/**
+	 * Returns the bit mask for this permission as it appears in a UNIX mode,
+	 * for example 04000 for SET_UID_BIT or 040000 for DIRECTORY.
+	**/ 
+	public int getMask() {
+		return this.myMask;
+	}
+	
+	/**
+	 * Returns true if this permission represents a file type rather than an
+	 * access permission. File types occupy the 0170000 bits of a mode and are
+	 * mutually exclusive.
+	**/ 
+	public boolean isFileType() {
+		return (this.myMask & UnixFilePermissions.FILE_TYPE_MASK)!=0;
+	}
 
 	/**
 	 * Parses the octal value into a set of file permissions. This is because
@@ -28,6 +28,35 @@ public final class UnixFilePermissions {
 	// ************************************************************************\
 	// Static Variables                                                        *
 	// ************************************************************************/
+	
+	/**
+	 * The bits of a UNIX mode which hold the file type.
+	**/ 
+	public static final int FILE_TYPE_MASK = 0170000;
+	
+	/**
+	 * The bits of a UNIX mode which hold the access permissions, including the
+	 * setuid, setgid and sticky bits.
+	**/ 
+	public static final int PERMISSION_MASK = 07777;
+	
+	private static final UnixFilePermission[] PERMISSION_BITS;
+	private static final UnixFilePermission[] FILE_TYPES;
+	
+	static {
+		List<UnixFilePermission> bits = new ArrayList<>();
+		List<UnixFilePermission> types = new ArrayList<>();
+		for (UnixFilePermission aPermission: UnixFilePermission.values()) {
+			if (aPermission.isFileType()) {
+				types.add(aPermission);
+			}
+			else {
+				bits.add(aPermission);
+			}
+		}
+		PERMISSION_BITS = bits.toArray(new UnixFilePermission[bits.size()]);
+		FILE_TYPES = types.toArray(new UnixFilePermission[types.size()]);
+	}
 
 
 	// ************************************************************************\
@@ -115,6 +144,60 @@ public final class UnixFilePermissions {
 	}
 	
 	
+	/**
+	 * Returns the set of supplied permissions as an integer UNIX mode, for
+	 * example 0100755 for a regular file with rwxr-xr-x permissions.
+	 * 
+	 * @param thePerms the permissions.
+	 * 
+	 * @return the mode.
+	 * 
+	 * @throws NullPointerException if the permissions supplied are null.
+	**/
+	public static int toMask(Set<UnixFilePermission> thePerms) {
+		if (thePerms==null) {
+            throw new NullPointerException("Can not accept null permissions");
+        }
+		
+		int mask = 0;
+		for (UnixFilePermission aPermission: thePerms) {
+			mask |= aPermission.getMask();
+		}
+		return mask;
+	}
+	
+	
+	/**
+	 * Returns the set of permissions held in the integer UNIX mode supplied.
+	 * This is the equivalent of {@link #parseMode(String, int)} without the
+	 * intermediate string conversion. File type bits which do not match a
+	 * known file type are ignored.
+	 * 
+	 * @param theMask the mode.
+	 * 
+	 * @return the set of permissions.
+	**/ 
+	public static Set<UnixFilePermission> fromMask(int theMask) {
+		Set<UnixFilePermission> perms = 
+								EnumSet.noneOf(UnixFilePermission.class);
+		int type = theMask & FILE_TYPE_MASK;
+		if (type!=0) {
+			for (UnixFilePermission aType: FILE_TYPES) {
+				if (aType.getMask()==type) {
+					perms.add(aType);
+					break;
+				}
+			}
+		}
+		for (UnixFilePermission aPermission: PERMISSION_BITS) {
+			if ((theMask & aPermission.getMask())!=0) {
+				perms.add(aPermission);
+			}
+		}
+		return perms;
+	}
+	
+	
 	/**
 	 * Converts the UNIX file permissions supplied into POSIX file permissions.
 	 * Any UNIX file permissions which do not have an equivalent POSIX type
@@ -9,13 +9,23 @@ package uk.co.adambh.util.unixpermissions;
 
 import java.io.*;
 import java.nio.file.*;
+import java.nio.file.attribute.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 
 
 /**
- * Utility class for file operations regarding Unix file permissions for the new 
- * {@link java.nio.file} package.
+ * <p>Utility class for file operations regarding Unix file permissions for the
+ * new {@link java.nio.file} package.</p>
+ *
+ * <p>Permissions are read and written through the cheapest mechanism the
+ * {@code FileSystem} of a path supports, chosen once per file system and then
+ * cached: the {@code unix} view, which holds the full mode; the {@code posix}
+ * view; or the {@code zip} view's permissions, as supported by the zip file
+ * system. The {@code posix} and {@code zip} mechanisms can not represent the
+ * setuid, setgid or sticky bits, which are read as absent and ignored when
+ * set.</p>
  *
  * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
 **/
@@ -26,13 +36,165 @@ public final class UnixFiles {
 	// Enums                                                                   *
 	// ************************************************************************/
 
+	/**
+	 * The mechanisms through which permissions may be read and written, in
+	 * order of preference.
+	**/
+	private enum Backend {
+
+		UNIX {
+			@Override
+			int getMode(Path thePath, LinkOption... theOptions)
+					throws IOException {
+				Object obj = Files.getAttribute(thePath,
+												UNIX_MODE_ATTRIB,
+												theOptions);
+				if (obj==null) {
+					throw noPermissions(thePath);
+				}
+				return ((Number)obj).intValue();
+			}
+
+			@Override
+			void setMode(Path thePath, int theMode)
+					throws IOException {
+				Files.setAttribute(thePath,
+								   UNIX_MODE_ATTRIB,
+								   Integer.valueOf(theMode));
+			}
+		},
+
+		POSIX {
+			@Override
+			int getMode(Path thePath, LinkOption... theOptions)
+					throws IOException {
+				PosixFileAttributes attrs = Files.readAttributes(
+												thePath,
+												PosixFileAttributes.class,
+												theOptions);
+				return fileType(attrs) | toMask(attrs.permissions());
+			}
+
+			@Override
+			void setMode(Path thePath, int theMode)
+					throws IOException {
+				Files.setPosixFilePermissions(thePath, toPosix(theMode));
+			}
+		},
+
+		ZIP {
+			@Override
+			int getMode(Path thePath, LinkOption... theOptions)
+					throws IOException {
+				Map<String, Object> attrs;
+				try {
+					attrs = Files.readAttributes(thePath,
+												 ZIP_ATTRIBS,
+												 theOptions);
+				}
+				catch (IllegalArgumentException e) {
+					// Zip file systems before Java 14 have no permissions.
+					throw noPermissions(thePath);
+				}
+				Object perms = attrs.get(PERMISSIONS);
+				if (!(perms instanceof Set)) {
+					throw noPermissions(thePath);
+				}
+				int type = Boolean.TRUE.equals(attrs.get("isDirectory")) ?
+									UnixFilePermission.DIRECTORY.getMask() :
+						   Boolean.TRUE.equals(attrs.get("isRegularFile")) ?
+									UnixFilePermission.REGULAR_FILE.getMask() :
+						   Boolean.TRUE.equals(attrs.get("isSymbolicLink")) ?
+									UnixFilePermission.SYMBOLIC_LINK.getMask() :
+									0;
+				@SuppressWarnings("unchecked")
+				Set<PosixFilePermission> posix =
+										(Set<PosixFilePermission>)perms;
+				return type | toMask(posix);
+			}
+
+			@Override
+			void setMode(Path thePath, int theMode)
+					throws IOException {
+				try {
+					Files.setAttribute(thePath, ZIP_PERMS_ATTRIB,
+									   toPosix(theMode));
+				}
+				catch (IllegalArgumentException e) {
+					throw noPermissions(thePath);
+				}
+			}
+		},
+
+		NONE {
+			@Override
+			int getMode(Path thePath, LinkOption... theOptions) {
+				throw unsupported(thePath);
+			}
+
+			@Override
+			void setMode(Path thePath, int theMode) {
+				throw unsupported(thePath);
+			}
+		};
+
+		abstract int getMode(Path thePath, LinkOption... theOptions)
+				throws IOException;
+
+		abstract void setMode(Path thePath, int theMode)
+				throws IOException;
+
+		/**
+		 * Chooses the cheapest backend supported by the file system supplied.
+		**/
+		static Backend of(FileSystem theFileSystem) {
+			Set<String> views = theFileSystem.supportedFileAttributeViews();
+			if (views.contains(UNIX_VIEW)) {
+				return UNIX;
+			}
+			if (views.contains(POSIX_VIEW)) {
+				return POSIX;
+			}
+			if (views.contains(ZIP_VIEW)) {
+				return ZIP;
+			}
+			return NONE;
+		}
+	}
+
 
 	// ************************************************************************\
 	// Static Variables                                                        *
 	// ************************************************************************/
 	
 	private static final String UNIX_VIEW = "unix";
+	private static final String POSIX_VIEW = "posix";
+	private static final String ZIP_VIEW = "zip";
 	private static final String UNIX_MODE_ATTRIB = "unix:mode";
+	private static final String PERMISSIONS = "permissions";
+	private static final String ZIP_PERMS_ATTRIB = "zip:permissions";
+	private static final String ZIP_ATTRIBS =
+					"zip:permissions,isDirectory,isRegularFile,isSymbolicLink";
+
+	private static final PosixFilePermission[] POSIX_PERMS =
+												PosixFilePermission.values();
+	private static final int[] POSIX_MASKS = new int[POSIX_PERMS.length];
+
+	static {
+		for (PosixFilePermission aPosixPerm: POSIX_PERMS) {
+			POSIX_MASKS[aPosixPerm.ordinal()] =
+					UnixFilePermission.valueOf(aPosixPerm.name()).getMask();
+		}
+	}
+
+	/**
+	 * The default file system is by far the most common, so its backend is
+	 * held directly to avoid the synchronized cache.
+	**/
+	private static final FileSystem DEFAULT_FS = FileSystems.getDefault();
+	private static final Backend DEFAULT_BACKEND = Backend.of(DEFAULT_FS);
+	private static final Map<FileSystem, Backend> BACKENDS =
+							Collections.synchronizedMap(new WeakHashMap<>());
 
 
 	// ************************************************************************\
@@ -89,7 +251,29 @@ public final class UnixFiles {
 		if (theFileSystem==null) {
             throw new NullPointerException("Can not accept a null file system");
         }
-		return theFileSystem.supportedFileAttributeViews().contains(UNIX_VIEW);
+		return backend(theFileSystem)==Backend.UNIX;
+	}
+
+
+	/**
+	 * Convenience method to determine whether the {@code FileSystem}
+	 * supplied has any file permissions available, whether through the
+	 * {@code unix}, {@code posix} or {@code zip} file attribute views. Where
+	 * this returns true but {@link #hasUnixFilePermissions(FileSystem)}
+	 * returns false, the setuid, setgid and sticky bits are not available.
+	 *
+	 * @param theFileSystem the file system.
+	 *
+	 * @return true if the file system supports file permissions, false
+	 *		   otherwise.
+	 *
+	 * @throws NullPointerException if the file system supplied is null.
+	**/
+	public static boolean hasFilePermissions(FileSystem theFileSystem) {
+		if (theFileSystem==null) {
+            throw new NullPointerException("Can not accept a null file system");
+        }
+		return backend(theFileSystem)!=Backend.NONE;
 	}
 	
 	
@@ -97,8 +281,8 @@ public final class UnixFiles {
 	 * <p>Returns a file's UNIX file permissions.</p>
 	 * 
 	 * <p>The path supplied must be associated with a {@code FileSystem} that
-	 * supports the {@code UnixFileAttributeView} which can be checked with
-	 * a call to {@link #hasUnixFilePermissions(FileSystem)}.</p>
+	 * supports file permissions, which can be checked with a call to
+	 * {@link #hasFilePermissions(FileSystem)}.</p>
 	 * 
 	 * <p>The options array may be used to indicate how symbolic links are 
 	 * handled for the case that the file is a symbolic link. By default, 
@@ -119,42 +303,51 @@ public final class UnixFiles {
 	 *			or which denies read access to the file via a call to 
 	 *			{@link SecurityManager#checkRead(String) checkRead}.					 
 	 * @throws UnsupportedOperationException if the associated file system does
-	 *									     not support the 
-	 *										 {@code UnixFileAttributeView}.
+	 *									     not support file permissions.
 	**/
 	public static Set<UnixFilePermission> getUnixFilePermissions(
 													Path thePath,
 													LinkOption... theOptions) 
 			throws IOException {
+		return UnixFilePermissions.fromMask(getUnixMode(thePath, theOptions));
+	}
+	
+	
+	/**
+	 * <p>Returns a file's UNIX mode as an integer, for example 0100644 for a 
+	 * regular file with rw-r--r-- permissions. This is the equivalent of 
+	 * {@link #getUnixFilePermissions(Path, LinkOption...)} without the
+	 * conversion into a set of permissions.</p>
+	 * 
+	 * <p>The path supplied must be associated with a {@code FileSystem} that
+	 * supports file permissions, which can be checked with a call to
+	 * {@link #hasFilePermissions(FileSystem)}.</p>
+	 * 
+	 * @param thePath the path to get the UNIX mode for.
+	 * @param theOptions options indicating how symbolic links are handled.
+	 * 
+	 * @return the mode.
+	 * 
+	 * @throws IOException if an I/O error occurs.
+	 * @throws NullPointerException if the path supplied is null.
+	 * @throws SecurityException if a default security manager is installed
+	 *			which either denies 
+	 *			{@link RuntimePermission}("accessUserInformation")
+	 *			or which denies read access to the file via a call to 
+	 *			{@link SecurityManager#checkRead(String) checkRead}.					 
+	 * @throws UnsupportedOperationException if the associated file system does
+	 *									     not support file permissions.
+	**/
+	public static int getUnixMode(Path thePath, LinkOption... theOptions) 
+			throws IOException {
 		// Check for null first.
 		if (thePath==null) { 
             throw new NullPointerException("Can not accept a null path");
-        }
-		// Check the file system allows us to get unix file attributes.
-		FileSystem fs = thePath.getFileSystem();
-        if (!fs.supportedFileAttributeViews().contains(UNIX_VIEW)) {
-            throw new UnsupportedOperationException(
-                        "Can not accept path from file system '" + fs + 
-                        "' as it does not support 'unix' file attribute " +
-                        "view");
         }
 		// Check the security manager.
-		SecurityManager sm = System.getSecurityManager();
-		if (sm!=null) {
-			sm.checkPermission(new RuntimePermission("accessUserInformation"));
-		}
-		// Attempt to get the file attribute.
-		Object obj = java.nio.file.Files.getAttribute(thePath, 
-													  UNIX_MODE_ATTRIB, 
-													  theOptions);
-		// If null, throw UOE.
-		if (obj==null) {
-			throw new UnsupportedOperationException( 
-						"Can not accept path '" + thePath + "' as it does " +
-						"not have UNIX file permissions available");
-		}
-		// Convert to actual unix permissions and return.
-		return UnixFilePermissions.parseMode(obj.toString(), 10);
+		checkSecurity();
+		// Read the mode through whichever view the file system supports.
+		return backend(thePath.getFileSystem()).getMode(thePath, theOptions);
 	}
 	
 	
@@ -162,8 +355,8 @@ public final class UnixFiles {
 	 * <p>Sets a file's UNIX file permissions.</p>
 	 * 
 	 * <p>The path supplied must be associated with a {@code FileSystem} that
-	 * supports the {@code UnixFileAttributeView} which can be checked with
-	 * a call to {@link #hasUnixFilePermissions(FileSystem)}.</p>
+	 * supports file permissions, which can be checked with a call to
+	 * {@link #hasFilePermissions(FileSystem)}.</p>
 	 * 
 	 * @param thePath the path to get the UNIX file permissions for.
 	 * @param thePerms the new set of permissions.
@@ -179,47 +372,360 @@ public final class UnixFiles {
 	 *			or which denies write access to the file via a call to 
 	 *			{@link SecurityManager#checkWrite(String) checkWrite}.					 
 	 * @throws UnsupportedOperationException if the associated file system does
-	 *									     not support the 
-	 *										 {@code UnixFileAttributeView}.
+	 *									     not support file permissions.
 	**/
 	public static Path setUnixFilePermissions(Path thePath, 
 											  Set<UnixFilePermission> thePerms)
 			throws IOException {
+		if (thePerms==null) {
+            throw new NullPointerException("Can not accept null permissions");
+        }
+		return setUnixMode(thePath, UnixFilePermissions.toMask(thePerms));
+	}
+	
+	
+	/**
+	 * <p>Sets a file's UNIX mode from an integer. This is the equivalent of 
+	 * {@link #setUnixFilePermissions(Path, Set)} without the conversion from 
+	 * a set of permissions.</p>
+	 * 
+	 * <p>The path supplied must be associated with a {@code FileSystem} that
+	 * supports file permissions, which can be checked with a call to
+	 * {@link #hasFilePermissions(FileSystem)}.</p>
+	 * 
+	 * @param thePath the path to set the UNIX mode for.
+	 * @param theMode the new mode.
+	 * 
+	 * @return the path (additional operations).
+	 * 
+	 * @throws IOException if an I/O error occurs.
+	 * @throws NullPointerException if the path supplied is null.
+	 * @throws SecurityException if a default security manager is installed
+	 *			which either denies 
+	 *			{@link RuntimePermission}("accessUserInformation")
+	 *			or which denies write access to the file via a call to 
+	 *			{@link SecurityManager#checkWrite(String) checkWrite}.					 
+	 * @throws UnsupportedOperationException if the associated file system does
+	 *									     not support file permissions.
+	**/
+	public static Path setUnixMode(Path thePath, int theMode)
+			throws IOException {
 		// Check for null first.
 		if (thePath==null) { 
             throw new NullPointerException("Can not accept a null path");
         }
-		if (thePerms==null) {
-            throw new NullPointerException("Can not accept null permissions");
+		// Check the security manager.
+		checkSecurity();
+		// Write the mode through whichever view the file system supports.
+		backend(thePath.getFileSystem()).setMode(thePath, theMode);
+		// Return the path to match the functionality of 
+		// Files.setPosixFilePermissions()
+		return thePath;
+	}
+	
+	
+	/**
+	 * <p>Asynchronously returns a file's UNIX mode, as for 
+	 * {@link #getUnixMode(Path, LinkOption...)}.</p>
+	 * 
+	 * <p>The operation runs on a shared executor: virtual threads when running
+	 * on Java 21 or later, otherwise a bounded pool of daemon threads. Any
+	 * exception thrown by the operation, including {@link IOException},
+	 * completes the future exceptionally.</p>
+	 * 
+	 * @param thePath the path to get the UNIX mode for.
+	 * @param theOptions options indicating how symbolic links are handled.
+	 * 
+	 * @return a future holding the mode.
+	 * 
+	 * @throws NullPointerException if the path supplied is null.
+	 * @throws SecurityException if a default security manager is installed
+	 *			which denies {@link RuntimePermission}("accessUserInformation").
+	**/
+	public static CompletableFuture<Integer> getUnixModeAsync(
+													Path thePath,
+													LinkOption... theOptions) {
+		if (thePath==null) {
+            throw new NullPointerException("Can not accept a null path");
+        }
+		checkSecurity();
+		Backend backend = backend(thePath.getFileSystem());
+		CompletableFuture<Integer> future = new CompletableFuture<>();
+		BulkExecutors.executor().execute(() -> {
+			try {
+				future.complete(backend.getMode(thePath, theOptions));
+			}
+			catch (Throwable t) {
+				future.completeExceptionally(t);
+			}
+		});
+		return future;
+	}
+	
+	
+	/**
+	 * <p>Asynchronously sets a file's UNIX mode, as for 
+	 * {@link #setUnixMode(Path, int)}.</p>
+	 * 
+	 * <p>The operation runs on a shared executor: virtual threads when running
+	 * on Java 21 or later, otherwise a bounded pool of daemon threads. Any
+	 * exception thrown by the operation, including {@link IOException},
+	 * completes the future exceptionally.</p>
+	 * 
+	 * @param thePath the path to set the UNIX mode for.
+	 * @param theMode the new mode.
+	 * 
+	 * @return a future holding the path once the mode has been set.
+	 * 
+	 * @throws NullPointerException if the path supplied is null.
+	 * @throws SecurityException if a default security manager is installed
+	 *			which denies {@link RuntimePermission}("accessUserInformation").
+	**/
+	public static CompletableFuture<Path> setUnixModeAsync(Path thePath, 
+														   int theMode) {
+		if (thePath==null) {
+            throw new NullPointerException("Can not accept a null path");
         }
-		// Check the file system allows us to get unix file attributes.
-		FileSystem fs = thePath.getFileSystem();
-        if (!fs.supportedFileAttributeViews().contains(UNIX_VIEW)) {
-            throw new UnsupportedOperationException(
-                        "Can not accept path from file system '" + fs + 
-                        "' as it does not support 'unix' file attribute " +
-                        "view");
+		checkSecurity();
+		Backend backend = backend(thePath.getFileSystem());
+		CompletableFuture<Path> future = new CompletableFuture<>();
+		BulkExecutors.executor().execute(() -> {
+			try {
+				backend.setMode(thePath, theMode);
+				future.complete(thePath);
+			}
+			catch (Throwable t) {
+				future.completeExceptionally(t);
+			}
+		});
+		return future;
+	}
+	
+	
+	/**
+	 * Returns the UNIX modes of all of the paths supplied, reading them
+	 * concurrently with {@link #getUnixModeAsync(Path, LinkOption...)}, a
+	 * bounded number at a time.
+	 * 
+	 * @param thePaths the paths to get the UNIX modes for.
+	 * @param theOptions options indicating how symbolic links are handled.
+	 * 
+	 * @return the modes, keyed by path in the iteration order of the paths 
+	 *		   supplied.
+	 * 
+	 * @throws IOException if an I/O error occurs for any path, in which case
+	 *					   errors for other paths are suppressed by it.
+	 * @throws NullPointerException if the paths, or any path, supplied are 
+	 *								null.
+	 * @throws SecurityException if a default security manager is installed
+	 *			which either denies 
+	 *			{@link RuntimePermission}("accessUserInformation")
+	 *			or which denies read access to a file.
+	 * @throws UnsupportedOperationException if an associated file system does
+	 *									     not support file permissions.
+	**/
+	public static Map<Path, Integer> getUnixModes(Collection<Path> thePaths,
+												  LinkOption... theOptions)
+			throws IOException {
+		if (thePaths==null) {
+            throw new NullPointerException("Can not accept null paths");
         }
-		// Check the security manager.
-		SecurityManager sm = System.getSecurityManager();
-		if (sm!=null) {
-			sm.checkPermission(new RuntimePermission("accessUserInformation"));
+		int window = BulkExecutors.window();
+		Deque<Map.Entry<Path, CompletableFuture<Integer>>> pending =
+													new ArrayDeque<>(window);
+		Map<Path, Integer> modes = new LinkedHashMap<>(thePaths.size() * 2);
+		Throwable failure = null;
+		for (Path aPath: thePaths) {
+			if (pending.size()>=window) {
+				failure = awaitMode(pending.poll(), modes, failure);
+			}
+			pending.add(new AbstractMap.SimpleImmutableEntry<>(
+									aPath, getUnixModeAsync(aPath, theOptions)));
+		}
+		while (!pending.isEmpty()) {
+			failure = awaitMode(pending.poll(), modes, failure);
+		}
+		rethrow(failure);
+		return modes;
+	}
+	
+	
+	/**
+	 * Sets the UNIX modes of all of the paths supplied, writing them
+	 * concurrently with {@link #setUnixModeAsync(Path, int)}, a bounded number
+	 * at a time.
+	 * 
+	 * @param theModes the new modes, keyed by path.
+	 * 
+	 * @throws IOException if an I/O error occurs for any path, in which case
+	 *					   errors for other paths are suppressed by it.
+	 * @throws NullPointerException if the modes, or any path, supplied are
+	 *								null.
+	 * @throws SecurityException if a default security manager is installed
+	 *			which either denies 
+	 *			{@link RuntimePermission}("accessUserInformation")
+	 *			or which denies write access to a file.
+	 * @throws UnsupportedOperationException if an associated file system does
+	 *									     not support file permissions.
+	**/
+	public static void setUnixModes(Map<Path, Integer> theModes)
+			throws IOException {
+		if (theModes==null) {
+            throw new NullPointerException("Can not accept null modes");
+        }
+		int window = BulkExecutors.window();
+		Deque<CompletableFuture<Path>> pending = new ArrayDeque<>(window);
+		Throwable failure = null;
+		for (Map.Entry<Path, Integer> anEntry: theModes.entrySet()) {
+			if (pending.size()>=window) {
+				failure = awaitPath(pending.poll(), failure);
+			}
+			pending.add(setUnixModeAsync(anEntry.getKey(), 
+										 anEntry.getValue()));
+		}
+		while (!pending.isEmpty()) {
+			failure = awaitPath(pending.poll(), failure);
+		}
+		rethrow(failure);
+	}
+	
+	
+	/**
+	 * Waits for the mode of a bulk read, adding it to the modes supplied or
+	 * its failure to the failure supplied.
+	**/
+	private static Throwable awaitMode(
+							Map.Entry<Path, CompletableFuture<Integer>> theEntry,
+							Map<Path, Integer> theModes,
+							Throwable theFailure) {
+		try {
+			theModes.put(theEntry.getKey(), await(theEntry.getValue()));
+			return theFailure;
+		}
+		catch (Throwable t) {
+			return addFailure(theFailure, t);
+		}
+	}
+	
+	
+	private static Throwable awaitPath(CompletableFuture<Path> theFuture,
+									   Throwable theFailure) {
+		try {
+			await(theFuture);
+			return theFailure;
+		}
+		catch (Throwable t) {
+			return addFailure(theFailure, t);
+		}
+	}
+	
+	
+	private static <T> T await(CompletableFuture<T> theFuture)
+			throws Throwable {
+		try {
+			return theFuture.join();
+		}
+		catch (CompletionException e) {
+			throw e.getCause()==null ? e : e.getCause();
+		}
+	}
+	
+	
+	private static Throwable addFailure(Throwable theFailure, 
+										Throwable theNext) {
+		if (theFailure==null) {
+			return theNext;
+		}
+		theFailure.addSuppressed(theNext);
+		return theFailure;
+	}
+	
+	
+	private static void rethrow(Throwable theFailure)
+			throws IOException {
+		if (theFailure==null) {
+			return;
+		}
+		if (theFailure instanceof IOException) {
+			throw (IOException)theFailure;
+		}
+		if (theFailure instanceof RuntimeException) {
+			throw (RuntimeException)theFailure;
+		}
+		if (theFailure instanceof Error) {
+			throw (Error)theFailure;
+		}
+		throw new IOException(theFailure);
+	}
+	
+	
+	private static Backend backend(FileSystem theFileSystem) {
+		if (theFileSystem==DEFAULT_FS) {
+			return DEFAULT_BACKEND;
+		}
+		Backend backend = BACKENDS.get(theFileSystem);
+		if (backend==null) {
+			backend = Backend.of(theFileSystem);
+			BACKENDS.put(theFileSystem, backend);
+		}
+		return backend;
+	}
+
+
+	private static int fileType(BasicFileAttributes theAttrs) {
+		if (theAttrs.isRegularFile()) {
+			return UnixFilePermission.REGULAR_FILE.getMask();
+		}
+		if (theAttrs.isDirectory()) {
+			return UnixFilePermission.DIRECTORY.getMask();
+		}
+		if (theAttrs.isSymbolicLink()) {
+			return UnixFilePermission.SYMBOLIC_LINK.getMask();
+		}
+		return 0;
+	}
+
+
+	private static int toMask(Set<PosixFilePermission> thePerms) {
+		int mask = 0;
+		for (PosixFilePermission aPosixPerm: thePerms) {
+			mask |= POSIX_MASKS[aPosixPerm.ordinal()];
 		}
-		// Attempt to get the file attribute.
-		Object obj = Files.getAttribute(thePath, UNIX_MODE_ATTRIB);
-		// If null, throw UOE.
-		if (obj==null) {
-			throw new UnsupportedOperationException( 
+		return mask;
+	}
+
+
+	private static Set<PosixFilePermission> toPosix(int theMode) {
+		Set<PosixFilePermission> posix =
+								EnumSet.noneOf(PosixFilePermission.class);
+		for (PosixFilePermission aPosixPerm: POSIX_PERMS) {
+			if ((theMode & POSIX_MASKS[aPosixPerm.ordinal()])!=0) {
+				posix.add(aPosixPerm);
+			}
+		}
+		return posix;
+	}
+
+
+	private static UnsupportedOperationException noPermissions(Path thePath) {
+		return new UnsupportedOperationException(
 						"Can not accept path '" + thePath + "' as it does " +
 						"not have UNIX file permissions available");
+	}
+
+
+	private static UnsupportedOperationException unsupported(Path thePath) {
+		return new UnsupportedOperationException(
+						"Can not accept path from file system '" +
+						thePath.getFileSystem() + "' as it does not support " +
+						"'unix', 'posix' or 'zip' file attribute views");
+	}
+	
+	
+	private static void checkSecurity() {
+		SecurityManager sm = System.getSecurityManager();
+		if (sm!=null) {
+			sm.checkPermission(new RuntimePermission("accessUserInformation"));
 		}
-		// Otherwise, we know the mode is available, so set it.
-		java.nio.file.Files.setAttribute(
-					thePath, 
-					UNIX_MODE_ATTRIB,
-					Integer.valueOf(UnixFilePermissions.toMode(thePerms, 10)));
-		// Return the path to match the functionality of 
-		// Files.setPosixFilePermissions()
-		return thePath;
 	}
 }
@@ -0,0 +1,408 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.unixpermissions;
+
+
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+
+
+/**
+ * <p>Utility class for parsing UNIX modes directly from bytes, for example the
+ * output of {@code find -printf '%m %u %g %p\n'} held in a memory-mapped file.
+ * </p>
+ *
+ * <p>Unlike {@link UnixFilePermissions#parseMode(String, int)} no strings are
+ * created; modes are parsed into integer masks which can be converted into
+ * permissions with {@link UnixFilePermissions#fromMask(int)} if required.
+ * Listings can be split on line boundaries with
+ * {@link #split(ByteBuffer, int)} or {@link #map(Path, int)} so that each
+ * part may be parsed on a separate thread.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class UnixModeParser {
+
+
+	// ************************************************************************\
+	// Enums                                                                   *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	private static final long MAX_REGION = Integer.MAX_VALUE;
+	private static final int MAX_MODE =
+			UnixFilePermissions.FILE_TYPE_MASK |
+			UnixFilePermissions.PERMISSION_MASK;
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private UnixModeParser() {}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Protected Methods                                                       *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+	/**
+	 * Handler for a single line of a mode listing. The line is not copied;
+	 * the handler is given the buffer along with the absolute positions of
+	 * the remainder of the line following the mode field, and must not
+	 * modify the buffer's position or limit.
+	**/
+	@FunctionalInterface
+	public interface ModeHandler {
+		public void handle(int theMode,
+						   ByteBuffer theBuffer,
+						   int theRestStart,
+						   int theLineEnd);
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Parses the mode held between the absolute positions supplied in the
+	 * radix supplied. Valid radix are 2, 8, 10 and 16, matching
+	 * {@link UnixFilePermissions#toMode(Set, int)}. The buffer's position and
+	 * limit are not modified.
+	 *
+	 * @param theBuffer the buffer holding the mode.
+	 * @param theStart the absolute position of the first digit.
+	 * @param theEnd the absolute position following the last digit.
+	 * @param theRadix the radix. Must be one of 2, 8, 10 or 16.
+	 *
+	 * @return the mode.
+	 *
+	 * @throws NullPointerException if the buffer supplied is null.
+	 * @throws IllegalArgumentException if the mode can not be parsed.
+	 * @throws UnsupportedOperationException if the radix is not supported.
+	**/
+	public static int parseMode(ByteBuffer theBuffer,
+								int theStart,
+								int theEnd,
+								int theRadix) {
+		if (theBuffer==null) {
+            throw new NullPointerException("Can not accept a null buffer");
+        }
+		checkRadix(theRadix);
+		if (theStart>=theEnd) {
+			throw new IllegalArgumentException(
+						"Can not parse an empty mode at position " + theStart);
+		}
+
+		int mode = 0;
+		for (int i = theStart; i<theEnd; i++) {
+			int digit = digit(theBuffer.get(i), theRadix);
+			if (digit<0) {
+				throw new IllegalArgumentException(
+							"Can not parse mode at position " + theStart +
+							" as byte " + (theBuffer.get(i) & 0xff) +
+							" is not a radix " + theRadix + " digit");
+			}
+			mode = mode * theRadix + digit;
+			if (mode>MAX_MODE) {
+				throw new IllegalArgumentException(
+							"Can not parse mode at position " + theStart +
+							" as it is out of range");
+			}
+		}
+		return mode;
+	}
+
+
+	/**
+	 * Parses the leading mode field of each line between the buffer's position
+	 * and limit, supplying each mode to the consumer. Leading whitespace on
+	 * each line is skipped and empty lines are ignored. The buffer's position
+	 * is advanced to its limit.
+	 *
+	 * @param theBuffer the buffer holding the listing.
+	 * @param theRadix the radix of the modes. Must be one of 2, 8, 10 or 16.
+	 * @param theConsumer the consumer of the modes.
+	 *
+	 * @return the number of modes parsed.
+	 *
+	 * @throws NullPointerException if the buffer or consumer supplied is null.
+	 * @throws IllegalArgumentException if a mode can not be parsed.
+	 * @throws UnsupportedOperationException if the radix is not supported.
+	**/
+	public static long forEachMode(ByteBuffer theBuffer,
+								   int theRadix,
+								   IntConsumer theConsumer) {
+		if (theConsumer==null) {
+            throw new NullPointerException("Can not accept a null consumer");
+        }
+		return forEachLine(theBuffer,
+						   theRadix,
+						   (theMode, theLine, theRestStart, theLineEnd) ->
+								theConsumer.accept(theMode));
+	}
+
+
+	/**
+	 * Parses the leading mode field of each line between the buffer's position
+	 * and limit, supplying each mode to the handler along with the location
+	 * of the rest of the line. Leading whitespace on each line and the
+	 * whitespace following the mode are skipped, and empty lines are ignored.
+	 * The buffer's position is advanced to its limit.
+	 *
+	 * @param theBuffer the buffer holding the listing.
+	 * @param theRadix the radix of the modes. Must be one of 2, 8, 10 or 16.
+	 * @param theHandler the handler for each line.
+	 *
+	 * @return the number of lines handled.
+	 *
+	 * @throws NullPointerException if the buffer or handler supplied is null.
+	 * @throws IllegalArgumentException if a mode can not be parsed.
+	 * @throws UnsupportedOperationException if the radix is not supported.
+	**/
+	public static long forEachLine(ByteBuffer theBuffer,
+								   int theRadix,
+								   ModeHandler theHandler) {
+		if (theBuffer==null) {
+            throw new NullPointerException("Can not accept a null buffer");
+        }
+		if (theHandler==null) {
+            throw new NullPointerException("Can not accept a null handler");
+        }
+		checkRadix(theRadix);
+
+		long lines = 0;
+		int limit = theBuffer.limit();
+		int pos = theBuffer.position();
+		while (pos<limit) {
+			// Skip leading whitespace, including blank lines.
+			while (pos<limit && isWhitespace(theBuffer.get(pos))) {
+				pos++;
+			}
+			if (pos==limit) {
+				break;
+			}
+			// Parse the mode up to the next whitespace.
+			int modeStart = pos;
+			int mode = 0;
+			byte b;
+			while (pos<limit && !isWhitespace(b = theBuffer.get(pos))) {
+				int digit = digit(b, theRadix);
+				if (digit<0) {
+					throw new IllegalArgumentException(
+								"Can not parse mode at position " + modeStart +
+								" as byte " + (b & 0xff) + " is not a radix " +
+								theRadix + " digit");
+				}
+				mode = mode * theRadix + digit;
+				if (mode>MAX_MODE) {
+					throw new IllegalArgumentException(
+								"Can not parse mode at position " + modeStart +
+								" as it is out of range");
+				}
+				pos++;
+			}
+			// Skip the separator, stopping at the end of the line.
+			while (pos<limit && (b = theBuffer.get(pos))!='\n' &&
+				   isWhitespace(b)) {
+				pos++;
+			}
+			int restStart = pos;
+			while (pos<limit && theBuffer.get(pos)!='\n') {
+				pos++;
+			}
+			int lineEnd = pos;
+			if (lineEnd>restStart && theBuffer.get(lineEnd - 1)=='\r') {
+				lineEnd--;
+			}
+			theHandler.handle(mode, theBuffer, restStart, lineEnd);
+			lines++;
+		}
+		theBuffer.position(limit);
+		return lines;
+	}
+
+
+	/**
+	 * Splits the bytes between the buffer's position and limit into at most
+	 * the number of parts supplied, with each part ending on a line boundary.
+	 * The parts share the buffer's content and may be parsed concurrently.
+	 * The buffer's position and limit are not modified.
+	 *
+	 * @param theBuffer the buffer holding the listing.
+	 * @param theParts the maximum number of parts.
+	 *
+	 * @return the parts, in order.
+	 *
+	 * @throws NullPointerException if the buffer supplied is null.
+	 * @throws IllegalArgumentException if the number of parts is less than 1.
+	**/
+	public static List<ByteBuffer> split(ByteBuffer theBuffer, int theParts) {
+		if (theBuffer==null) {
+            throw new NullPointerException("Can not accept a null buffer");
+        }
+		if (theParts<1) {
+			throw new IllegalArgumentException(
+							"Can not split into " + theParts + " parts");
+		}
+
+		List<ByteBuffer> parts = new ArrayList<>(theParts);
+		int limit = theBuffer.limit();
+		int start = theBuffer.position();
+		int size = limit - start;
+		for (int i = 1; i<=theParts && start<limit; i++) {
+			int end = i==theParts ?
+					limit :
+					theBuffer.position() + (int)((long)size * i / theParts);
+			// Move the end forward to just past the next new line.
+			end = Math.max(end, start);
+			while (end<limit && (end==start || theBuffer.get(end - 1)!='\n')) {
+				end++;
+			}
+			parts.add(slice(theBuffer, start, end));
+			start = end;
+		}
+		return parts;
+	}
+
+
+	/**
+	 * Memory maps the file supplied read only and splits it into at least the
+	 * number of parts supplied, with each part ending on a line boundary.
+	 * Files larger than 2GB are mapped as several regions, so more parts than
+	 * requested may be returned. The parts may be parsed concurrently and
+	 * remain valid after the file channel is closed.
+	 *
+	 * @param thePath the path of the listing.
+	 * @param theParts the number of parts to split the file into.
+	 *
+	 * @return the parts, in order.
+	 *
+	 * @throws IOException if an I/O error occurs, or if a single line of the
+	 *					   file is longer than 2GB.
+	 * @throws NullPointerException if the path supplied is null.
+	 * @throws IllegalArgumentException if the number of parts is less than 1.
+	**/
+	public static List<ByteBuffer> map(Path thePath, int theParts)
+			throws IOException {
+		if (thePath==null) {
+            throw new NullPointerException("Can not accept a null path");
+        }
+		if (theParts<1) {
+			throw new IllegalArgumentException(
+							"Can not split into " + theParts + " parts");
+		}
+
+		List<ByteBuffer> parts = new ArrayList<>(theParts);
+		try (FileChannel channel =
+						FileChannel.open(thePath, StandardOpenOption.READ)) {
+			long size = channel.size();
+			long start = 0;
+			while (start<size) {
+				long length = Math.min(MAX_REGION, size - start);
+				MappedByteBuffer region = channel.map(
+									FileChannel.MapMode.READ_ONLY, start, length);
+				// Trim all but the last region back to its final new line.
+				int end = (int)length;
+				if (start + length<size) {
+					while (end>0 && region.get(end - 1)!='\n') {
+						end--;
+					}
+					if (end==0) {
+						throw new IOException(
+									"Can not split '" + thePath + "' as the " +
+									"line at offset " + start + " is too long");
+					}
+					region.limit(end);
+				}
+				int regionParts =
+						(int)Math.max(1, (long)theParts * end / Math.max(1, size));
+				parts.addAll(split(region, regionParts));
+				start += end;
+			}
+		}
+		return parts;
+	}
+
+
+	private static ByteBuffer slice(ByteBuffer theBuffer,
+									int theStart,
+									int theEnd) {
+		ByteBuffer dup = theBuffer.duplicate();
+		dup.limit(theEnd);
+		dup.position(theStart);
+		return dup.slice();
+	}
+
+
+	private static int digit(byte theByte, int theRadix) {
+		int digit;
+		if (theByte>='0' && theByte<='9') {
+			digit = theByte - '0';
+		}
+		else if (theByte>='a' && theByte<='f') {
+			digit = theByte - 'a' + 10;
+		}
+		else if (theByte>='A' && theByte<='F') {
+			digit = theByte - 'A' + 10;
+		}
+		else {
+			return -1;
+		}
+		return digit<theRadix ? digit : -1;
+	}
+
+
+	private static boolean isWhitespace(byte theByte) {
+		return theByte==' ' || theByte=='\t' || theByte=='\n' ||
+			   theByte=='\r';
+	}
+
+
+	private static void checkRadix(int theRadix) {
+		switch (theRadix) {
+			case 2:
+			case 8:
+			case 10:
+			case 16:
+				return;
+			default:
+				throw new UnsupportedOperationException(
+									"Radix " + theRadix + " is not supported");
+		}
+	}
+}
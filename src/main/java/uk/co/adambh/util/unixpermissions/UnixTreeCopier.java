@@ -0,0 +1,505 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.unixpermissions;
+
+
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+
+
+/**
+ * <p>Copies a file tree in parallel while preserving each file's full UNIX
+ * mode, including the setuid, setgid and sticky bits.</p>
+ *
+ * <p>File data is moved with {@link FileChannel#transferTo(long, long,
+ * WritableByteChannel)} so that the operating system may copy it without
+ * passing through the JVM. Each file and directory is created with its
+ * permission bits already applied. A separate change of mode is only made
+ * where the creation mode can not express the source mode, which is the case
+ * for the setuid, setgid and sticky bits and for any bits removed by the
+ * process umask. Directory modes are applied once the whole tree has been
+ * copied, so read only directories may still be populated.</p>
+ *
+ * <p>Symbolic links are copied as links. Other special files, such as FIFOs
+ * and devices, can not be created through {@link java.nio.file} and are
+ * skipped and counted in the report.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+public final class UnixTreeCopier {
+
+
+	// ************************************************************************\
+	// Enums                                                                   *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	private static final int ACCESS_MASK = 0777;
+	private static final int OWNER_RWX = 0700;
+	private static final int IN_FLIGHT_PER_THREAD = 64;
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+	private final int myThreads;
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	/**
+	 * Creates a tree copier which copies files on the number of threads
+	 * supplied.
+	 *
+	 * @param theThreads the number of threads to copy files on.
+	 *
+	 * @throws IllegalArgumentException if the number of threads is less than
+	 *									1.
+	**/
+	public UnixTreeCopier(int theThreads) {
+		if (theThreads<1) {
+			throw new IllegalArgumentException(
+							"Can not copy with " + theThreads + " threads");
+		}
+		this.myThreads = theThreads;
+	}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * <p>Copies the file tree rooted at the source to the target, which must
+	 * not already exist. Symbolic links within the tree are not followed.</p>
+	 *
+	 * <p>Both paths must be associated with a {@code FileSystem} that supports
+	 * the {@code UnixFileAttributeView}, which can be checked with a call to
+	 * {@link UnixFiles#hasUnixFilePermissions(FileSystem)}.</p>
+	 *
+	 * @param theSource the root of the tree to copy.
+	 * @param theTarget the path to copy the tree to.
+	 *
+	 * @return a report of what was copied and how quickly.
+	 *
+	 * @throws IOException if an I/O error occurs, or the copy is interrupted.
+	 * @throws FileAlreadyExistsException if the target already exists.
+	 * @throws NullPointerException if the source or target supplied is null.
+	 * @throws UnsupportedOperationException if either file system does not
+	 *										 support the
+	 *										 {@code UnixFileAttributeView}.
+	**/
+	public CopyReport copy(Path theSource, Path theTarget)
+			throws IOException {
+		if (theSource==null) {
+            throw new NullPointerException("Can not accept a null source");
+        }
+		if (theTarget==null) {
+            throw new NullPointerException("Can not accept a null target");
+        }
+		checkUnixView(theSource);
+		checkUnixView(theTarget);
+		if (Files.exists(theTarget, LinkOption.NOFOLLOW_LINKS)) {
+			throw new FileAlreadyExistsException(theTarget.toString());
+		}
+
+		long start = System.nanoTime();
+		Path parent = theTarget.toAbsolutePath().getParent();
+		Copy copy = new Copy(theSource,
+							 theTarget,
+							 parent==null ? ACCESS_MASK : creationMask(parent));
+		ExecutorService executor = Executors.newFixedThreadPool(
+													this.myThreads,
+													new CopyThreadFactory());
+		try {
+			copy.run(executor, this.myThreads * IN_FLIGHT_PER_THREAD);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		return new CopyReport(copy.myFiles.get(),
+							  copy.myDirectories,
+							  copy.myLinks,
+							  copy.mySkipped,
+							  copy.myBytes.get(),
+							  System.nanoTime() - start);
+	}
+
+
+	// ************************************************************************\
+	// Protected Methods                                                       *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+	/**
+	 * Summary of a completed tree copy.
+	**/
+	public static final class CopyReport {
+
+		private final long myFiles;
+		private final long myDirectories;
+		private final long myLinks;
+		private final long mySkipped;
+		private final long myBytes;
+		private final long myNanos;
+
+		private CopyReport(long theFiles,
+						   long theDirectories,
+						   long theLinks,
+						   long theSkipped,
+						   long theBytes,
+						   long theNanos) {
+			this.myFiles = theFiles;
+			this.myDirectories = theDirectories;
+			this.myLinks = theLinks;
+			this.mySkipped = theSkipped;
+			this.myBytes = theBytes;
+			this.myNanos = theNanos;
+		}
+
+		/**
+		 * Returns the number of regular files copied.
+		**/
+		public long getFiles() {
+			return this.myFiles;
+		}
+
+		/**
+		 * Returns the number of directories created, including the target.
+		**/
+		public long getDirectories() {
+			return this.myDirectories;
+		}
+
+		/**
+		 * Returns the number of symbolic links copied.
+		**/
+		public long getLinks() {
+			return this.myLinks;
+		}
+
+		/**
+		 * Returns the number of special files which could not be copied.
+		**/
+		public long getSkipped() {
+			return this.mySkipped;
+		}
+
+		/**
+		 * Returns the number of bytes of file data copied.
+		**/
+		public long getBytes() {
+			return this.myBytes;
+		}
+
+		/**
+		 * Returns the elapsed time of the copy in the unit supplied.
+		**/
+		public long getElapsed(TimeUnit theUnit) {
+			return theUnit.convert(this.myNanos, TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * Returns the rate at which file data was copied in bytes per second.
+		**/
+		public double getBytesPerSecond() {
+			return this.myNanos==0 ? 0 : this.myBytes * 1e9 / this.myNanos;
+		}
+
+		/**
+		 * Returns the rate at which regular files were copied per second.
+		**/
+		public double getFilesPerSecond() {
+			return this.myNanos==0 ? 0 : this.myFiles * 1e9 / this.myNanos;
+		}
+
+		@Override
+		public String toString() {
+			return String.format(
+						"Copied %d files, %d directories and %d links " +
+						"(%d bytes, %d skipped) in %d ms: %.1f MB/s, " +
+						"%.0f files/s",
+						this.myFiles,
+						this.myDirectories,
+						this.myLinks,
+						this.myBytes,
+						this.mySkipped,
+						getElapsed(TimeUnit.MILLISECONDS),
+						getBytesPerSecond() / (1024 * 1024),
+						getFilesPerSecond());
+		}
+	}
+
+
+	/**
+	 * The state of a single copy. The tree is walked on the calling thread,
+	 * which creates directories and links, while regular files are copied on
+	 * the executor.
+	**/
+	private static final class Copy extends SimpleFileVisitor<Path> {
+
+		private final Path mySource;
+		private final Path myTarget;
+		private final int myCreationMask;
+		private final AtomicLong myFiles = new AtomicLong();
+		private final AtomicLong myBytes = new AtomicLong();
+		private final Deque<DeferredMode> myDirectoryModes = new ArrayDeque<>();
+		private final Deque<Future<?>> myPending = new ArrayDeque<>();
+		private long myDirectories;
+		private long myLinks;
+		private long mySkipped;
+		private ExecutorService myExecutor;
+		private Semaphore myInFlight;
+
+		private Copy(Path theSource, Path theTarget, int theCreationMask) {
+			this.mySource = theSource;
+			this.myTarget = theTarget;
+			this.myCreationMask = theCreationMask;
+		}
+
+		private void run(ExecutorService theExecutor, int theMaxInFlight)
+				throws IOException {
+			this.myExecutor = theExecutor;
+			this.myInFlight = new Semaphore(theMaxInFlight);
+			Files.walkFileTree(this.mySource, this);
+			while (!this.myPending.isEmpty()) {
+				await(this.myPending.removeFirst());
+			}
+			// Deepest directories were created last, so apply their modes
+			// first.
+			while (!this.myDirectoryModes.isEmpty()) {
+				DeferredMode deferred = this.myDirectoryModes.removeLast();
+				UnixFiles.setUnixMode(deferred.myPath, deferred.myMode);
+			}
+		}
+
+		@Override
+		public FileVisitResult preVisitDirectory(Path theDir,
+												 BasicFileAttributes theAttrs)
+				throws IOException {
+			Path target = resolve(theDir);
+			int mode = mode(theDir);
+			// Create the directory writable by us so that it may be filled.
+			int created = (mode | OWNER_RWX) & ACCESS_MASK;
+			Files.createDirectory(target, attribute(created));
+			if ((created & this.myCreationMask)!=(mode & UnixFilePermissions
+													.PERMISSION_MASK)) {
+				this.myDirectoryModes.addLast(new DeferredMode(
+								target, mode & UnixFilePermissions
+													.PERMISSION_MASK));
+			}
+			this.myDirectories++;
+			return FileVisitResult.CONTINUE;
+		}
+
+		@Override
+		public FileVisitResult visitFile(Path theFile,
+										 BasicFileAttributes theAttrs)
+				throws IOException {
+			if (theAttrs.isSymbolicLink()) {
+				Files.createSymbolicLink(resolve(theFile),
+										 Files.readSymbolicLink(theFile));
+				this.myLinks++;
+			}
+			else if (theAttrs.isRegularFile()) {
+				submit(theFile, theAttrs.size());
+			}
+			else {
+				this.mySkipped++;
+			}
+			return FileVisitResult.CONTINUE;
+		}
+
+		private void submit(Path theFile, long theSize)
+				throws IOException {
+			// Drain completed copies so failures surface early and the queue
+			// of pending futures stays bounded.
+			while (!this.myPending.isEmpty() &&
+				   this.myPending.peekFirst().isDone()) {
+				await(this.myPending.removeFirst());
+			}
+			try {
+				this.myInFlight.acquire();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Copy interrupted");
+			}
+			Path target = resolve(theFile);
+			this.myPending.addLast(this.myExecutor.submit(() -> {
+				try {
+					copyFile(theFile, target, theSize);
+				}
+				finally {
+					this.myInFlight.release();
+				}
+				return null;
+			}));
+		}
+
+		private void copyFile(Path theSource, Path theTarget, long theSize)
+				throws IOException {
+			int mode = mode(theSource);
+			int access = mode & ACCESS_MASK;
+			try (FileChannel in = FileChannel.open(theSource,
+												   StandardOpenOption.READ);
+				 FileChannel out = FileChannel.open(
+									theTarget,
+									EnumSet.of(StandardOpenOption.CREATE_NEW,
+											   StandardOpenOption.WRITE),
+									attribute(access))) {
+				long position = 0;
+				while (position<theSize) {
+					long count = in.transferTo(position,
+											   theSize - position,
+											   out);
+					if (count<=0) {
+						// The source has shrunk since it was listed.
+						break;
+					}
+					position += count;
+				}
+				this.myBytes.addAndGet(position);
+			}
+			// Special bits and bits removed by the umask need a change of
+			// mode, which must follow the data as writes clear setuid/setgid.
+			if ((access & this.myCreationMask)!=(mode & UnixFilePermissions
+													.PERMISSION_MASK)) {
+				UnixFiles.setUnixMode(theTarget,
+									  mode & UnixFilePermissions
+													.PERMISSION_MASK);
+			}
+			this.myFiles.incrementAndGet();
+		}
+
+		private Path resolve(Path theSourcePath) {
+			return this.myTarget.resolve(
+						this.mySource.relativize(theSourcePath).toString());
+		}
+
+		private static void await(Future<?> theFuture)
+				throws IOException {
+			try {
+				theFuture.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Copy interrupted");
+			}
+			catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof IOException) {
+					throw (IOException)cause;
+				}
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException)cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error)cause;
+				}
+				throw new IOException(cause);
+			}
+		}
+	}
+
+
+	private static final class DeferredMode {
+
+		private final Path myPath;
+		private final int myMode;
+
+		private DeferredMode(Path thePath, int theMode) {
+			this.myPath = thePath;
+			this.myMode = theMode;
+		}
+	}
+
+
+	private static final class CopyThreadFactory implements ThreadFactory {
+
+		private static final AtomicInteger COUNT = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable theRunnable) {
+			Thread thread = new Thread(theRunnable,
+									   "unix-tree-copy-" +
+											COUNT.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	private static int mode(Path thePath)
+			throws IOException {
+		return UnixFiles.getUnixMode(thePath, LinkOption.NOFOLLOW_LINKS);
+	}
+
+
+	private static FileAttribute<Set<PosixFilePermission>> attribute(
+																int theMode) {
+		return PosixFilePermissions.asFileAttribute(
+					UnixFilePermissions.toPosix(
+								UnixFilePermissions.fromMask(theMode)));
+	}
+
+
+	/**
+	 * Determines which permission bits survive file creation in the directory
+	 * supplied, i.e. the complement of the process umask, by creating and
+	 * removing a probe file.
+	**/
+	private static int creationMask(Path theDir)
+			throws IOException {
+		Path probe = Files.createTempFile(theDir,
+										  ".umask",
+										  null,
+										  attribute(ACCESS_MASK));
+		try {
+			return UnixFiles.getUnixMode(probe) & ACCESS_MASK;
+		}
+		finally {
+			Files.delete(probe);
+		}
+	}
+
+
+	private static void checkUnixView(Path thePath) {
+		if (!UnixFiles.hasUnixFilePermissions(thePath.getFileSystem())) {
+			throw new UnsupportedOperationException(
+						"Can not accept path from file system '" +
+						thePath.getFileSystem() + "' as it does not support " +
+						"'unix' file attribute view");
+		}
+	}
+}
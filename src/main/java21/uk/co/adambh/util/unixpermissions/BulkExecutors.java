@@ -0,0 +1,107 @@
+/**
+ * Do whatever you want with this.
+ *
+ * @created: 19/10/2026
+**/
+package uk.co.adambh.util.unixpermissions;
+
+
+
+import java.util.concurrent.*;
+
+
+
+/**
+ * <p>Provides the executor used by the bulk and asynchronous operations in
+ * {@link UnixFiles}.</p>
+ *
+ * <p>This version, used on Java 21 and later through the multi-release jar,
+ * runs each operation on its own virtual thread, so a blocked metadata call
+ * does not hold a platform thread and tens of thousands of operations may be
+ * in flight at once. Bulk operations still keep no more than a window of
+ * operations in flight, 4096 unless set with the
+ * {@code uk.co.adambh.util.unixpermissions.threads} system property, so that
+ * a large bulk operation does not hold a future for every path at once.</p>
+ *
+ * @author Adam Bromage-Hughes <thehollyhopdrive@gmail.com>
+**/
+final class BulkExecutors {
+
+
+	// ************************************************************************\
+	// Enums                                                                   *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Static Variables                                                        *
+	// ************************************************************************/
+
+	private static final String THREADS_PROPERTY =
+									"uk.co.adambh.util.unixpermissions.threads";
+
+	private static final int WINDOW = Integer.getInteger(THREADS_PROPERTY, 4096);
+
+
+	// ************************************************************************\
+	// Instance Variables                                                      *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Constructors                                                            *
+	// ************************************************************************/
+
+	private BulkExecutors() {}
+
+
+	// ************************************************************************\
+	// Public Methods                                                          *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Protected Methods                                                       *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Private Methods                                                         *
+	// ************************************************************************/
+
+
+	// ************************************************************************\
+	// Inner Classes                                                           *
+	// ************************************************************************/
+
+	/**
+	 * Holder so the executor is only created on first use.
+	**/
+	private static final class Holder {
+
+		private static final ExecutorService EXECUTOR =
+						Executors.newThreadPerTaskExecutor(
+							Thread.ofVirtual().name("unix-files-", 1).factory());
+	}
+
+
+	// ************************************************************************\
+	// Static Methods                                                          *
+	// ************************************************************************/
+
+	/**
+	 * Returns the executor for bulk and asynchronous operations.
+	**/
+	static Executor executor() {
+		return Holder.EXECUTOR;
+	}
+
+
+	/**
+	 * Returns the most operations a bulk operation should have in flight at
+	 * once.
+	**/
+	static int window() {
+		return WINDOW;
+	}
+}